@@ -0,0 +1,311 @@
+package ua.training.game.build;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Generates resource classes from the properties files of a bundle
+ * at build time, so the game reads dialog values from constants
+ * instead of loading and parsing the files on startup.
+ * Every file {@code <base>[_<locale>].properties} becomes class
+ * {@code <Prefix>[_<locale>]} with array of values, a value missing
+ * in a locale is taken from its parent file like resource bundles do.
+ * Values are ordered by the key index file, it lists keys one per line
+ * in the order of the dialog enum constants, blank lines and lines
+ * starting with {@code #} are skipped. Keys that the index doesn't
+ * have follow in alphabetical order.
+ * Index class {@code Generated<Prefix>} holds the keys and finds
+ * values of a locale. Files are written only when they change.
+ * The generator runs on the build JDK, it is not part of the game.
+ * Arguments: resources directory, bundle base name, key index file,
+ * output directory, package of the classes, class prefix.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class ResourceClassGenerator {
+
+    /**
+     * Suffix of the properties files.
+     */
+    private static final String PROPERTIES = ".properties";
+
+    /**
+     * Start of the comment line in the key index file.
+     */
+    private static final String COMMENT = "#";
+
+    /**
+     * Hidden constructor.
+     */
+    private ResourceClassGenerator() {
+    }
+
+    /**
+     * Generates classes.
+     * @param args resources directory, bundle base name, key index file,
+     *             output directory, package, class prefix.
+     * @throws IOException if files can't be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 6) {
+            throw new IllegalArgumentException("Usage: ResourceClassGenerator <resources> <baseName> "
+                    + "<keyIndex> <outputDir> <package> <classPrefix>");
+        }
+        Path resources = Paths.get(args[0]);
+        String baseName = args[1];
+        List<String> indexedKeys = readKeyIndex(Paths.get(args[2]));
+        String packageName = args[4];
+        String prefix = args[5];
+        Path output = Paths.get(args[3]).resolve(packageName.replace('.', '/'));
+
+        Map<String, Properties> bundles = readBundles(resources, baseName);
+        if (!bundles.containsKey("")) {
+            throw new IllegalStateException("There is no base file " + baseName + PROPERTIES + " in " + resources);
+        }
+        List<String> keys = orderKeys(bundles, indexedKeys);
+
+        Files.createDirectories(output);
+        for (String locale : bundles.keySet()) {
+            String className = locale.isEmpty() ? prefix : prefix + "_" + locale;
+            String source = localeClass(packageName, className, baseName, locale, keys, bundles);
+            write(output.resolve(className + ".java"), source);
+        }
+        write(output.resolve("Generated" + prefix + ".java"),
+                indexClass(packageName, prefix, baseName, keys, bundles.keySet()));
+    }
+
+    /**
+     * Reads keys of the index file.
+     * @param index key index file.
+     * @return keys in index order.
+     * @throws IOException if the file can't be read.
+     */
+    static List<String> readKeyIndex(Path index) throws IOException {
+        List<String> keys = new ArrayList<>();
+        for (String line : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+            String key = line.trim();
+            if (key.isEmpty() || key.startsWith(COMMENT)) {
+                continue;
+            }
+            if (keys.contains(key)) {
+                throw new IllegalStateException("Key " + key + " is repeated in " + index);
+            }
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    /**
+     * Reads properties files of the bundle.
+     * @param resources resources directory.
+     * @param baseName bundle base name.
+     * @return properties by locale suffix, empty suffix for the base file.
+     * @throws IOException if a file can't be read.
+     */
+    private static Map<String, Properties> readBundles(Path resources, String baseName) throws IOException {
+        Map<String, Properties> bundles = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(resources, baseName + "*" + PROPERTIES)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String locale = name.substring(baseName.length(), name.length() - PROPERTIES.length());
+                if (!locale.isEmpty() && !locale.startsWith("_")) {
+                    continue;
+                }
+                Properties properties = new Properties();
+                try (InputStream in = Files.newInputStream(file)) {
+                    properties.load(in);
+                }
+                bundles.put(locale.isEmpty() ? "" : locale.substring(1), properties);
+            }
+        }
+        return bundles;
+    }
+
+    /**
+     * Orders keys of all files by the key index.
+     * @param bundles properties by locale.
+     * @param indexedKeys keys of the index file in its order.
+     * @return ordered keys.
+     */
+    private static List<String> orderKeys(Map<String, Properties> bundles, List<String> indexedKeys) {
+        TreeMap<String, Boolean> others = new TreeMap<>();
+        for (Properties properties : bundles.values()) {
+            for (String key : properties.stringPropertyNames()) {
+                others.put(key, Boolean.TRUE);
+            }
+        }
+        List<String> keys = new ArrayList<>();
+        for (String key : indexedKeys) {
+            if (others.remove(key) != null) {
+                keys.add(key);
+            } else {
+                keys.add(null);
+            }
+        }
+        while (!keys.isEmpty() && keys.get(keys.size() - 1) == null) {
+            keys.remove(keys.size() - 1);
+        }
+        keys.addAll(others.keySet());
+        return keys;
+    }
+
+    /**
+     * Gets value of the key in the locale or its parents.
+     * @param bundles properties by locale.
+     * @param locale locale suffix.
+     * @param key value key.
+     * @return value or null.
+     */
+    private static String resolve(Map<String, Properties> bundles, String locale, String key) {
+        String candidate = locale;
+        while (true) {
+            Properties properties = bundles.get(candidate);
+            if (properties != null && properties.getProperty(key) != null) {
+                return properties.getProperty(key);
+            }
+            if (candidate.isEmpty()) {
+                return null;
+            }
+            int separator = candidate.lastIndexOf('_');
+            candidate = separator < 0 ? "" : candidate.substring(0, separator);
+        }
+    }
+
+    /**
+     * Creates source of the locale class.
+     * @param packageName package of the class.
+     * @param className class name.
+     * @param baseName bundle base name.
+     * @param locale locale suffix.
+     * @param keys ordered keys.
+     * @param bundles properties by locale.
+     * @return class source.
+     */
+    private static String localeClass(String packageName, String className, String baseName, String locale,
+                                      List<String> keys, Map<String, Properties> bundles) {
+        String file = baseName + (locale.isEmpty() ? "" : "_" + locale) + PROPERTIES;
+        StringBuilder source = header(packageName, file)
+                .append("/**\n * Values of ").append(file).append(" by key index.\n */\n")
+                .append("final class ").append(className).append(" {\n\n")
+                .append("    /**\n     * Values, null for the keys that the locale doesn't have.\n     */\n")
+                .append("    static final String[] VALUES = {\n");
+        for (String key : keys) {
+            String value = key == null ? null : resolve(bundles, locale, key);
+            source.append("        ").append(value == null ? "null" : literal(value)).append(",\n");
+        }
+        return source.append("    };\n\n")
+                .append("    /**\n     * Hidden constructor.\n     */\n")
+                .append("    private ").append(className).append("() {\n    }\n}\n")
+                .toString();
+    }
+
+    /**
+     * Creates source of the index class.
+     * @param packageName package of the class.
+     * @param prefix prefix of the locale classes.
+     * @param baseName bundle base name.
+     * @param keys ordered keys.
+     * @param locales locale suffixes.
+     * @return class source.
+     */
+    private static String indexClass(String packageName, String prefix, String baseName, List<String> keys,
+                                     Iterable<String> locales) {
+        StringBuilder source = header(packageName, baseName + "*" + PROPERTIES)
+                .append("/**\n * Keys and locales of the generated ").append(baseName).append(" resources.\n */\n")
+                .append("final class Generated").append(prefix).append(" {\n\n")
+                .append("    /**\n     * Keys by index, null for the indexed keys without value.\n     */\n")
+                .append("    static final String[] KEYS = {\n");
+        for (String key : keys) {
+            source.append("        ").append(key == null ? "null" : literal(key)).append(",\n");
+        }
+        source.append("    };\n\n")
+                .append("    /**\n     * Hidden constructor.\n     */\n")
+                .append("    private Generated").append(prefix).append("() {\n    }\n\n")
+                .append("    /**\n     * Gets values of the locale, only its class is loaded.\n")
+                .append("     * @param locale locale suffix of the file, empty for the base file.\n")
+                .append("     * @return values by key index or null if the locale wasn't generated.\n     */\n")
+                .append("    static String[] values(String locale) {\n")
+                .append("        switch (locale) {\n");
+        for (String locale : locales) {
+            source.append("            case ").append(literal(locale)).append(":\n")
+                    .append("                return ").append(locale.isEmpty() ? prefix : prefix + "_" + locale)
+                    .append(".VALUES;\n");
+        }
+        return source.append("            default:\n                return null;\n        }\n    }\n}\n")
+                .toString();
+    }
+
+    /**
+     * Starts source of a generated class.
+     * @param packageName package of the class.
+     * @param file source properties file.
+     * @return source builder.
+     */
+    private static StringBuilder header(String packageName, String file) {
+        return new StringBuilder("// Generated by ").append(ResourceClassGenerator.class.getSimpleName())
+                .append(" from ").append(file).append(", do not edit.\n")
+                .append("package ").append(packageName).append(";\n\n");
+    }
+
+    /**
+     * Creates Java string literal.
+     * @param value string value.
+     * @return quoted and escaped value.
+     */
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7E) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * Writes the file if its content changes, so the class isn't recompiled needlessly.
+     * @param file written file.
+     * @param content file content.
+     * @throws IOException if the file can't be written.
+     */
+    private static void write(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (Files.exists(file) && Arrays.equals(Files.readAllBytes(file), bytes)) {
+            return;
+        }
+        Files.write(file, bytes);
+    }
+}
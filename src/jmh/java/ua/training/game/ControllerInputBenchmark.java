@@ -0,0 +1,62 @@
+package ua.training.game;
+
+import org.openjdk.jmh.annotations.*;
+import ua.training.game.utils.InputTokenizer;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the controller input validation path.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ControllerInputBenchmark {
+
+    /**
+     * Inputted token.
+     */
+    @Param({"42", "-2147483648", "abc"})
+    private String input;
+
+    /**
+     * Tokenizer reading endless repetition of the input line.
+     */
+    private InputTokenizer tokenizer;
+
+    @Setup
+    public void createTokenizer() {
+        byte[] line = (input + '\n').getBytes(StandardCharsets.US_ASCII);
+        tokenizer = new InputTokenizer(new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                int symbol = line[position];
+                position = (position + 1) % line.length;
+                return symbol;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                for (int i = 0; i < len; i++) {
+                    b[off + i] = (byte) read();
+                }
+                return len;
+            }
+        });
+    }
+
+    @Benchmark
+    public long validateAndParse() {
+        return tokenizer.nextNumber() ? tokenizer.getValue() : 0;
+    }
+}
@@ -0,0 +1,75 @@
+package ua.training.game;
+
+import org.openjdk.jmh.annotations.*;
+import ua.training.game.random.SplittableRandomSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of games over the whole long range,
+ * where almost every guess has its own high 32 bits.
+ * With the gc profiler the allocation per game shows
+ * what the guesses allocate in a reused model and
+ * in the first game of a new model.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LongModelBenchmark {
+
+    /**
+     * Source of the secrets.
+     */
+    private SplittableRandomSource randomSource;
+
+    /**
+     * Model reused by all games.
+     */
+    private GuessTheNumberLongModel model;
+
+    @Setup(Level.Trial)
+    public void createModel() {
+        randomSource = new SplittableRandomSource(7);
+        model = new GuessTheNumberLongModel(randomSource);
+    }
+
+    @Benchmark
+    public int reusedModelGame() {
+        model.reset(Long.MIN_VALUE, Long.MAX_VALUE);
+        return binarySearchGame(model);
+    }
+
+    @Benchmark
+    public int newModelGame() {
+        return binarySearchGame(new GuessTheNumberLongModel(randomSource));
+    }
+
+    /**
+     * Plays one binary search game of about 64 guesses.
+     * @param model model of the game.
+     * @return count of guesses.
+     */
+    private static int binarySearchGame(GuessTheNumberLongModel model) {
+        model.createGuessingNumber();
+        long low = Long.MIN_VALUE;
+        long high = Long.MAX_VALUE;
+        int guesses = 1;
+        long guess = (low >> 1) + (high >> 1);
+        while (!model.putEnteredNumberAndCheckVictory(guess)) {
+            if (model.isLastInputValueGreaterThanGuess()) {
+                high = guess - 1;
+            } else {
+                low = guess + 1;
+            }
+            guess = (low >> 1) + (high >> 1) + (low & high & 1);
+            guesses++;
+        }
+        return guesses;
+    }
+}
@@ -0,0 +1,127 @@
+package ua.training.game;
+
+import org.openjdk.jmh.annotations.*;
+import ua.training.game.random.SplittableRandomSource;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of game model operations.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelBenchmark {
+
+    /**
+     * Count of entered values before lookups.
+     */
+    @Param({"1000", "100000", "1000000"})
+    private int historySize;
+
+    /**
+     * Model with full int bounds.
+     */
+    private GuessTheNumberModel model;
+
+    /**
+     * Model that receives new values in putEnteredNumberAndCheckVictory.
+     */
+    private GuessTheNumberModel puttingModel;
+
+    /**
+     * Values that are looked up, half of them are in history.
+     */
+    private int[] lookups;
+
+    /**
+     * Next lookup index.
+     */
+    private int lookupIndex;
+
+    /**
+     * Next entered value.
+     */
+    private int nextValue;
+
+    /**
+     * Model of a typical binary search game.
+     */
+    private GuessTheNumberModel sessionModel;
+
+    /**
+     * Snapshot of the session model.
+     */
+    private byte[] sessionSnapshot;
+
+    @Setup(Level.Trial)
+    public void fillHistory() {
+        SplittableRandom random = new SplittableRandom(7);
+        model = new GuessTheNumberModel(new SplittableRandomSource(7));
+        model.setGuessesNumber(Integer.MAX_VALUE);
+        lookups = new int[1 << 16];
+
+        for (int i = 0; i < historySize; i++) {
+            int value = random.nextInt();
+            model.putEnteredNumberAndCheckVictory(value);
+            if (i < lookups.length / 2) {
+                lookups[2 * i] = value;
+            }
+        }
+        for (int i = 1; i < lookups.length; i += 2) {
+            lookups[i] = random.nextInt();
+        }
+
+        sessionModel = new GuessTheNumberModel();
+        GuessTheNumberSimulator.playGame(sessionModel, Integer.MIN_VALUE, Integer.MAX_VALUE,
+                GuessingStrategies.BINARY_SEARCH, new SplittableRandomSource(7));
+        sessionSnapshot = ModelSnapshot.save(sessionModel);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPuttingModel() {
+        puttingModel = new GuessTheNumberModel();
+        puttingModel.setGuessesNumber(Integer.MAX_VALUE);
+        nextValue = Integer.MIN_VALUE;
+    }
+
+    @Benchmark
+    public boolean putEnteredNumberAndCheckVictory() {
+        return puttingModel.putEnteredNumberAndCheckVictory(nextValue++);
+    }
+
+    @Benchmark
+    public String putAndRenderHistory() {
+        puttingModel.putEnteredNumberAndCheckVictory(nextValue);
+        nextValue += 2;
+        return puttingModel.getPreviouslyEnteredNumbersString();
+    }
+
+    @Benchmark
+    public boolean isRepeatedEntered() {
+        return model.isRepeatedEntered(lookups[lookupIndex++ & (lookups.length - 1)]);
+    }
+
+    @Benchmark
+    public int createGuessingNumber() {
+        model.createGuessingNumber();
+        return model.getGuessesNumber();
+    }
+
+    @Benchmark
+    public byte[] saveSnapshot() {
+        return ModelSnapshot.save(sessionModel);
+    }
+
+    @Benchmark
+    public AbstractGuessTheNumberModel restoreSnapshot() {
+        return ModelSnapshot.restore(sessionSnapshot);
+    }
+}
@@ -0,0 +1,105 @@
+package ua.training.game;
+
+import org.openjdk.jmh.annotations.*;
+import ua.training.game.random.SplittableRandomSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of binary search turns over many sessions
+ * kept in the slab and in separate models.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+@State(Scope.Thread)
+public class SessionSlabBenchmark {
+
+    /**
+     * Max game value.
+     */
+    private static final long MAX_BOUND = 1_000_000_000L;
+
+    /**
+     * Count of sessions.
+     */
+    @Param({"1000000"})
+    private int sessions;
+
+    /**
+     * Sessions in the slab.
+     */
+    private SessionSlab slab;
+
+    /**
+     * Sessions as separate models.
+     */
+    private GuessTheNumberLongModel[] models;
+
+    /**
+     * Source of the secret numbers.
+     */
+    private SplittableRandomSource random;
+
+    /**
+     * Next session of the slab.
+     */
+    private int slabSession;
+
+    /**
+     * Next session of the models.
+     */
+    private int modelSession;
+
+    @Setup(Level.Trial)
+    public void startSessions() {
+        random = new SplittableRandomSource(7);
+        slab = new SessionSlab(sessions);
+        models = new GuessTheNumberLongModel[sessions];
+        for (int session = 0; session < sessions; session++) {
+            slab.start(session, 0, MAX_BOUND, random);
+            models[session] = new GuessTheNumberLongModel(random);
+            models[session].reset(0, MAX_BOUND);
+            models[session].createGuessingNumber();
+        }
+    }
+
+    @Benchmark
+    public boolean slabTurn() {
+        int session = slabSession;
+        slabSession = session + 1 == sessions ? 0 : session + 1;
+
+        long guess = (slab.getLowerBound(session) + slab.getUpperBound(session)) >>> 1;
+        if (slab.validateGuess(session, guess) != GuessValidation.VALID) {
+            guess = slab.getUpperBound(session);
+        }
+        boolean won = slab.putEnteredNumberAndCheckVictory(session, guess);
+        if (won) {
+            slab.start(session, 0, MAX_BOUND, random);
+        }
+        return won;
+    }
+
+    @Benchmark
+    public boolean modelTurn() {
+        int session = modelSession;
+        modelSession = session + 1 == sessions ? 0 : session + 1;
+
+        GuessTheNumberLongModel model = models[session];
+        long guess = (model.getLowerBound() + model.getUpperBound()) >>> 1;
+        if (model.validateGuess(guess) != GuessValidation.VALID) {
+            guess = model.getUpperBound();
+        }
+        boolean won = model.putEnteredNumberAndCheckVictory(guess);
+        if (won) {
+            model.reset(0, MAX_BOUND);
+            model.createGuessingNumber();
+        }
+        return won;
+    }
+}
@@ -0,0 +1,86 @@
+package ua.training.game;
+
+import org.openjdk.jmh.annotations.*;
+import ua.training.game.utils.ResourceBundleManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static ua.training.game.GuessTheNumberView.AlignPolicy.CENTER;
+import static ua.training.game.GuessTheNumberView.AlignPolicy.RIGHT;
+import static ua.training.game.GuessTheNumberView.DialogValue.GAME_INFORMATION;
+import static ua.training.game.GuessTheNumberView.DialogValue.WRONG_INPUT;
+
+/**
+ * Benchmarks of view message formatting and alignment.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ViewBenchmark {
+
+    /**
+     * View length, {@code Main.CONSOLE_SIZE}.
+     */
+    private static final int VIEW_SIZE = 250;
+
+    /**
+     * View that writes to nowhere.
+     */
+    private GuessTheNumberView view;
+
+    @Setup
+    public void createView() {
+        OutputStream nullStream = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+        view = new GuessTheNumberView(new ByteArrayInputStream(new byte[0]), nullStream,
+                ResourceBundleManager.INSTANCE, VIEW_SIZE);
+    }
+
+    @Benchmark
+    public String getDialogValueConstant() {
+        return view.getDialogValue(WRONG_INPUT);
+    }
+
+    @Benchmark
+    public String getDialogValueFormatted() {
+        return view.getDialogValue(GAME_INFORMATION, "[1, 50, 75]", "50", "75", "None");
+    }
+
+    @Benchmark
+    public void printGameInformationInPlace() {
+        view.dialog(GAME_INFORMATION)
+                .arg("[1, 50, 75]")
+                .arg(50)
+                .arg(75)
+                .arg("None")
+                .printLn(RIGHT);
+        view.flush();
+    }
+
+    @Benchmark
+    public void printCentered() {
+        view.printMessageLn("Wrong input!", CENTER);
+        view.flush();
+    }
+
+    @Benchmark
+    public void printRightAligned() {
+        view.printMessageLn("Previous tries: [1, 50, 75] | Interval: [50, 75] | Last result: None", RIGHT);
+        view.flush();
+    }
+}
@@ -0,0 +1,35 @@
+package ua.training.game.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.PropertyResourceBundle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start time of the dialog resources.
+ * Every measurement is the first load in a fresh JVM,
+ * as in a short-lived game worker.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(30)
+@State(Scope.Benchmark)
+public class ResourceStartupBenchmark {
+
+    @Benchmark
+    public LocaleResources generatedClasses() {
+        return ResourceBundleManager.INSTANCE.forLocale(Locale.getDefault());
+    }
+
+    @Benchmark
+    public LocaleResources propertiesBundle() {
+        Locale locale = Locale.getDefault();
+        return new LocaleResources(locale, PropertyResourceBundle.getBundle("dialogs", locale));
+    }
+}
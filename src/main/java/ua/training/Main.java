@@ -1,16 +1,296 @@
 package ua.training;
 
+import ua.training.game.AbstractGuessTheNumberModel;
+import ua.training.game.GameRecovery;
+import ua.training.game.GameService;
 import ua.training.game.GuessTheNumberController;
+import ua.training.game.GuessTheNumberLongModel;
 import ua.training.game.GuessTheNumberModel;
+import ua.training.game.GuessTheNumberSimulator;
 import ua.training.game.GuessTheNumberView;
+import ua.training.game.GuessScriptRunner;
+import ua.training.game.GuessingStrategies;
+import ua.training.game.GameEventListener;
+import ua.training.game.GameStore;
+import ua.training.game.InMemoryGameStore;
+import ua.training.game.journal.GameJournal;
+import ua.training.game.leaderboard.GameLeaderboards;
+import ua.training.game.load.LoadGenerator;
+import ua.training.game.load.LoadReport;
+import ua.training.game.load.LoadTransport;
+import ua.training.game.metrics.GameMetrics;
+import ua.training.game.server.GameServer;
+import ua.training.game.server.HttpGameServer;
+import ua.training.game.server.NioGameServer;
+import ua.training.game.server.SessionServer;
+import ua.training.game.random.SplittableRandomSource;
+import ua.training.game.random.ThreadLocalRandomSource;
+import ua.training.game.store.SpillingGameStore;
+import ua.training.game.tournament.Tournament;
+import ua.training.game.tournament.TournamentPlayer;
+import ua.training.game.utils.ResourceManager;
 import ua.training.game.utils.ResourceBundleManager;
+import ua.training.game.utils.TimerWheel;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 public class Main {
     public static final int CONSOLE_SIZE = 250;
-    public static void main(String [] args) {
-        GuessTheNumberModel model = new GuessTheNumberModel();
+    public static final String SERVER_MODE = "server";
+    public static final String LONG_MODE = "long";
+    public static final String SIMULATION_MODE = "simulate";
+    public static final String BATCH_MODE = "batch";
+    public static final String HTTP_MODE = "http";
+    public static final String TOURNAMENT_MODE = "tournament";
+    public static final String LOAD_MODE = "load";
+    public static final String PIPED_TARGET = "piped";
+    public static final long LOAD_MAX_BOUND = 1_000_000;
+    public static final int DEFAULT_PORT = 7777;
+    public static final int DEFAULT_HTTP_PORT = 8080;
+
+    /**
+     * Starts console game, console game with long bounds
+     * with argument {@code long} or, with arguments
+     * {@code server [port] [maxSessions] [journalDir] [every-event|group-commit]}, the game server or, with arguments
+     * {@code simulate [games] [strategy] [min] [max] [seed]}, simulated games or,
+     * with arguments {@code batch <script> <results>}, replayed guess script or,
+     * with arguments {@code http [port] [threads] [spillFile]}, the JSON game API or,
+     * with arguments {@code tournament [players] [rounds] [turnMillis] [gameMillis]},
+     * the tournament of simulated players or, with arguments
+     * {@code load <piped|host:port> [clients] [games] [gamesPerSecond] [seconds] [report.json]},
+     * the load of simulated clients.
+     * @param args command line arguments.
+     */
+    public static void main(String [] args) throws IOException {
+        if (args.length > 0 && SERVER_MODE.equals(args[0])) {
+            runServer(args);
+            return;
+        }
+        if (args.length > 0 && SIMULATION_MODE.equals(args[0])) {
+            runSimulation(args);
+            return;
+        }
+        if (args.length > 0 && HTTP_MODE.equals(args[0])) {
+            runHttpServer(args);
+            return;
+        }
+        if (args.length > 0 && TOURNAMENT_MODE.equals(args[0])) {
+            runTournament(args);
+            return;
+        }
+        if (args.length > 1 && LOAD_MODE.equals(args[0])) {
+            runLoad(args);
+            return;
+        }
+        if (args.length > 2 && BATCH_MODE.equals(args[0])) {
+            runBatch(args);
+            return;
+        }
+
+        AbstractGuessTheNumberModel model = args.length > 0 && LONG_MODE.equals(args[0])
+                ? new GuessTheNumberLongModel()
+                : new GuessTheNumberModel();
         GuessTheNumberView view = new GuessTheNumberView(System.in, System.out, ResourceBundleManager.INSTANCE, CONSOLE_SIZE);
         GuessTheNumberController controller = new GuessTheNumberController(model, view);
         controller.execute();
     }
+
+    /**
+     * Runs simulated games and prints the report.
+     * @param args command line arguments.
+     */
+    private static void runSimulation(String [] args) {
+        long games = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000;
+        GuessingStrategies strategy = args.length > 2
+                ? GuessingStrategies.valueOf(args[2].toUpperCase(Locale.ROOT))
+                : GuessingStrategies.BINARY_SEARCH;
+        int minBound = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+        int maxBound = args.length > 4 ? Integer.parseInt(args[4]) : 100;
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : System.nanoTime();
+
+        System.out.print(new GuessTheNumberSimulator().run(games, minBound, maxBound, strategy, seed));
+    }
+
+    /**
+     * Runs tournament rounds of simulated players and prints results of every round.
+     * Players use all standard strategies and think up to one and a half
+     * turn timeouts, so slow turns are forfeited.
+     * @param args command line arguments.
+     */
+    private static void runTournament(String [] args) {
+        int playersCount = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        long turnMillis = args.length > 3 ? Long.parseLong(args[3]) : 100;
+        long gameMillis = args.length > 4 ? Long.parseLong(args[4]) : 5_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try (TimerWheel timerWheel = new TimerWheel(1, 1024)) {
+            List<TournamentPlayer> players = new ArrayList<>(playersCount);
+            for (int i = 0; i < playersCount; i++) {
+                GuessingStrategies strategy = GuessingStrategies.values()[i % GuessingStrategies.values().length];
+                players.add(turn -> timerWheel.schedule(() -> turn.answer(strategy.nextGuess(turn.getLow(),
+                        turn.getHigh(), ThreadLocalRandomSource.INSTANCE)),
+                        ThreadLocalRandomSource.INSTANCE.nextLong(0, turnMillis * 3 / 2), TimeUnit.MILLISECONDS));
+            }
+
+            Tournament tournament = new Tournament(timerWheel, executor, turnMillis, gameMillis,
+                    new SplittableRandomSource(System.nanoTime()));
+            for (int round = 0; round < rounds; round++) {
+                System.out.print(tournament.playRound(players, 0, 100).get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Runs simulated clients against in-process games or the game server,
+     * prints the report and, with report file, writes it as JSON.
+     * Without arrival rate every client plays games back to back.
+     * @param args command line arguments.
+     */
+    private static void runLoad(String [] args) throws IOException {
+        int clients = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        long games = args.length > 3 ? Long.parseLong(args[3]) : 10_000;
+        double gamesPerSecond = args.length > 4 ? Double.parseDouble(args[4]) : 0;
+        long durationMillis = args.length > 5 ? TimeUnit.SECONDS.toMillis(Long.parseLong(args[5])) : 0;
+
+        LoadTransport transport;
+        if (PIPED_TARGET.equals(args[1])) {
+            transport = LoadTransport.piped(ResourceBundleManager.INSTANCE, CONSOLE_SIZE);
+        } else {
+            int separator = args[1].lastIndexOf(':');
+            transport = LoadTransport.socket(new InetSocketAddress(args[1].substring(0, separator),
+                    Integer.parseInt(args[1].substring(separator + 1))), 10_000);
+        }
+
+        LoadGenerator generator = new LoadGenerator(transport, ResourceBundleManager.INSTANCE, 0, LOAD_MAX_BOUND);
+        LoadReport report;
+        try {
+            report = gamesPerSecond > 0
+                    ? generator.runOpenLoop(clients, gamesPerSecond, games, durationMillis)
+                    : generator.runClosedLoop(clients, games, durationMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        System.out.print(report);
+        if (args.length > 6) {
+            report.writeTo(Paths.get(args[6]));
+        }
+    }
+
+    /**
+     * Replays guess script and writes CSV results.
+     * @param args command line arguments.
+     */
+    private static void runBatch(String [] args) throws IOException {
+        long start = System.nanoTime();
+        long games = new GuessScriptRunner().run(Paths.get(args[1]), Paths.get(args[2]));
+        System.out.println("Replayed " + games + " games in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Starts JSON game API, it runs until the process is stopped.
+     * With spill file idle games are moved out of memory.
+     * Nagle's algorithm is disabled on its sockets unless
+     * {@value HttpGameServer#NO_DELAY_PROPERTY} is given on launch.
+     * @param args command line arguments.
+     */
+    private static void runHttpServer(String [] args) throws IOException {
+        if (System.getProperty(HttpGameServer.NO_DELAY_PROPERTY) == null) {
+            System.setProperty(HttpGameServer.NO_DELAY_PROPERTY, "true");
+        }
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_HTTP_PORT;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        GameStore store = new InMemoryGameStore();
+        if (args.length > 3) {
+            SpillingGameStore spillingStore = new SpillingGameStore(Paths.get(args[3]),
+                    SpillingGameStore.DEFAULT_CAPACITY, SpillingGameStore.DEFAULT_IDLE_TIMEOUT_MILLIS);
+            spillingStore.register();
+            ScheduledExecutorService idleSpiller = Executors.newSingleThreadScheduledExecutor();
+            idleSpiller.scheduleWithFixedDelay(spillingStore::spillIdle, 1, 1, TimeUnit.MINUTES);
+            store = spillingStore;
+        }
+        HttpGameServer server = new HttpGameServer(port, new GameService(store),
+                Executors.newFixedThreadPool(threads));
+        server.start();
+        System.out.println("Listening on port " + server.getPort() + ", handler threads: " + threads);
+    }
+
+    /**
+     * Runs game server until the process is stopped.
+     * With journal directory unfinished games are recovered and closed,
+     * new sessions are journaled, the records are forced
+     * by group commit unless {@code every-event} is given.
+     * Session metrics and leaderboards are exported over JMX.
+     * Without virtual threads sessions are multiplexed over event loops.
+     * @param args command line arguments.
+     */
+    private static void runServer(String [] args) throws IOException {
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+        int maxSessions = args.length > 2 ? Integer.parseInt(args[2]) : GameServer.DEFAULT_MAX_SESSIONS;
+        GameJournal.SyncPolicy syncPolicy = args.length > 4
+                ? GameJournal.SyncPolicy.valueOf(args[4].toUpperCase(Locale.ROOT).replace('-', '_'))
+                : GameJournal.SyncPolicy.GROUP_COMMIT;
+        GameJournal journal = args.length > 3 ? openJournal(Paths.get(args[3]), syncPolicy) : null;
+        GameMetrics metrics = new GameMetrics();
+        metrics.register();
+        GameLeaderboards leaderboards = new GameLeaderboards(GameLeaderboards.DEFAULT_CAPACITY,
+                Runtime.getRuntime().availableProcessors());
+        leaderboards.register();
+
+        Supplier<GameEventListener> sessionListeners = () -> {
+            GameEventListener listener = metrics.newSession().andThen(leaderboards.newSession());
+            return journal != null ? journal.newSession().andThen(listener) : listener;
+        };
+
+        ResourceManager resources = ResourceBundleManager.INSTANCE.forLocale(Locale.getDefault());
+        try (SessionServer server = GameServer.isVirtualThreadsSupported()
+                ? new GameServer(port, maxSessions, resources, CONSOLE_SIZE, sessionListeners)
+                : new NioGameServer(port, maxSessions, Runtime.getRuntime().availableProcessors(),
+                        resources, CONSOLE_SIZE, sessionListeners)) {
+            System.out.println("Listening on port " + server.getPort()
+                    + ", max sessions: " + server.getMaxSessions());
+            server.serve();
+        } finally {
+            if (journal != null) {
+                journal.close();
+            }
+        }
+    }
+
+    /**
+     * Recovers unfinished games and opens the journal,
+     * that closes them as new sessions can't continue them.
+     * @param directory journal directory.
+     * @param syncPolicy when journal records are forced to disk.
+     * @return opened journal.
+     */
+    private static GameJournal openJournal(Path directory, GameJournal.SyncPolicy syncPolicy) throws IOException {
+        long start = System.nanoTime();
+        GameRecovery recovery = GameRecovery.recover(directory);
+        System.out.println("Recovered " + recovery.getGames().size() + " unfinished games from "
+                + recovery.getRecords() + " records in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return new GameJournal(directory, GameJournal.DEFAULT_SEGMENT_SIZE, syncPolicy,
+                recovery.getLastSessionId() + 1, recovery.getGames().keySet());
+    }
 }
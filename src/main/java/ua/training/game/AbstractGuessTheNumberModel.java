@@ -0,0 +1,146 @@
+package ua.training.game;
+
+import ua.training.game.utils.RunHistory;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Game data operations that {@link GuessTheNumberController} uses.
+ * Values are passed as long, so the same controller flow
+ * serves int and long bounded games.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public abstract class AbstractGuessTheNumberModel {
+
+    /**
+     * Entered values string that is updated on every guess.
+     * @see RunHistory
+     */
+    final RunHistory historyLine = new RunHistory(RunHistory.DEFAULT_MAX_RUNS);
+
+    /**
+     * Creates guessing number.
+     */
+    abstract void createGuessingNumber();
+
+    /**
+     * Put new entered number and check for victories.
+     * @param enteredNumber last user entered number.
+     * @return check result.
+     */
+    abstract boolean putEnteredNumberAndCheckVictory(long enteredNumber);
+
+    /**
+     * Checks can the model store the value.
+     * @param value the value that will be checked.
+     * @return true if value fits model number type.
+     */
+    abstract boolean isRepresentable(long value);
+
+    /**
+     * Checks max bound.
+     * @param value max bound candidate.
+     * @return true if value can be max bound.
+     */
+    abstract boolean checkMaxBound(long value);
+
+    /**
+     * Checks is value in bounds.
+     * @param value the value that will be checked.
+     * @return true if value is in bounds.
+     */
+    abstract boolean isInBounds(long value);
+
+    /**
+     * Checks is the value entered repeated.
+     * @param value parameter that will be checked.
+     * @return true if the value was entered before.
+     */
+    abstract boolean isRepeatedEntered(long value);
+
+    /**
+     * Checks is last input value grater than secret value.
+     * @return result.
+     */
+    abstract boolean isLastInputValueGreaterThanGuess();
+
+    /**
+     * Sets min bound value.
+     * @param minBound min bound that will be set.
+     */
+    abstract void setMinBound(long minBound);
+
+    /**
+     * Sets max bound value.
+     * @param maxBound max bound that will be set.
+     */
+    abstract void setMaxBound(long maxBound);
+
+    /**
+     * Gets min bound value.
+     * @return min bound value.
+     */
+    abstract long getLowerBound();
+
+    /**
+     * Gets max bound value.
+     * @return max bound value.
+     */
+    abstract long getUpperBound();
+
+    /**
+     * Gets value that need to guess.
+     * @return guesses number.
+     */
+    abstract long getSecretNumber();
+
+    /**
+     * Gets last entered number.
+     * @return last entered number.
+     */
+    abstract long getLastGuess();
+
+    /**
+     * Gets tries counts.
+     * @return tries count.
+     */
+    abstract int getTries();
+
+    /**
+     * Gets previously entered values in ascending order.
+     * @return string representation of entered values.
+     */
+    abstract String getPreviouslyEnteredNumbersString();
+
+    /**
+     * Passes every previously entered value in ascending order.
+     * @param consumer receives entered values.
+     */
+    abstract void forEachEnteredNumber(LongConsumer consumer);
+
+    /**
+     * Sets count of value runs shown on each side
+     * of the secret in the entered values string.
+     * @param maxRuns count of shown runs.
+     */
+    public final void setHistoryLimit(int maxRuns) {
+        historyLine.setMaxRuns(maxRuns);
+    }
+
+    /**
+     * Validates inputted guess by the game rules.
+     * @param value inputted value.
+     * @return {@link GuessValidation#VALID} if the guess can be put.
+     */
+    final GuessValidation validateGuess(long value) {
+        if (!isInBounds(value)) {
+            return GuessValidation.OUT_OF_BOUNDS;
+        }
+        if (isRepeatedEntered(value)) {
+            return GuessValidation.REPEATED;
+        }
+        return GuessValidation.VALID;
+    }
+}
@@ -0,0 +1,133 @@
+package ua.training.game;
+
+/**
+ * Receives game events from {@link GuessTheNumberController}.
+ * Game events are sent before the model is changed,
+ * so a listener may persist them ahead of the game state.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public interface GameEventListener {
+
+    /**
+     * Listener that ignores all events.
+     */
+    GameEventListener NONE = new GameEventListener() {
+    };
+
+    /**
+     * Called when secret number is created.
+     * @param minBound min bound of the game.
+     * @param maxBound max bound of the game.
+     * @param secretNumber value that need to guess.
+     */
+    default void gameStarted(long minBound, long maxBound, long secretNumber) {
+    }
+
+    /**
+     * Called when valid guess is entered.
+     * @param value entered value.
+     */
+    default void guessAccepted(long value) {
+    }
+
+    /**
+     * Called when the secret number is guessed.
+     * @param tries count of guesses.
+     */
+    default void gameWon(int tries) {
+    }
+
+    /**
+     * Called when user input is read, before it is checked.
+     */
+    default void inputReceived() {
+    }
+
+    /**
+     * Called when user input is rejected.
+     * @param reason rejection reason, never {@link GuessValidation#VALID}.
+     */
+    default void inputRejected(GuessValidation reason) {
+    }
+
+    /**
+     * Called when the reply is printed and is going to be sent.
+     */
+    default void outputReady() {
+    }
+
+    /**
+     * Called when the reply is sent.
+     */
+    default void outputFlushed() {
+    }
+
+    /**
+     * Called by the session owner when the session ends,
+     * whether the game was finished or not.
+     */
+    default void sessionClosed() {
+    }
+
+    /**
+     * Creates listener that passes each event
+     * to this listener and then to the next one.
+     * @param next listener that receives events second.
+     * @return composed listener.
+     */
+    default GameEventListener andThen(GameEventListener next) {
+        GameEventListener first = this;
+
+        return new GameEventListener() {
+            @Override
+            public void gameStarted(long minBound, long maxBound, long secretNumber) {
+                first.gameStarted(minBound, maxBound, secretNumber);
+                next.gameStarted(minBound, maxBound, secretNumber);
+            }
+
+            @Override
+            public void guessAccepted(long value) {
+                first.guessAccepted(value);
+                next.guessAccepted(value);
+            }
+
+            @Override
+            public void gameWon(int tries) {
+                first.gameWon(tries);
+                next.gameWon(tries);
+            }
+
+            @Override
+            public void inputReceived() {
+                first.inputReceived();
+                next.inputReceived();
+            }
+
+            @Override
+            public void inputRejected(GuessValidation reason) {
+                first.inputRejected(reason);
+                next.inputRejected(reason);
+            }
+
+            @Override
+            public void outputReady() {
+                first.outputReady();
+                next.outputReady();
+            }
+
+            @Override
+            public void outputFlushed() {
+                first.outputFlushed();
+                next.outputFlushed();
+            }
+
+            @Override
+            public void sessionClosed() {
+                first.sessionClosed();
+                next.sessionClosed();
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package ua.training.game;
+
+import ua.training.game.journal.JournalListener;
+import ua.training.game.journal.JournalReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Rebuilds games that were not finished
+ * from the {@link ua.training.game.journal.GameJournal} records.
+ * Every game is restored as long model, so int and long
+ * bounded games are replayed the same way.
+ * Games that ended by victory or were closed are dropped.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class GameRecovery implements JournalListener {
+
+    /**
+     * Unfinished games by session id.
+     */
+    private final Map<Long, GuessTheNumberLongModel> games = new TreeMap<>();
+
+    /**
+     * Greatest session id in the journal.
+     */
+    private long lastSessionId = -1;
+
+    /**
+     * Count of replayed records.
+     */
+    private long records;
+
+    /**
+     * Replays the journal.
+     * @param directory journal directory.
+     * @return recovered games.
+     * @throws IOException if journal can't be read.
+     */
+    public static GameRecovery recover(Path directory) throws IOException {
+        GameRecovery recovery = new GameRecovery();
+        recovery.records = JournalReader.read(directory, recovery);
+        return recovery;
+    }
+
+    /**
+     * Starts recovered game.
+     * @param session session id.
+     * @param minBound min bound of the game.
+     * @param maxBound max bound of the game.
+     * @param secretNumber value that need to guess.
+     */
+    @Override
+    public void onStart(long session, long minBound, long maxBound, long secretNumber) {
+        GuessTheNumberLongModel model = new GuessTheNumberLongModel();
+        model.reset(minBound, maxBound);
+        model.setGuessesNumber(secretNumber);
+        games.put(session, model);
+        lastSessionId = Math.max(lastSessionId, session);
+    }
+
+    /**
+     * Puts guess into recovered game.
+     * @param session session id.
+     * @param value entered value.
+     */
+    @Override
+    public void onGuess(long session, long value) {
+        GuessTheNumberLongModel model = games.get(session);
+        if (model != null) {
+            model.putEnteredNumberAndCheckVictory(value);
+        }
+    }
+
+    /**
+     * Forgets finished game.
+     * @param session session id.
+     */
+    @Override
+    public void onVictory(long session) {
+        games.remove(session);
+    }
+
+    /**
+     * Forgets closed game.
+     * @param session session id.
+     */
+    @Override
+    public void onClosed(long session) {
+        games.remove(session);
+    }
+
+    /**
+     * Gets unfinished games.
+     * @return games in the order of their session ids.
+     */
+    public Map<Long, GuessTheNumberLongModel> getGames() {
+        return Collections.unmodifiableMap(games);
+    }
+
+    /**
+     * Gets greatest session id in the journal.
+     * @return last session id, -1 if the journal is empty.
+     */
+    public long getLastSessionId() {
+        return lastSessionId;
+    }
+
+    /**
+     * Gets count of replayed records.
+     * @return records count.
+     */
+    public long getRecords() {
+        return records;
+    }
+}
@@ -0,0 +1,178 @@
+package ua.training.game;
+
+import ua.training.game.random.ThreadLocalRandomSource;
+import ua.training.game.utils.JsonWriter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Games played by separate requests instead of a dialog.
+ * Every game is identified by id and kept in the {@link GameStore},
+ * every operation writes the game state as JSON object
+ * with members {@code id, status, lowerBound, upperBound, tries,
+ * history, lastGuess, lastGuessGreater} and, for the won game,
+ * {@code secret}. Operations on one game are serialized by its model,
+ * the model is changed only while the store confirms it is current.
+ *
+ * @version 1.2 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class GameService {
+
+    /**
+     * Status of the running game.
+     */
+    private static final String PLAYING = "PLAYING";
+
+    /**
+     * Status of the won game.
+     */
+    private static final String WON = "WON";
+
+    /**
+     * Stores games.
+     */
+    private final GameStore store;
+
+    /**
+     * Id of the next game.
+     */
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * Creates service.
+     * @param store storage of the games.
+     */
+    public GameService(GameStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Creates game with specific bounds.
+     * @param minBound min game value.
+     * @param maxBound max game value, greater than min.
+     * @param json writer of the game state.
+     * @return id of the game.
+     * @throws IllegalArgumentException if max bound is not greater than min bound.
+     */
+    public long create(long minBound, long maxBound, JsonWriter json) {
+        GuessTheNumberLongModel model = new GuessTheNumberLongModel(ThreadLocalRandomSource.INSTANCE);
+        model.reset(minBound, maxBound);
+        model.createGuessingNumber();
+
+        long id = nextId.getAndIncrement();
+        store.put(id, model);
+        synchronized (model) {
+            writeState(id, model, json);
+        }
+        json.endObject();
+        return id;
+    }
+
+    /**
+     * Puts the guess into the game.
+     * The state has additional member {@code result}.
+     * @param id game id.
+     * @param value guess.
+     * @param json writer of the game state.
+     * @return validation of the guess or null if there is no such game.
+     * @throws IllegalStateException if the game is won.
+     */
+    public GuessValidation guess(long id, long value, JsonWriter json) {
+        AbstractGuessTheNumberModel model;
+        while ((model = store.get(id)) != null) {
+            synchronized (model) {
+                if (!store.isCurrent(id, model)) {
+                    continue;
+                }
+                if (isWon(model)) {
+                    throw new IllegalStateException("Game " + id + " is won");
+                }
+                GuessValidation validation = model.validateGuess(value);
+                if (validation == GuessValidation.VALID) {
+                    model.putEnteredNumberAndCheckVictory(value);
+                }
+                writeState(id, model, json);
+                json.name("result").value(validation.name()).endObject();
+                return validation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes state of the game.
+     * @param id game id.
+     * @param json writer of the game state.
+     * @return false if there is no such game.
+     */
+    public boolean state(long id, JsonWriter json) {
+        AbstractGuessTheNumberModel model = store.get(id);
+        if (model == null) {
+            return false;
+        }
+
+        synchronized (model) {
+            writeState(id, model, json);
+        }
+        json.endObject();
+        return true;
+    }
+
+    /**
+     * Removes the game.
+     * @param id game id.
+     * @return false if there is no such game.
+     */
+    public boolean remove(long id) {
+        return store.remove(id);
+    }
+
+    /**
+     * Gets count of stored games.
+     * @return games count.
+     */
+    public int getGames() {
+        return store.size();
+    }
+
+    /**
+     * Checks is the secret number guessed.
+     * @param model game model.
+     * @return true if the last guess is the secret.
+     */
+    static boolean isWon(AbstractGuessTheNumberModel model) {
+        return model.getTries() > 0 && model.getLastGuess() == model.getSecretNumber();
+    }
+
+    /**
+     * Writes state members of the game, the object is left open.
+     * History is the array of {@code [from, to]} runs of the entered values.
+     * @param id game id.
+     * @param model game model.
+     * @param json writer of the game state.
+     */
+    private static void writeState(long id, AbstractGuessTheNumberModel model, JsonWriter json) {
+        boolean won = isWon(model);
+        json.beginObject()
+                .name("id").value(id)
+                .name("status").value(won ? WON : PLAYING)
+                .name("lowerBound").value(model.getLowerBound())
+                .name("upperBound").value(model.getUpperBound())
+                .name("tries").value(model.getTries())
+                .name("history").beginRuns();
+        model.forEachEnteredNumber(json::runValue);
+        json.endRuns();
+
+        if (model.getTries() > 0) {
+            json.name("lastGuess").value(model.getLastGuess())
+                    .name("lastGuessGreater").value(model.isLastInputValueGreaterThanGuess());
+        } else {
+            json.name("lastGuess").nullValue()
+                    .name("lastGuessGreater").nullValue();
+        }
+        if (won) {
+            json.name("secret").value(model.getSecretNumber());
+        }
+    }
+}
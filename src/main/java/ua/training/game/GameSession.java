@@ -0,0 +1,392 @@
+package ua.training.game;
+
+import ua.training.game.utils.NumberParser;
+
+import java.util.function.IntUnaryOperator;
+
+import static ua.training.game.GuessTheNumberView.AlignPolicy.CENTER;
+import static ua.training.game.GuessTheNumberView.AlignPolicy.LEFT;
+import static ua.training.game.GuessTheNumberView.AlignPolicy.RIGHT;
+import static ua.training.game.GuessTheNumberView.DialogValue.*;
+
+/**
+ * Game dialog as explicit state machine driven by inputs
+ * instead of blocking reads. The owner passes every answer
+ * to a {@code step} method, it renders the reply into the view
+ * and flushes it once. The reply isn't returned, only the state
+ * that waits for the next answer is, so any I/O layer can run
+ * many sessions on a few threads.
+ * The console {@link GuessTheNumberController} is an adapter that
+ * feeds it with tokens read from the console.
+ * A received line is one answer, it is a number if it has
+ * exactly one integer token.
+ *
+ * @version 1.5 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class GameSession {
+
+    /**
+     * Dialog state that waits for the next answer.
+     */
+    public enum State {
+        /**
+         * Welcome message is shown, any answer starts the game.
+         */
+        AWAIT_START,
+        /**
+         * Min bound is asked.
+         */
+        AWAIT_MIN,
+        /**
+         * Max bound is asked.
+         */
+        AWAIT_MAX,
+        /**
+         * Next guess is asked.
+         */
+        GUESSING,
+        /**
+         * The number is guessed, the session takes no answers.
+         */
+        DONE
+    }
+
+    /**
+     * Represent max, the argument of the max bound prompt.
+     */
+    public static final String MAX_STRING = "MAX";
+
+    /**
+     * Represent min, the argument of the min bound prompt.
+     */
+    public static final String MIN_STRING = "MIN";
+
+    /**
+     * Represent absent last move.
+     */
+    private static final String NO_LAST_MOVE = "None";
+
+    /**
+     * Provides game model.
+     */
+    private final AbstractGuessTheNumberModel gameModel;
+
+    /**
+     * Provides game view.
+     */
+    private final GuessTheNumberView gameView;
+
+    /**
+     * Receives game events.
+     */
+    private final GameEventListener eventListener;
+
+    /**
+     * Parses input lines.
+     */
+    private final NumberParser parser = new NumberParser();
+
+    /**
+     * Current dialog step.
+     */
+    private State state;
+
+    /**
+     * Value of the last parsed number token.
+     */
+    private long lineValue;
+
+    /**
+     * Creates game session.
+     * @param gameModel object provides game data.
+     * @param gameView object provides game view.
+     * @param eventListener object receives game events.
+     */
+    public GameSession(AbstractGuessTheNumberModel gameModel, GuessTheNumberView gameView,
+                       GameEventListener eventListener) {
+        this.gameModel = gameModel;
+        this.gameView = gameView;
+        this.eventListener = eventListener;
+    }
+
+    /**
+     * Shows game info and waits for any answer to start.
+     * @return {@link State#AWAIT_START}.
+     */
+    public State start() {
+        gameView.printMessageLn(gameView.getDialogValue(GUESS_THE_NUMBER_GAME_NAME), CENTER);
+        gameView.printMessage(gameView.getDialogValue(WELCOME_MESSAGE), CENTER);
+        state = State.AWAIT_START;
+        flushOutput();
+        return state;
+    }
+
+    /**
+     * Handles received line and sends the reply.
+     * The reply is written to the view and flushed, it is not returned.
+     * @param line line bytes without line separator.
+     * @param offset offset of the line.
+     * @param length length of the line.
+     * @return state after the answer.
+     * @throws IllegalStateException if the session is not started or done.
+     */
+    public State acceptLine(byte[] line, int offset, int length) {
+        checkRunning();
+        return step(i -> line[offset + i] & 0xFF, length);
+    }
+
+    /**
+     * Handles text answer and sends the reply.
+     * The reply is written to the view and flushed, it is not returned.
+     * @param input answer without line separator.
+     * @return state after the answer.
+     * @throws IllegalStateException if the session is not started or done.
+     */
+    public State step(CharSequence input) {
+        checkRunning();
+        return step(input::charAt, input.length());
+    }
+
+    /**
+     * Handles number answer and sends the reply.
+     * The reply is written to the view and flushed, it is not returned.
+     * @param value answered number.
+     * @return state after the answer.
+     * @throws IllegalStateException if the session is not started or done.
+     */
+    public State step(long value) {
+        checkRunning();
+        return step(true, value);
+    }
+
+    /**
+     * Handles answer that is not a number and sends the reply.
+     * The reply is written to the view and flushed, it is not returned.
+     * @return state after the answer.
+     * @throws IllegalStateException if the session is not started or done.
+     */
+    public State stepNotANumber() {
+        checkRunning();
+        return step(false, 0);
+    }
+
+    /**
+     * Checks is the game finished.
+     * @return true if the number was guessed.
+     */
+    public boolean isFinished() {
+        return state == State.DONE;
+    }
+
+    /**
+     * Gets current dialog state.
+     * @return session state, null before start.
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Tokenizes the answer and moves the dialog by it.
+     * @param symbols symbol of the answer by its index.
+     * @param length count of the symbols.
+     * @return state after the answer.
+     */
+    private State step(IntUnaryOperator symbols, int length) {
+        parser.reset();
+        int tokens = 0;
+        int result = NumberParser.INCOMPLETE;
+
+        for (int i = 0; i <= length; i++) {
+            int current = i < length ? parser.accept(symbols.applyAsInt(i)) : parser.finish();
+            if (current != NumberParser.INCOMPLETE) {
+                tokens++;
+                result = parsed(current);
+            }
+        }
+
+        return step(tokens == 1 && result == NumberParser.NUMBER, lineValue);
+    }
+
+    /**
+     * Moves the dialog by the answer.
+     * @param isNumber is the answer a number.
+     * @param value answered number.
+     * @return state after the answer.
+     */
+    private State step(boolean isNumber, long value) {
+        if (state == State.AWAIT_START) {
+            askMinBound();
+        } else {
+            eventListener.inputReceived();
+            if (!isNumber || !gameModel.isRepresentable(value)) {
+                eventListener.inputRejected(GuessValidation.NOT_A_NUMBER);
+                gameView.printMessageLn(gameView.getDialogValue(WRONG_INPUT), CENTER);
+                askAgain();
+            } else if (state == State.AWAIT_MIN) {
+                gameModel.setMinBound(value);
+                askMaxBound();
+            } else if (state == State.AWAIT_MAX) {
+                acceptMaxBound(value);
+            } else {
+                acceptGuess(value);
+            }
+        }
+
+        flushOutput();
+        return state;
+    }
+
+    /**
+     * Checks that the session takes answers.
+     * @throws IllegalStateException if the session is not started or done.
+     */
+    private void checkRunning() {
+        if (state == null || state == State.DONE) {
+            throw new IllegalStateException("Session is not running");
+        }
+    }
+
+    /**
+     * Sets max bound if it is not less than min bound and starts the game.
+     * @param value inputted max bound.
+     */
+    private void acceptMaxBound(long value) {
+        if (!gameModel.checkMaxBound(value)) {
+            gameView.dialog(WRONG_BOUNDS_VALUES)
+                    .arg(gameModel.getLowerBound())
+                    .printLn(LEFT);
+            askMaxBound();
+            return;
+        }
+
+        gameModel.setMaxBound(value);
+        gameModel.createGuessingNumber();
+        eventListener.gameStarted(gameModel.getLowerBound(),
+                gameModel.getUpperBound(), gameModel.getSecretNumber());
+
+        gameView.printMessageLn(gameView.getDialogValue(START_GAME), CENTER);
+        showGameInformation(false);
+        askGuess();
+    }
+
+    /**
+     * Validates the guess and puts it into the model.
+     * @param value inputted guess.
+     */
+    private void acceptGuess(long value) {
+        GuessValidation validation = gameModel.validateGuess(value);
+        if (validation != GuessValidation.VALID) {
+            eventListener.inputRejected(validation);
+            gameView.printMessageLn(gameView.getDialogValue(WRONG_INPUT), CENTER);
+            if (validation == GuessValidation.OUT_OF_BOUNDS) {
+                gameView.dialog(OUT_OF_BOUNDS_MESSAGE)
+                        .arg(gameModel.getLowerBound())
+                        .arg(gameModel.getUpperBound())
+                        .printLn(CENTER);
+            } else {
+                gameView.printMessageLn(gameView.getDialogValue(REPEATED_INPUT_MESSAGE), CENTER);
+            }
+            askGuess();
+            return;
+        }
+
+        eventListener.guessAccepted(value);
+        if (!gameModel.putEnteredNumberAndCheckVictory(value)) {
+            showGameInformation(true);
+            askGuess();
+            return;
+        }
+
+        eventListener.gameWon(gameModel.getTries());
+        gameView.dialog(CONGRATULATION_MESSAGE)
+                .arg(gameModel.getSecretNumber())
+                .printLn(CENTER);
+        gameView.dialog(RESULT)
+                .arg(gameModel.getTries())
+                .printLn(LEFT);
+        state = State.DONE;
+    }
+
+    /**
+     * Shows game information.
+     * @param hasLastMove is there a last user move to show.
+     */
+    private void showGameInformation(boolean hasLastMove) {
+        GuessTheNumberView.DialogLine information = gameView.dialog(GAME_INFORMATION)
+                .arg(gameModel.getPreviouslyEnteredNumbersString())
+                .arg(gameModel.getLowerBound())
+                .arg(gameModel.getUpperBound());
+
+        if (hasLastMove) {
+            information.append(gameModel.getLastGuess())
+                    .arg(gameModel.isLastInputValueGreaterThanGuess()
+                            ? gameView.getDialogValue(VALUE_GREATER)
+                            : gameView.getDialogValue(VALUE_LOWER));
+        } else {
+            information.arg(NO_LAST_MOVE);
+        }
+
+        information.printLn(RIGHT);
+    }
+
+    /**
+     * Repeats the question of the current step.
+     */
+    private void askAgain() {
+        if (state == State.AWAIT_MIN) {
+            askMinBound();
+        } else if (state == State.AWAIT_MAX) {
+            askMaxBound();
+        } else {
+            askGuess();
+        }
+    }
+
+    /**
+     * Asks min bound.
+     */
+    private void askMinBound() {
+        gameView.printMessage(gameView.getDialogValue(INPUT_BOUNDS_SUGGESTION, MIN_STRING), LEFT);
+        state = State.AWAIT_MIN;
+    }
+
+    /**
+     * Asks max bound.
+     */
+    private void askMaxBound() {
+        gameView.printMessage(gameView.getDialogValue(INPUT_BOUNDS_SUGGESTION, MAX_STRING), LEFT);
+        state = State.AWAIT_MAX;
+    }
+
+    /**
+     * Asks next guess.
+     */
+    private void askGuess() {
+        gameView.printMessage(gameView.getDialogValue(INPUT_VALUE_SUGGESTION), LEFT);
+        state = State.GUESSING;
+    }
+
+    /**
+     * Keeps value of the finished token in {@link #lineValue}.
+     * @param result result of the finished token.
+     * @return the result.
+     */
+    private int parsed(int result) {
+        if (result == NumberParser.NUMBER) {
+            lineValue = parser.getValue();
+        }
+        return result;
+    }
+
+    /**
+     * Sends printed messages to the user
+     * and reports it to the event listener.
+     */
+    private void flushOutput() {
+        eventListener.outputReady();
+        gameView.flush();
+        eventListener.outputFlushed();
+    }
+}
@@ -0,0 +1,51 @@
+package ua.training.game;
+
+/**
+ * Storage of the games played by id, e.g. over HTTP.
+ * Implementations must be thread safe, the games
+ * themselves are synchronized by {@link GameService}.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public interface GameStore {
+
+    /**
+     * Gets stored game.
+     * @param id game id.
+     * @return game model or null if there is no such game.
+     */
+    AbstractGuessTheNumberModel get(long id);
+
+    /**
+     * Stores the game.
+     * @param id game id.
+     * @param model game model.
+     */
+    void put(long id, AbstractGuessTheNumberModel model);
+
+    /**
+     * Checks is the model still the stored copy of the game.
+     * The caller holds the model monitor and changes
+     * the model only if this check passes.
+     * @param id game id.
+     * @param model game model got from the store.
+     * @return false if the model must be got again.
+     */
+    default boolean isCurrent(long id, AbstractGuessTheNumberModel model) {
+        return true;
+    }
+
+    /**
+     * Removes the game.
+     * @param id game id.
+     * @return false if there was no such game.
+     */
+    boolean remove(long id);
+
+    /**
+     * Gets count of stored games.
+     * @return games count.
+     */
+    int size();
+}
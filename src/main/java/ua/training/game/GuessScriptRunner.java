@@ -0,0 +1,389 @@
+package ua.training.game;
+
+import ua.training.game.utils.NumberParser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Replays recorded guess scripts without user dialog.
+ * Script has one game per line:
+ * <pre>
+ * # comment
+ * min max secret guess guess ...
+ * </pre>
+ * A line is a comment if {@code #} is its first symbol that is
+ * not a blank, elsewhere {@code #} is a part of the token.
+ * Inputs are checked by the same rules as in
+ * {@link GuessTheNumberController}: tokens that are not numbers,
+ * out of bounds and repeated values are rejected, guesses after
+ * the victory are ignored. The script is read through memory
+ * mapped windows, so files of any size are not loaded to heap,
+ * and each game result is written as CSV line. A line without
+ * three header numbers is reported with zero header values
+ * and {@link Outcome#MALFORMED} outcome.
+ *
+ * @version 1.4 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class GuessScriptRunner {
+
+    /**
+     * CSV header.
+     */
+    static final String HEADER = "game,min,max,secret,tries,not_a_number,out_of_bounds,repeated,ignored,outcome\n";
+
+    /**
+     * Size of the mapped script window.
+     */
+    private static final long WINDOW_SIZE = 256L << 20;
+
+    /**
+     * Size of the output buffer.
+     */
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Max length of one CSV line.
+     */
+    private static final int MAX_LINE_LENGTH = 256;
+
+    /**
+     * Count of header numbers of each game.
+     */
+    private static final int HEADER_FIELDS = 3;
+
+    /**
+     * Outcome of the replayed game.
+     */
+    enum Outcome {
+        /**
+         * The secret was guessed.
+         */
+        WON,
+        /**
+         * Guesses ended before the victory.
+         */
+        UNFINISHED,
+        /**
+         * Bounds or secret are wrong.
+         */
+        INVALID,
+        /**
+         * Line has fewer than three header numbers
+         * or a header token that is not a number.
+         */
+        MALFORMED
+    }
+
+    /**
+     * Model reused by all games.
+     */
+    private final GuessTheNumberLongModel model = new GuessTheNumberLongModel();
+
+    /**
+     * Parses script tokens.
+     */
+    private final NumberParser parser = new NumberParser();
+
+    /**
+     * Encoded CSV lines.
+     */
+    private final byte[] outputBuffer = new byte[OUTPUT_BUFFER_SIZE];
+
+    /**
+     * Scratch for number digits.
+     */
+    private final byte[] digits = new byte[20];
+
+    /**
+     * Count of bytes in the output buffer.
+     */
+    private int outputLength;
+
+    /**
+     * Results output.
+     */
+    private OutputStream output;
+
+    /**
+     * Count of games.
+     */
+    private long games;
+
+    /**
+     * Index of the next token of the current line.
+     */
+    private int field;
+
+    /**
+     * Is the current line a comment.
+     */
+    private boolean comment;
+
+    /**
+     * Has the current line only blanks so far.
+     */
+    private boolean blank;
+
+    /**
+     * Are game header values wrong.
+     */
+    private boolean invalid;
+
+    /**
+     * Is the game header of the current line incomplete.
+     */
+    private boolean malformed;
+
+    /**
+     * Is the secret of the current game guessed.
+     */
+    private boolean won;
+
+    /**
+     * Header values of the current game.
+     */
+    private final long[] header = new long[HEADER_FIELDS];
+
+    /**
+     * Rejected inputs of the current game by {@link GuessValidation} ordinal.
+     */
+    private final long[] rejected = new long[GuessValidation.values().length];
+
+    /**
+     * Tokens after the victory.
+     */
+    private long ignored;
+
+    /**
+     * Replays the script and writes game results.
+     * @param script script file.
+     * @param results CSV file that will be overwritten.
+     * @return count of replayed games.
+     * @throws IOException if files can't be read or written.
+     */
+    public long run(Path script, Path results) throws IOException {
+        games = 0;
+        startLine();
+
+        try (FileChannel channel = FileChannel.open(script, StandardOpenOption.READ);
+             OutputStream out = Files.newOutputStream(results)) {
+            output = out;
+            outputLength = 0;
+            appendAscii(HEADER);
+
+            long size = channel.size();
+            for (long position = 0; position < size; position += WINDOW_SIZE) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        position, Math.min(WINDOW_SIZE, size - position));
+                while (window.hasRemaining()) {
+                    accept(window.get());
+                }
+            }
+
+            acceptToken(parser.finish());
+            endLine();
+            flushOutput();
+        } finally {
+            output = null;
+        }
+
+        return games;
+    }
+
+    /**
+     * Processes next script byte.
+     * @param symbol script byte.
+     * @throws IOException if result can't be written.
+     */
+    private void accept(byte symbol) throws IOException {
+        if (comment) {
+            if (symbol == '\n') {
+                startLine();
+            }
+            return;
+        }
+        if (blank) {
+            if (symbol == '#') {
+                comment = true;
+                return;
+            }
+            blank = NumberParser.isWhitespace(symbol & 0xFF);
+        }
+
+        acceptToken(parser.accept(symbol & 0xFF));
+
+        if (symbol == '\n') {
+            endLine();
+        }
+    }
+
+    /**
+     * Applies finished token to the current game.
+     * @param result token parse result.
+     */
+    private void acceptToken(int result) {
+        if (result == NumberParser.INCOMPLETE) {
+            return;
+        }
+
+        int index = field++;
+        if (index < HEADER_FIELDS) {
+            if (result == NumberParser.NUMBER) {
+                header[index] = parser.getValue();
+            } else {
+                malformed = true;
+                invalid = true;
+            }
+            if (index == HEADER_FIELDS - 1) {
+                startGame();
+            }
+            return;
+        }
+
+        if (invalid || won) {
+            ignored++;
+            return;
+        }
+        if (result != NumberParser.NUMBER) {
+            rejected[GuessValidation.NOT_A_NUMBER.ordinal()]++;
+            return;
+        }
+
+        long value = parser.getValue();
+        GuessValidation validation = model.validateGuess(value);
+        if (validation != GuessValidation.VALID) {
+            rejected[validation.ordinal()]++;
+            return;
+        }
+        won = model.putEnteredNumberAndCheckVictory(value);
+    }
+
+    /**
+     * Starts the game when header is read.
+     */
+    private void startGame() {
+        long min = header[0];
+        long max = header[1];
+        long secret = header[2];
+
+        invalid = invalid || min >= max || secret < min || secret > max;
+        if (!invalid) {
+            model.reset(min, max);
+            model.setGuessesNumber(secret);
+        }
+    }
+
+    /**
+     * Writes the result of the line game if there was one.
+     * @throws IOException if result can't be written.
+     */
+    private void endLine() throws IOException {
+        if (field > 0) {
+            if (field < HEADER_FIELDS) {
+                malformed = true;
+                invalid = true;
+            }
+            writeResult();
+        }
+        startLine();
+    }
+
+    /**
+     * Resets line state and drops the unfinished token.
+     */
+    private void startLine() {
+        parser.reset();
+        field = 0;
+        comment = false;
+        blank = true;
+        invalid = false;
+        malformed = false;
+        won = false;
+        ignored = 0;
+        Arrays.fill(header, 0);
+        Arrays.fill(rejected, 0);
+    }
+
+    /**
+     * Appends CSV line of the current game.
+     * @throws IOException if output can't be written.
+     */
+    private void writeResult() throws IOException {
+        if (outputBuffer.length - outputLength < MAX_LINE_LENGTH) {
+            flushOutput();
+        }
+
+        Outcome outcome = malformed ? Outcome.MALFORMED
+                : invalid ? Outcome.INVALID : won ? Outcome.WON : Outcome.UNFINISHED;
+        appendLong(++games).appendSeparator();
+        appendLong(header[0]).appendSeparator();
+        appendLong(header[1]).appendSeparator();
+        appendLong(header[2]).appendSeparator();
+        appendLong(invalid ? 0 : model.getTries()).appendSeparator();
+        appendLong(rejected[GuessValidation.NOT_A_NUMBER.ordinal()]).appendSeparator();
+        appendLong(rejected[GuessValidation.OUT_OF_BOUNDS.ordinal()]).appendSeparator();
+        appendLong(rejected[GuessValidation.REPEATED.ordinal()]).appendSeparator();
+        appendLong(ignored).appendSeparator();
+        appendAscii(outcome.name());
+        outputBuffer[outputLength++] = '\n';
+    }
+
+    /**
+     * Appends decimal value.
+     * @param value appended value.
+     * @return this runner.
+     */
+    private GuessScriptRunner appendLong(long value) {
+        if (value < 0) {
+            outputBuffer[outputLength++] = '-';
+        } else {
+            value = -value;
+        }
+
+        int count = 0;
+        do {
+            digits[count++] = (byte) ('0' - value % 10);
+            value /= 10;
+        } while (value != 0);
+
+        while (count > 0) {
+            outputBuffer[outputLength++] = digits[--count];
+        }
+        return this;
+    }
+
+    /**
+     * Appends CSV separator.
+     */
+    private void appendSeparator() {
+        outputBuffer[outputLength++] = ',';
+    }
+
+    /**
+     * Appends ASCII text.
+     * @param text appended text.
+     */
+    private void appendAscii(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, outputBuffer, outputLength, bytes.length);
+        outputLength += bytes.length;
+    }
+
+    /**
+     * Writes buffered output.
+     * @throws IOException if output can't be written.
+     */
+    private void flushOutput() throws IOException {
+        output.write(outputBuffer, 0, outputLength);
+        outputLength = 0;
+    }
+}
@@ -0,0 +1,320 @@
+package ua.training.game;
+
+import ua.training.game.random.RandomSource;
+import ua.training.game.random.ThreadLocalRandomSource;
+import ua.training.game.utils.RoaringLongSet;
+import ua.training.game.utils.RunHistory;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Class manages the game data of games
+ * with bounds in the whole long range.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class GuessTheNumberLongModel extends AbstractGuessTheNumberModel {
+
+    /**
+     * Minimal value that uses in the game
+     */
+    private long minBound = Long.MIN_VALUE;
+
+    /**
+     * Maximum value that uses in the game
+     */
+    private long maxBound = Long.MAX_VALUE;
+
+    /**
+     * Contains user's previously entered numbers.
+     * @see RoaringLongSet
+     */
+    private final RoaringLongSet previouslyEnteredNumbers = new RoaringLongSet();
+
+    /**
+     * Last user's entered number
+     */
+    private long lastEnteredNumber = -1;
+
+    /**
+     * The value that need to guess
+     */
+    private long guessesNumber;
+
+    /**
+     * Provides random values for the guessing number.
+     */
+    private final RandomSource randomSource;
+
+    /**
+     * Creates model with default game data
+     */
+    public GuessTheNumberLongModel() {
+        this(ThreadLocalRandomSource.INSTANCE);
+    }
+
+    /**
+     * Creates model with default game data
+     * and specific random source.
+     * @param randomSource source of the guessing number.
+     */
+    public GuessTheNumberLongModel(RandomSource randomSource) {
+        this.randomSource = randomSource;
+    }
+
+    /**
+     * Creates model with specific minimal and
+     * maximum values and random source.
+     * Minimal value must be less than maximum value.
+     * @param minBound minimal game value.
+     * @param maxBound maximum game value.
+     * @param randomSource source of the guessing number.
+     */
+    public GuessTheNumberLongModel(long minBound, long maxBound, RandomSource randomSource) {
+        if (minBound >= maxBound) {
+            throw new IllegalArgumentException("Max bound value can't" +
+                    " be less than min bound");
+        }
+        this.minBound = minBound;
+        this.maxBound = maxBound;
+        this.randomSource = randomSource;
+    }
+
+    /**
+     * Prepares the model for a new game with specific bounds.
+     * History storage is reused.
+     * @param minBound minimal game value.
+     * @param maxBound maximum game value.
+     */
+    void reset(long minBound, long maxBound) {
+        if (minBound >= maxBound) {
+            throw new IllegalArgumentException("Max bound value can't" +
+                    " be less than min bound");
+        }
+        this.minBound = minBound;
+        this.maxBound = maxBound;
+        this.lastEnteredNumber = -1;
+        previouslyEnteredNumbers.clear();
+        historyLine.clear();
+    }
+
+    /**
+     * Creates guessing number.
+     */
+    @Override
+    void createGuessingNumber() {
+        guessesNumber = randomSource.nextLong(minBound, maxBound);
+    }
+
+    /**
+     * Put new entered number and check for victories.
+     * @param enteredNumber last user entered number.
+     * @return check result.
+     */
+    @Override
+    boolean putEnteredNumberAndCheckVictory(long enteredNumber) {
+        if (previouslyEnteredNumbers.add(enteredNumber)) {
+            historyLine.add(enteredNumber, enteredNumber <= guessesNumber);
+        }
+        lastEnteredNumber = enteredNumber;
+        createNewBounds();
+        return lastEnteredNumber == guessesNumber;
+    }
+
+    /**
+     * Creates new bounds considering new inputted value
+     */
+    private void createNewBounds() {
+        if (lastEnteredNumber > guessesNumber) {
+            maxBound = lastEnteredNumber;
+        } else if (lastEnteredNumber < guessesNumber) {
+            minBound = lastEnteredNumber;
+        }
+    }
+
+    /**
+     * Checks can the model store the value.
+     * @param value the value that will be checked.
+     * @return always true.
+     */
+    @Override
+    boolean isRepresentable(long value) {
+        return true;
+    }
+
+    /**
+     * Checks max bound.
+     * @param value max bound candidate.
+     * @return true if value is not less than min bound.
+     */
+    @Override
+    boolean checkMaxBound(long value) {
+        return value >= minBound;
+    }
+
+    /**
+     * Checks is value in bounds.
+     * @param value the value that will be checked.
+     * @return true if value is in bounds.
+     */
+    @Override
+    boolean isInBounds(long value) {
+        return (value >= minBound) && (value <= maxBound);
+    }
+
+    /**
+     * Checks is the value entered repeated.
+     * @param value parameter that will be checked.
+     * @return true if the value was entered before.
+     */
+    @Override
+    boolean isRepeatedEntered(long value) {
+        return previouslyEnteredNumbers.contains(value);
+    }
+
+    /**
+     * Checks is last input value grater than secret value.
+     * @return result.
+     */
+    @Override
+    boolean isLastInputValueGreaterThanGuess() {
+        return lastEnteredNumber > guessesNumber;
+    }
+
+    /**
+     * Sets min bound value.
+     * Min bound can't be greater than current max bound.
+     * @param minBound min bound that will be set.
+     */
+    @Override
+    void setMinBound(long minBound) {
+        if (minBound > this.maxBound) throw new IllegalArgumentException(
+                "Min bound value can't be greater than min bound");
+
+        this.minBound = minBound;
+    }
+
+    /**
+     * Sets max bound value.
+     * Max bound can't be lower than current min bound.
+     * @param maxBound max bound that will be set.
+     */
+    @Override
+    void setMaxBound(long maxBound) {
+        if (this.minBound > maxBound) throw new IllegalArgumentException(
+                "Max bound value can't be less than min bound");
+
+        this.maxBound = maxBound;
+    }
+
+    /**
+     * Gets min bound value.
+     * @return min bound value.
+     */
+    long getMinBound() {
+        return minBound;
+    }
+
+    /**
+     * Gets min bound value.
+     * @return min bound value.
+     */
+    @Override
+    long getLowerBound() {
+        return minBound;
+    }
+
+    /**
+     * Gets max bound value.
+     * @return max bound value.
+     */
+    long getMaxBound() {
+        return maxBound;
+    }
+
+    /**
+     * Gets max bound value.
+     * @return max bound value.
+     */
+    @Override
+    long getUpperBound() {
+        return maxBound;
+    }
+
+    /**
+     * Sets value that need to guess.
+     * @param guessesNumber the number that will be guessed.
+     */
+    void setGuessesNumber(long guessesNumber) {
+        this.guessesNumber = guessesNumber;
+    }
+
+    /**
+     * Gets value that need to guess.
+     * @return guesses number.
+     */
+    @Override
+    long getSecretNumber() {
+        return guessesNumber;
+    }
+
+    /**
+     * Gets last entered number.
+     * @return last entered number.
+     */
+    @Override
+    long getLastGuess() {
+        return lastEnteredNumber;
+    }
+
+    /**
+     * Sets last entered number.
+     * @param lastEnteredNumber last entered number.
+     */
+    void setLastEnteredNumber(long lastEnteredNumber) {
+        this.lastEnteredNumber = lastEnteredNumber;
+    }
+
+    /**
+     * Gets Sorted set of previous entered values.
+     * @return set of previous entered values.
+     */
+    RoaringLongSet getPreviouslyEnteredNumbers() {
+        return previouslyEnteredNumbers;
+    }
+
+    /**
+     * Passes every previously entered value in ascending order.
+     * @param consumer receives entered values.
+     */
+    @Override
+    void forEachEnteredNumber(LongConsumer consumer) {
+        previouslyEnteredNumbers.forEach(consumer::accept);
+    }
+
+    /**
+     * Gets previously entered values in ascending order.
+     * The string is updated by each guess and rebuilt
+     * only if values were added out of the game order.
+     * @return string representation of entered values.
+     * @see RunHistory
+     */
+    @Override
+    String getPreviouslyEnteredNumbersString() {
+        if (!historyLine.isCurrent(previouslyEnteredNumbers.size())) {
+            historyLine.clear();
+            previouslyEnteredNumbers.forEach(value -> historyLine.addSorted(value, value <= guessesNumber));
+        }
+        return historyLine.toString();
+    }
+
+    /**
+     * Gets tries counts.
+     * @return tries count.
+     */
+    @Override
+    int getTries() {
+        return previouslyEnteredNumbers.size();
+    }
+}
@@ -1,16 +1,19 @@
 package ua.training.game;
 
-import java.util.Random;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import ua.training.game.random.RandomSource;
+import ua.training.game.random.ThreadLocalRandomSource;
+import ua.training.game.utils.RoaringIntSet;
+import ua.training.game.utils.RunHistory;
+
+import java.util.function.LongConsumer;
 
 /**
  * Class manages the game data.
  *
- * @version 1.0 04 Apr 2019
+ * @version 1.1 17 Oct 2026
  * @author  Igor Klapantjuk
  */
-public class GuessTheNumberModel {
+public class GuessTheNumberModel extends AbstractGuessTheNumberModel {
     /**
      * Standard minimal value
      */
@@ -33,9 +36,9 @@ public class GuessTheNumberModel {
 
     /**
      * Contains user's previously entered numbers.
-     * @see TreeSet
+     * @see RoaringIntSet
      */
-    private TreeSet<Integer> previouslyEnteredNumbers = new TreeSet<>();
+    private final RoaringIntSet previouslyEnteredNumbers = new RoaringIntSet();
 
     /**
      * Last user's entered number
@@ -47,11 +50,25 @@ public class GuessTheNumberModel {
      */
     private int guessesNumber;
 
+    /**
+     * Provides random values for the guessing number.
+     */
+    private final RandomSource randomSource;
+
     /**
      * Creates model with default game data
      */
     public GuessTheNumberModel() {
+        this(ThreadLocalRandomSource.INSTANCE);
+    }
 
+    /**
+     * Creates model with default game data
+     * and specific random source.
+     * @param randomSource source of the guessing number.
+     */
+    public GuessTheNumberModel(RandomSource randomSource) {
+        this.randomSource = randomSource;
     }
 
     /**
@@ -62,17 +79,49 @@ public class GuessTheNumberModel {
      * @param maxBound maximum game value.
      */
     public GuessTheNumberModel(int minBound, int maxBound) {
+        this(minBound, maxBound, ThreadLocalRandomSource.INSTANCE);
+    }
+
+    /**
+     * Creates model with specific minimal and
+     * maximum values and random source.
+     * Minimal value must be less than maximum value.
+     * @param minBound minimal game value.
+     * @param maxBound maximum game value.
+     * @param randomSource source of the guessing number.
+     */
+    public GuessTheNumberModel(int minBound, int maxBound, RandomSource randomSource) {
         if (minBound >= maxBound) {
             throw new IllegalArgumentException("Max bound value can't" +
                     " be less than min bound");
         }
         this.minBound = minBound;
         this.maxBound = maxBound;
+        this.randomSource = randomSource;
+    }
+
+    /**
+     * Prepares the model for a new game with specific bounds.
+     * History storage is reused.
+     * @param minBound minimal game value.
+     * @param maxBound maximum game value.
+     */
+    void reset(int minBound, int maxBound) {
+        if (minBound >= maxBound) {
+            throw new IllegalArgumentException("Max bound value can't" +
+                    " be less than min bound");
+        }
+        this.minBound = minBound;
+        this.maxBound = maxBound;
+        this.lastEnteredNumber = -1;
+        previouslyEnteredNumbers.clear();
+        historyLine.clear();
     }
 
     /**
      * Creates guessing number.
      */
+    @Override
     void createGuessingNumber() {
         guessesNumber = rand(minBound, maxBound);
     }
@@ -83,12 +132,24 @@ public class GuessTheNumberModel {
      * @return check result.
      */
     boolean putEnteredNumberAndCheckVictory(int enteredNumber) {
-        previouslyEnteredNumbers.add(enteredNumber);
+        if (previouslyEnteredNumbers.add(enteredNumber)) {
+            historyLine.add(enteredNumber, enteredNumber <= guessesNumber);
+        }
         lastEnteredNumber = enteredNumber;
         createNewBounds();
         return checkVictory();
     }
 
+    /**
+     * Put new entered number and check for victories.
+     * @param enteredNumber last user entered number in int range.
+     * @return check result.
+     */
+    @Override
+    boolean putEnteredNumberAndCheckVictory(long enteredNumber) {
+        return putEnteredNumberAndCheckVictory(toInt(enteredNumber));
+    }
+
     /**
      * Creates new bounds considering new inputted value
      */
@@ -115,6 +176,38 @@ public class GuessTheNumberModel {
         return value >= minBound;
     }
 
+    /**
+     * Checks max bound.
+     * @param value max bound candidate.
+     * @return true if value is in int range and not less than min bound.
+     */
+    @Override
+    boolean checkMaxBound(long value) {
+        return isRepresentable(value) && checkMaxBound((int) value);
+    }
+
+    /**
+     * Checks can the model store the value.
+     * @param value the value that will be checked.
+     * @return true if value is in int range.
+     */
+    @Override
+    boolean isRepresentable(long value) {
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Converts the value to int.
+     * @param value the value in int range.
+     * @return int value.
+     */
+    private static int toInt(long value) {
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Value is out of int range");
+        }
+        return (int) value;
+    }
+
     /**
      * Returns random value
      * in interval [min, max].
@@ -123,9 +216,7 @@ public class GuessTheNumberModel {
      * @return random value
      */
     private int rand(int min, int max) {
-        Random r = new Random();
-
-        return r.nextInt((max - min) + 1) + min;
+        return randomSource.nextInt(min, max);
     }
 
     /**
@@ -137,6 +228,16 @@ public class GuessTheNumberModel {
         return (value >= minBound) && (value <= maxBound);
     }
 
+    /**
+     * Checks is value in bounds.
+     * @param value the value that will be checked.
+     * @return true if value is in bounds.
+     */
+    @Override
+    boolean isInBounds(long value) {
+        return (value >= minBound) && (value <= maxBound);
+    }
+
     /**
      * Checks is the value entered repeated.
      * @param value parameter that will be checked.
@@ -146,10 +247,21 @@ public class GuessTheNumberModel {
         return previouslyEnteredNumbers.contains(value);
     }
 
+    /**
+     * Checks is the value entered repeated.
+     * @param value parameter that will be checked.
+     * @return true if the value was entered before.
+     */
+    @Override
+    boolean isRepeatedEntered(long value) {
+        return isRepresentable(value) && isRepeatedEntered((int) value);
+    }
+
     /**
      * Checks is last input value grater than secret value.
      * @return result.
      */
+    @Override
     boolean isLastInputValueGreaterThanGuess() {
         return lastEnteredNumber > guessesNumber;
     }
@@ -166,6 +278,15 @@ public class GuessTheNumberModel {
         this.maxBound = maxBound;
     }
 
+    /**
+     * Sets max bound value.
+     * @param maxBound max bound in int range.
+     */
+    @Override
+    void setMaxBound(long maxBound) {
+        setMaxBound(toInt(maxBound));
+    }
+
     /**
      * Gets max bound value.
      * @return max bound value.
@@ -174,6 +295,15 @@ public class GuessTheNumberModel {
         return this.maxBound;
     }
 
+    /**
+     * Gets max bound value.
+     * @return max bound value.
+     */
+    @Override
+    long getUpperBound() {
+        return this.maxBound;
+    }
+
     /**
      * Sets min bound value.
      * Min bound can't be greater than current max bound.
@@ -186,6 +316,15 @@ public class GuessTheNumberModel {
         this.minBound = minBound;
     }
 
+    /**
+     * Sets min bound value.
+     * @param minBound min bound in int range.
+     */
+    @Override
+    void setMinBound(long minBound) {
+        setMinBound(toInt(minBound));
+    }
+
     /**
      * Gets min bound value.
      * @return min bound value.
@@ -195,13 +334,50 @@ public class GuessTheNumberModel {
     }
 
     /**
-     * Gets Sorted set of previous entered values.
+     * Gets min bound value.
+     * @return min bound value.
+     */
+    @Override
+    long getLowerBound() {
+        return this.minBound;
+    }
+
+    /**
+     * Gets set of previous entered values, it iterates them in ascending order.
+     * Since version 1.1 it is {@link RoaringIntSet} instead of
+     * {@code SortedSet<Integer>}, it has add, contains, size and forEach,
+     * but no range views and no boxed iteration.
      * @return set of previous entered values.
      */
-    SortedSet<Integer> getPreviouslyEnteredNumbers() {
+    RoaringIntSet getPreviouslyEnteredNumbers() {
         return previouslyEnteredNumbers;
     }
 
+    /**
+     * Passes every previously entered value in ascending order.
+     * @param consumer receives entered values.
+     */
+    @Override
+    void forEachEnteredNumber(LongConsumer consumer) {
+        previouslyEnteredNumbers.forEach(consumer::accept);
+    }
+
+    /**
+     * Gets previously entered values in ascending order.
+     * The string is updated by each guess and rebuilt
+     * only if values were added out of the game order.
+     * @return string representation of entered values.
+     * @see RunHistory
+     */
+    @Override
+    String getPreviouslyEnteredNumbersString() {
+        if (!historyLine.isCurrent(previouslyEnteredNumbers.size())) {
+            historyLine.clear();
+            previouslyEnteredNumbers.forEach(value -> historyLine.addSorted(value, value <= guessesNumber));
+        }
+        return historyLine.toString();
+    }
+
     /**
      * Sets value that need to guess.
      * The value must be in
@@ -221,6 +397,15 @@ public class GuessTheNumberModel {
         return guessesNumber;
     }
 
+    /**
+     * Gets value that need to guess.
+     * @return guesses number.
+     */
+    @Override
+    long getSecretNumber() {
+        return guessesNumber;
+    }
+
     /**
      * Gets last entered number.
      * @return last entered number.
@@ -229,10 +414,28 @@ public class GuessTheNumberModel {
         return lastEnteredNumber;
     }
 
+    /**
+     * Sets last entered number.
+     * @param lastEnteredNumber last entered number.
+     */
+    void setLastEnteredNumber(int lastEnteredNumber) {
+        this.lastEnteredNumber = lastEnteredNumber;
+    }
+
+    /**
+     * Gets last entered number.
+     * @return last entered number.
+     */
+    @Override
+    long getLastGuess() {
+        return lastEnteredNumber;
+    }
+
     /**
      * Gets tries counts.
      * @return tries count.
      */
+    @Override
     int getTries() {
         return previouslyEnteredNumbers.size();
     }
@@ -0,0 +1,178 @@
+package ua.training.game;
+
+import ua.training.game.random.SplittableRandomSource;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays games without user dialog using a guessing strategy.
+ * Games are split between fork/join workers, each leaf task
+ * has its own random source and reuses one model,
+ * so nothing is allocated per game.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class GuessTheNumberSimulator {
+
+    /**
+     * Count of histogram buckets, the last one collects longer games.
+     */
+    static final int HISTOGRAM_SIZE = 128;
+
+    /**
+     * Leaf tasks per pool thread, to balance uneven games.
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    /**
+     * Runs simulation tasks.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates simulator that uses common fork/join pool.
+     */
+    public GuessTheNumberSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates simulator.
+     * @param pool pool that runs games.
+     */
+    public GuessTheNumberSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Plays games.
+     * @param games count of games.
+     * @param minBound minimal game value.
+     * @param maxBound maximum game value.
+     * @param strategy strategy of all players.
+     * @param seed seed of random sources, equal seeds play equal games.
+     * @return report of the games.
+     */
+    public SimulationReport run(long games, int minBound, int maxBound,
+                                GuessingStrategy strategy, long seed) {
+        if (minBound >= maxBound) {
+            throw new IllegalArgumentException("Max bound value can't" +
+                    " be less than min bound");
+        }
+
+        long threshold = Math.max(1, games / ((long) pool.getParallelism() * TASKS_PER_THREAD));
+        long start = System.nanoTime();
+        GamesResult result = pool.invoke(new GamesTask(games, threshold, minBound, maxBound,
+                strategy, new SplittableRandomSource(seed)));
+
+        return new SimulationReport(result.histogram, result.totalTries, result.maxTries,
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Plays one game.
+     * @param model model reused by the games of the task.
+     * @param minBound minimal game value.
+     * @param maxBound maximum game value.
+     * @param strategy player strategy.
+     * @param random random source of the task.
+     * @return tries count.
+     */
+    static int playGame(GuessTheNumberModel model, int minBound, int maxBound,
+                        GuessingStrategy strategy, SplittableRandomSource random) {
+        model.reset(minBound, maxBound);
+        model.createGuessingNumber();
+
+        boolean lowGuessed = false;
+        boolean highGuessed = false;
+
+        while (true) {
+            long low = model.getMinBound() + (lowGuessed ? 1 : 0);
+            long high = model.getMaxBound() - (highGuessed ? 1 : 0);
+
+            if (model.putEnteredNumberAndCheckVictory((int) strategy.nextGuess(low, high, random))) {
+                return model.getTries();
+            }
+
+            if (model.isLastInputValueGreaterThanGuess()) {
+                highGuessed = true;
+            } else {
+                lowGuessed = true;
+            }
+        }
+    }
+
+    /**
+     * Accumulated result of the games.
+     */
+    private static final class GamesResult {
+        private final long[] histogram = new long[HISTOGRAM_SIZE];
+        private long totalTries;
+        private int maxTries;
+
+        private void add(int tries) {
+            histogram[Math.min(tries, HISTOGRAM_SIZE - 1)]++;
+            totalTries += tries;
+            maxTries = Math.max(maxTries, tries);
+        }
+
+        private GamesResult merge(GamesResult other) {
+            for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+                histogram[i] += other.histogram[i];
+            }
+            totalTries += other.totalTries;
+            maxTries = Math.max(maxTries, other.maxTries);
+            return this;
+        }
+    }
+
+    /**
+     * Plays games or splits them between subtasks.
+     */
+    private static final class GamesTask extends RecursiveTask<GamesResult> {
+
+        /**
+         * Serial version of the task.
+         */
+        private static final long serialVersionUID = 1L;
+
+        private final long games;
+        private final long threshold;
+        private final int minBound;
+        private final int maxBound;
+        private final GuessingStrategy strategy;
+        private final SplittableRandomSource random;
+
+        private GamesTask(long games, long threshold, int minBound, int maxBound,
+                          GuessingStrategy strategy, SplittableRandomSource random) {
+            this.games = games;
+            this.threshold = threshold;
+            this.minBound = minBound;
+            this.maxBound = maxBound;
+            this.strategy = strategy;
+            this.random = random;
+        }
+
+        @Override
+        protected GamesResult compute() {
+            if (games > threshold) {
+                long half = games / 2;
+                GamesTask left = new GamesTask(half, threshold, minBound, maxBound,
+                        strategy, random.split());
+                left.fork();
+                GamesResult right = new GamesTask(games - half, threshold, minBound, maxBound,
+                        strategy, random).compute();
+                return right.merge(left.join());
+            }
+
+            GamesResult result = new GamesResult();
+            GuessTheNumberModel model = new GuessTheNumberModel(random);
+            for (long i = 0; i < games; i++) {
+                result.add(playGame(model, minBound, maxBound, strategy, random));
+            }
+            return result;
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package ua.training.game;
 
+import ua.training.game.utils.InputTokenizer;
+import ua.training.game.utils.MessageTemplate;
 import ua.training.game.utils.ResourceManager;
+import ua.training.game.utils.TurnOutputBuffer;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Locale;
-import java.util.Scanner;
 
 /**
  * Provides user interface.
@@ -114,12 +118,18 @@ public class GuessTheNumberView {
     /**
      * Reads user input
      */
-    private Scanner readInput;
+    private InputTokenizer readInput;
 
     /**
      * Outputs game information
      */
-    private PrintStream outputGameInformation;
+    private OutputStream outputGameInformation;
+
+    /**
+     * Collects game information of the turn
+     * until the user input is requested.
+     */
+    private TurnOutputBuffer turnOutput = new TurnOutputBuffer(Charset.defaultCharset());
 
     /**
      * Provides user dialog resources
@@ -127,9 +137,14 @@ public class GuessTheNumberView {
     private ResourceManager dialogResource;
 
     /**
-     * Input stream that is used in waitKeyPress.
+     * Compiled dialog values by {@link DialogValue} ordinal.
+     */
+    private final MessageTemplate[] templates = new MessageTemplate[DialogValue.values().length];
+
+    /**
+     * Reusable dialog message.
      */
-    private InputStream inStream;
+    private final DialogLine dialogLine = new DialogLine();
 
     /**
      * View length.
@@ -144,19 +159,29 @@ public class GuessTheNumberView {
      */
     public GuessTheNumberView(InputStream inStream, OutputStream outStream,
                               ResourceManager resources, int viewSize) {
-        this.inStream = inStream;
-        this.readInput = new Scanner(this.inStream);
-        this.outputGameInformation = new PrintStream(outStream);
+        this.readInput = new InputTokenizer(inStream);
+        this.outputGameInformation = outStream;
         this.dialogResource = resources;
         this.viewSize = viewSize;
     }
 
+    /**
+     * Creates view that only prints,
+     * the input is passed to {@link GameSession} by its owner.
+     * @param outStream output stream for game information.
+     * @param resources game message resource.
+     * @param viewSize view length.
+     */
+    public GuessTheNumberView(OutputStream outStream, ResourceManager resources, int viewSize) {
+        this(new ByteArrayInputStream(new byte[0]), outStream, resources, viewSize);
+    }
+
     /**
      * Prints the message and carry line.
      * @param message the message that will be printed.
      */
     void printMessageLn(String message) {
-        outputGameInformation.println(message);
+        turnOutput.append(message).newLine();
     }
 
     /**
@@ -168,7 +193,7 @@ public class GuessTheNumberView {
     void printMessageLn(String message, AlignPolicy policy) {
         createAlign(policy, message.length());
 
-        outputGameInformation.println(message);
+        turnOutput.append(message).newLine();
     }
 
     /**
@@ -180,26 +205,49 @@ public class GuessTheNumberView {
     void printMessage(String message, AlignPolicy policy) {
         createAlign(policy, message.length());
 
-        outputGameInformation.print(message);
+        turnOutput.append(message);
+    }
+
+    /**
+     * Reads the next input token as a number.
+     * @return true if the token is a number in long range,
+     * see {@link #getReadNumber()}.
+     * @throws java.util.NoSuchElementException if input is exhausted.
+     */
+    boolean readNumber() {
+        flush();
+        return readInput.nextNumber();
     }
 
     /**
-     * Reads the string.
-     * @return the read string.
+     * Gets the last number read by {@link #readNumber()}.
+     * @return read number.
      */
-    String readString() {
-        return readInput.next();
+    long getReadNumber() {
+        return readInput.getValue();
     }
 
     /**
      * Reads the line.
+     * Only the current line is consumed, so the input
+     * that was sent ahead (e.g. through the socket) is kept.
      */
     void waitKeyPress() {
+        flush();
+        readInput.skipLine();
+    }
+
+    /**
+     * Sends printed messages to the output stream
+     * by a single write. It is called before waiting
+     * for the user input and at the end of the game.
+     * @throws UncheckedIOException if messages can't be written.
+     */
+    void flush() {
         try {
-            inStream.read();
-            inStream.skip(inStream.available());
+            turnOutput.writeTo(outputGameInformation);
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -211,15 +259,19 @@ public class GuessTheNumberView {
      * @return value associated with {@link DialogValue}.
      */
     String getDialogValue(DialogValue value, Locale locale, String ... strings) {
-        String resourceValue = dialogResource.getString(value.name());
-
-        dialogResource.changeResource(locale);
-
-        if (strings.length > 0) {
-            resourceValue = String.format(resourceValue, strings);
-        }
+        return dialogResource.forLocale(locale)
+                .getTemplate(value.name())
+                .format(strings);
+    }
 
-        return resourceValue;
+    /**
+     * Binds the view to the locale.
+     * Resources shared with other views are not changed.
+     * @param locale locale of the dialog.
+     */
+    void setLocale(Locale locale) {
+        dialogResource = dialogResource.forLocale(locale);
+        Arrays.fill(templates, null);
     }
 
     /**
@@ -229,13 +281,34 @@ public class GuessTheNumberView {
      * @return value associated with {@link DialogValue}.
      */
     String getDialogValue(DialogValue value, String ... strings) {
-        String resourceValue = dialogResource.getString(value.name());
+        return getTemplate(value).format(strings);
+    }
+
+    /**
+     * Starts dialog message that is rendered straight
+     * into the view buffer. The returned object is reused
+     * by the next call.
+     * @param value type of the message.
+     * @return dialog message.
+     */
+    DialogLine dialog(DialogValue value) {
+        return dialogLine.start(getTemplate(value));
+    }
 
-        if (strings.length > 0) {
-            resourceValue = String.format(resourceValue, strings);
+    /**
+     * Gets compiled dialog value.
+     * @param value type of value that will be returned.
+     * @return template associated with {@link DialogValue}.
+     */
+    private MessageTemplate getTemplate(DialogValue value) {
+        MessageTemplate template = templates[value.ordinal()];
+
+        if (template == null) {
+            template = dialogResource.getTemplate(value.ordinal(), value.name());
+            templates[value.ordinal()] = template;
         }
 
-        return resourceValue;
+        return template;
     }
 
     public int getViewSize() {
@@ -248,25 +321,124 @@ public class GuessTheNumberView {
 
     /**
      * Creates align.
+     * Messages longer than the view are not padded.
      */
     private void createAlign(AlignPolicy policy, int messageLength) {
-        char [] fillArr;
-
         switch (policy) {
             case LEFT:
                 break;
             case CENTER:
-                fillArr = new char[(viewSize - messageLength)/2];
-                Arrays.fill(fillArr, ' ');
-                outputGameInformation.print(fillArr);
+                turnOutput.appendPadding((viewSize - messageLength)/2);
                 break;
             case RIGHT:
-                fillArr = new char[viewSize - messageLength];
-                Arrays.fill(fillArr, ' ');
-                outputGameInformation.print(fillArr);
+                turnOutput.appendPadding(viewSize - messageLength);
                 break;
             default:
                 throw new IllegalArgumentException("Wrong align policy.");
         }
     }
+
+    /**
+     * Dialog message with arguments appended in place.
+     */
+    final class DialogLine {
+
+        /**
+         * Rendered message.
+         */
+        private final StringBuilder text = new StringBuilder();
+
+        /**
+         * Message template.
+         */
+        private MessageTemplate template;
+
+        /**
+         * Index of the literal that follows current argument.
+         */
+        private int nextLiteral;
+
+        /**
+         * Starts new message.
+         * @param template message template.
+         * @return this message.
+         */
+        private DialogLine start(MessageTemplate template) {
+            this.template = template;
+            this.nextLiteral = 1;
+            text.setLength(0);
+            text.append(template.getLiteral(0));
+            return this;
+        }
+
+        /**
+         * Appends part of the current argument.
+         * @param value argument part.
+         * @return this message.
+         */
+        DialogLine append(CharSequence value) {
+            text.append(value);
+            return this;
+        }
+
+        /**
+         * Appends part of the current argument.
+         * @param value argument part.
+         * @return this message.
+         */
+        DialogLine append(long value) {
+            text.append(value);
+            return this;
+        }
+
+        /**
+         * Appends the last part of the current argument.
+         * @param value argument part.
+         * @return this message.
+         */
+        DialogLine arg(CharSequence value) {
+            return append(value).endArgument();
+        }
+
+        /**
+         * Appends the last part of the current argument.
+         * @param value argument part.
+         * @return this message.
+         */
+        DialogLine arg(long value) {
+            return append(value).endArgument();
+        }
+
+        /**
+         * Prints the message and align text and carry line.
+         * @param policy align policy that will be used.
+         */
+        void printLn(AlignPolicy policy) {
+            checkArguments();
+            createAlign(policy, text.length());
+            turnOutput.append(text).newLine();
+        }
+
+        /**
+         * Finishes the current argument.
+         * @return this message.
+         */
+        private DialogLine endArgument() {
+            if (nextLiteral > template.getArgumentsCount()) {
+                throw new IllegalStateException("Too many arguments");
+            }
+            text.append(template.getLiteral(nextLiteral++));
+            return this;
+        }
+
+        /**
+         * Checks that all arguments are set.
+         */
+        private void checkArguments() {
+            if (nextLiteral <= template.getArgumentsCount()) {
+                throw new IllegalStateException("Template requires "
+                        + template.getArgumentsCount() + " arguments");
+            }
+        }
+    }
 }
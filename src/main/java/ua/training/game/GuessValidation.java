@@ -0,0 +1,29 @@
+package ua.training.game;
+
+/**
+ * Result of the inputted guess validation.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public enum GuessValidation {
+    /**
+     * The guess is accepted.
+     */
+    VALID,
+
+    /**
+     * The input is not an integer number.
+     */
+    NOT_A_NUMBER,
+
+    /**
+     * The value is out of the current interval.
+     */
+    OUT_OF_BOUNDS,
+
+    /**
+     * The value was entered before.
+     */
+    REPEATED
+}
@@ -0,0 +1,43 @@
+package ua.training.game;
+
+import ua.training.game.random.RandomSource;
+
+/**
+ * Standard strategies of simulated players.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public enum GuessingStrategies implements GuessingStrategy {
+    /**
+     * Always guesses the middle of the interval.
+     */
+    BINARY_SEARCH {
+        @Override
+        public long nextGuess(long low, long high, RandomSource random) {
+            return low + ((high - low) >>> 1);
+        }
+    },
+
+    /**
+     * Guesses uniformly distributed value of the interval.
+     */
+    RANDOM {
+        @Override
+        public long nextGuess(long low, long high, RandomSource random) {
+            return random.nextLong(low, high);
+        }
+    },
+
+    /**
+     * Guesses near the first third of the interval,
+     * as players do who prefer small numbers.
+     */
+    BIASED {
+        @Override
+        public long nextGuess(long low, long high, RandomSource random) {
+            long third = ((high - low) >>> 1) / 3 * 2;
+            return low + third + random.nextLong(0, third >>> 2);
+        }
+    }
+}
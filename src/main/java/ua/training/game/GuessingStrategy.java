@@ -0,0 +1,22 @@
+package ua.training.game;
+
+import ua.training.game.random.RandomSource;
+
+/**
+ * Chooses the next guess of a simulated player.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+@FunctionalInterface
+public interface GuessingStrategy {
+
+    /**
+     * Chooses the next guess.
+     * @param low lowest value that wasn't excluded yet.
+     * @param high highest value that wasn't excluded yet.
+     * @param random random source of the player.
+     * @return value in interval [low, high].
+     */
+    long nextGuess(long low, long high, RandomSource random);
+}
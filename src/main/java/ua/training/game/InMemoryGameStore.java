@@ -0,0 +1,56 @@
+package ua.training.game;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Game store that keeps all games in memory.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class InMemoryGameStore implements GameStore {
+
+    /**
+     * Games by id.
+     */
+    private final ConcurrentHashMap<Long, AbstractGuessTheNumberModel> games = new ConcurrentHashMap<>();
+
+    /**
+     * Gets stored game.
+     * @param id game id.
+     * @return game model or null if there is no such game.
+     */
+    @Override
+    public AbstractGuessTheNumberModel get(long id) {
+        return games.get(id);
+    }
+
+    /**
+     * Stores the game.
+     * @param id game id.
+     * @param model game model.
+     */
+    @Override
+    public void put(long id, AbstractGuessTheNumberModel model) {
+        games.put(id, model);
+    }
+
+    /**
+     * Removes the game.
+     * @param id game id.
+     * @return false if there was no such game.
+     */
+    @Override
+    public boolean remove(long id) {
+        return games.remove(id) != null;
+    }
+
+    /**
+     * Gets count of stored games.
+     * @return games count.
+     */
+    @Override
+    public int size() {
+        return games.size();
+    }
+}
@@ -0,0 +1,365 @@
+package ua.training.game;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Saves and restores game model state in compact binary form.
+ * Snapshot layout, version 1:
+ * <pre>
+ * version   byte
+ * model     byte, 0 for {@link GuessTheNumberModel}, 1 for {@link GuessTheNumberLongModel}
+ * minBound  zigzag varint
+ * maxBound  zigzag varint
+ * secret    zigzag varint
+ * lastGuess zigzag varint
+ * count     varint, count of entered values
+ * history   first value as zigzag varint, then for each next
+ *           value varint of (value - previous - 1)
+ * </pre>
+ * History is sorted and has no duplicates, so the deltas
+ * are non negative and usually take one byte each.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class ModelSnapshot {
+
+    /**
+     * Current snapshot format version.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Model type of {@link GuessTheNumberModel}.
+     */
+    static final byte INT_MODEL = 0;
+
+    /**
+     * Model type of {@link GuessTheNumberLongModel}.
+     */
+    static final byte LONG_MODEL = 1;
+
+    /**
+     * Utility class.
+     */
+    private ModelSnapshot() {
+    }
+
+    /**
+     * Saves model state.
+     * @param model saved model.
+     * @return snapshot bytes.
+     */
+    public static byte[] save(AbstractGuessTheNumberModel model) {
+        Encoder encoder = new Encoder();
+        encoder.writeByte(VERSION);
+
+        if (model instanceof GuessTheNumberModel) {
+            GuessTheNumberModel intModel = (GuessTheNumberModel) model;
+            encoder.writeByte(INT_MODEL);
+            encoder.writeState(intModel.getMinBound(), intModel.getMaxBound(),
+                    intModel.getGuessesNumber(), intModel.getLastEnteredNumber(),
+                    intModel.getPreviouslyEnteredNumbers().size());
+            intModel.getPreviouslyEnteredNumbers().forEach(encoder::writeHistoryValue);
+        } else if (model instanceof GuessTheNumberLongModel) {
+            GuessTheNumberLongModel longModel = (GuessTheNumberLongModel) model;
+            encoder.writeByte(LONG_MODEL);
+            encoder.writeState(longModel.getMinBound(), longModel.getMaxBound(),
+                    longModel.getSecretNumber(), longModel.getLastGuess(),
+                    longModel.getPreviouslyEnteredNumbers().size());
+            longModel.getPreviouslyEnteredNumbers().forEach(encoder::writeHistoryValue);
+        } else {
+            throw new IllegalArgumentException("Unsupported model " + model.getClass().getName());
+        }
+
+        return encoder.toByteArray();
+    }
+
+    /**
+     * Restores model from the snapshot.
+     * @param snapshot snapshot bytes.
+     * @return model of the saved type and state.
+     * @throws IllegalArgumentException if snapshot is corrupted
+     * or has unsupported version.
+     */
+    public static AbstractGuessTheNumberModel restore(byte[] snapshot) {
+        Decoder decoder = new Decoder(snapshot);
+
+        int version = decoder.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version " + version);
+        }
+
+        AbstractGuessTheNumberModel model;
+        int type = decoder.readByte();
+        if (type == INT_MODEL) {
+            model = restoreIntModel(decoder);
+        } else if (type == LONG_MODEL) {
+            model = restoreLongModel(decoder);
+        } else {
+            throw new IllegalArgumentException("Unknown model type " + type);
+        }
+
+        if (decoder.position != snapshot.length) {
+            throw new IllegalArgumentException("Snapshot has trailing bytes");
+        }
+        return model;
+    }
+
+    /**
+     * Restores int model state.
+     * @param decoder snapshot decoder.
+     * @return restored model.
+     */
+    private static GuessTheNumberModel restoreIntModel(Decoder decoder) {
+        GuessTheNumberModel model = new GuessTheNumberModel();
+        model.setMinBound(decoder.readInt());
+        model.setMaxBound(decoder.readInt());
+        model.setGuessesNumber(decoder.readInt());
+        model.setLastEnteredNumber(decoder.readInt());
+
+        decoder.readHistory(new IntHistory(model));
+        return model;
+    }
+
+    /**
+     * Restores long model state.
+     * @param decoder snapshot decoder.
+     * @return restored model.
+     */
+    private static GuessTheNumberLongModel restoreLongModel(Decoder decoder) {
+        GuessTheNumberLongModel model = new GuessTheNumberLongModel();
+        model.setMinBound(decoder.readSigned());
+        model.setMaxBound(decoder.readSigned());
+        model.setGuessesNumber(decoder.readSigned());
+        model.setLastEnteredNumber(decoder.readSigned());
+
+        decoder.readHistory(value -> model.getPreviouslyEnteredNumbers().add(value));
+        return model;
+    }
+
+    /**
+     * Adds restored values to int model history.
+     */
+    private static final class IntHistory implements LongConsumer {
+
+        /**
+         * Restored model.
+         */
+        private final GuessTheNumberModel model;
+
+        /**
+         * Creates history consumer.
+         * @param model restored model.
+         */
+        IntHistory(GuessTheNumberModel model) {
+            this.model = model;
+        }
+
+        /**
+         * Adds value in int range to the history.
+         * @param value restored value.
+         */
+        @Override
+        public void accept(long value) {
+            if (!model.isRepresentable(value)) {
+                throw new IllegalArgumentException("History value is out of int range");
+            }
+            model.getPreviouslyEnteredNumbers().add((int) value);
+        }
+    }
+
+    /**
+     * Writes varints into growing array.
+     */
+    private static final class Encoder {
+
+        /**
+         * Encoded bytes.
+         */
+        private byte[] buffer = new byte[32];
+
+        /**
+         * Count of encoded bytes.
+         */
+        private int length;
+
+        /**
+         * Count of written history values.
+         */
+        private int historyCount;
+
+        /**
+         * Last written history value.
+         */
+        private long previous;
+
+        /**
+         * Writes model fields and history size.
+         * @param minBound min bound.
+         * @param maxBound max bound.
+         * @param secret secret number.
+         * @param lastGuess last entered number.
+         * @param count history size.
+         */
+        void writeState(long minBound, long maxBound, long secret, long lastGuess, int count) {
+            ensureCapacity(4 * 10 + 5 + count * 2);
+            writeSigned(minBound);
+            writeSigned(maxBound);
+            writeSigned(secret);
+            writeSigned(lastGuess);
+            writeUnsigned(count);
+        }
+
+        /**
+         * Writes next history value in ascending order.
+         * @param value history value.
+         */
+        void writeHistoryValue(long value) {
+            ensureCapacity(10);
+            if (historyCount++ == 0) {
+                writeSigned(value);
+            } else {
+                writeUnsigned(value - previous - 1);
+            }
+            previous = value;
+        }
+
+        /**
+         * Writes one byte.
+         * @param value byte value.
+         */
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[length++] = (byte) value;
+        }
+
+        /**
+         * Writes zigzag varint.
+         * @param value signed value.
+         */
+        private void writeSigned(long value) {
+            writeUnsigned((value << 1) ^ (value >> 63));
+        }
+
+        /**
+         * Writes varint, 7 bits per byte, low bits first.
+         * @param value unsigned value.
+         */
+        private void writeUnsigned(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        /**
+         * Grows buffer to fit more bytes.
+         * @param bytes count of bytes that will be written.
+         */
+        private void ensureCapacity(int bytes) {
+            if (buffer.length - length < bytes) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + bytes));
+            }
+        }
+
+        /**
+         * Gets encoded bytes.
+         * @return snapshot.
+         */
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+
+    /**
+     * Reads varints from the snapshot.
+     */
+    private static final class Decoder {
+
+        /**
+         * Snapshot bytes.
+         */
+        private final byte[] buffer;
+
+        /**
+         * Position of the next byte.
+         */
+        private int position;
+
+        /**
+         * Creates decoder.
+         * @param buffer snapshot bytes.
+         */
+        Decoder(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Reads one byte.
+         * @return unsigned byte value.
+         */
+        int readByte() {
+            if (position == buffer.length) {
+                throw new IllegalArgumentException("Snapshot is truncated");
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        /**
+         * Reads zigzag varint in int range.
+         * @return int value.
+         */
+        int readInt() {
+            long value = readSigned();
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Value is out of int range");
+            }
+            return (int) value;
+        }
+
+        /**
+         * Reads zigzag varint.
+         * @return signed value.
+         */
+        long readSigned() {
+            long value = readUnsigned();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        /**
+         * Reads varint.
+         * @return unsigned value.
+         */
+        long readUnsigned() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Varint is too long");
+        }
+
+        /**
+         * Reads history values in ascending order.
+         * @param consumer receives values.
+         */
+        void readHistory(LongConsumer consumer) {
+            long count = readUnsigned();
+            if (count > buffer.length - position) {
+                throw new IllegalArgumentException("Snapshot is truncated");
+            }
+
+            long value = 0;
+            for (long i = 0; i < count; i++) {
+                value = i == 0 ? readSigned() : value + readUnsigned() + 1;
+                consumer.accept(value);
+            }
+        }
+    }
+}
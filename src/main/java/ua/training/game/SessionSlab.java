@@ -0,0 +1,375 @@
+package ua.training.game;
+
+import ua.training.game.random.RandomSource;
+import ua.training.game.utils.LongListArena;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.LongConsumer;
+
+/**
+ * Game engine for millions of lightweight sessions.
+ * State of every session is kept off-heap, one direct buffer
+ * per field indexed by session id, entered values are kept
+ * in the shared {@link LongListArena}, so sessions create no
+ * objects and the heap doesn't grow with their count.
+ * Operations behave like the same methods of {@link GuessTheNumberLongModel}.
+ * Every accepted guess narrows the bounds to itself, so an entered value
+ * inside the bounds can only be one of the bounds or the secret,
+ * flags of these three values answer the repeat check without
+ * the history; it is scanned only for values outside the bounds
+ * or after a guess that widened the bounds.
+ * The slab is not thread safe, sessions of concurrent players
+ * should be spread over several slabs.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class SessionSlab {
+
+    /**
+     * Flag of the started session.
+     */
+    private static final byte STARTED = 1;
+
+    /**
+     * Flag of the entered min bound.
+     */
+    private static final byte MIN_ENTERED = 1 << 1;
+
+    /**
+     * Flag of the entered max bound.
+     */
+    private static final byte MAX_ENTERED = 1 << 2;
+
+    /**
+     * Flag of the entered secret.
+     */
+    private static final byte SECRET_ENTERED = 1 << 3;
+
+    /**
+     * Flag of a guess that moved a bound outwards,
+     * then entered values inside the bounds are looked up in the history.
+     */
+    private static final byte WIDENED = 1 << 4;
+
+    /**
+     * Count of sessions.
+     */
+    private final int capacity;
+
+    /**
+     * Current min bounds.
+     */
+    private final ByteBuffer minBounds;
+
+    /**
+     * Current max bounds.
+     */
+    private final ByteBuffer maxBounds;
+
+    /**
+     * Secret numbers.
+     */
+    private final ByteBuffer secrets;
+
+    /**
+     * Last entered numbers.
+     */
+    private final ByteBuffer lastGuesses;
+
+    /**
+     * Heads of the entered values lists.
+     */
+    private final ByteBuffer histories;
+
+    /**
+     * Counts of different entered values.
+     */
+    private final ByteBuffer tries;
+
+    /**
+     * Session flags.
+     */
+    private final ByteBuffer flags;
+
+    /**
+     * Entered values of all sessions.
+     */
+    private final LongListArena arena = new LongListArena();
+
+    /**
+     * Creates slab with not started sessions.
+     * @param capacity count of sessions, ids are from 0 to capacity - 1.
+     */
+    public SessionSlab(int capacity) {
+        if (capacity <= 0 || capacity > Integer.MAX_VALUE / Long.BYTES) {
+            throw new IllegalArgumentException("Capacity is out of range: " + capacity);
+        }
+        this.capacity = capacity;
+        this.minBounds = allocate(capacity, Long.BYTES);
+        this.maxBounds = allocate(capacity, Long.BYTES);
+        this.secrets = allocate(capacity, Long.BYTES);
+        this.lastGuesses = allocate(capacity, Long.BYTES);
+        this.histories = allocate(capacity, Long.BYTES);
+        this.tries = allocate(capacity, Integer.BYTES);
+        this.flags = allocate(capacity, 1);
+    }
+
+    /**
+     * Starts new game in the session, history of the previous game is freed.
+     * @param session session id.
+     * @param minBound min game value.
+     * @param maxBound max game value.
+     * @param secretNumber guessing number in the bounds.
+     */
+    public void start(int session, long minBound, long maxBound, long secretNumber) {
+        if (minBound > maxBound || secretNumber < minBound || secretNumber > maxBound) {
+            throw new IllegalArgumentException("Secret number must be in bounds");
+        }
+        int index = longIndex(session);
+        arena.free(histories.getLong(index));
+        minBounds.putLong(index, minBound);
+        maxBounds.putLong(index, maxBound);
+        secrets.putLong(index, secretNumber);
+        lastGuesses.putLong(index, -1);
+        histories.putLong(index, LongListArena.EMPTY);
+        tries.putInt(session * Integer.BYTES, 0);
+        flags.put(session, STARTED);
+    }
+
+    /**
+     * Starts new game with random secret number.
+     * @param session session id.
+     * @param minBound min game value.
+     * @param maxBound max game value.
+     * @param randomSource source of the guessing number.
+     */
+    public void start(int session, long minBound, long maxBound, RandomSource randomSource) {
+        if (minBound > maxBound) {
+            throw new IllegalArgumentException("Max bound value can't be less than min bound");
+        }
+        start(session, minBound, maxBound, randomSource.nextLong(minBound, maxBound));
+    }
+
+    /**
+     * Checks is value in bounds.
+     * @param session session id.
+     * @param value the value that will be checked.
+     * @return true if value is in bounds.
+     */
+    public boolean isInBounds(int session, long value) {
+        int index = longIndex(session);
+        return value >= minBounds.getLong(index) && value <= maxBounds.getLong(index);
+    }
+
+    /**
+     * Checks is the value entered repeated.
+     * @param session session id.
+     * @param value parameter that will be checked.
+     * @return true if the value was entered before.
+     */
+    public boolean isRepeatedEntered(int session, long value) {
+        int index = longIndex(session);
+        byte sessionFlags = startedFlags(session);
+        long minBound = minBounds.getLong(index);
+        long maxBound = maxBounds.getLong(index);
+
+        if ((sessionFlags & WIDENED) == 0 && value >= minBound && value <= maxBound) {
+            return (value == minBound && (sessionFlags & MIN_ENTERED) != 0)
+                    || (value == maxBound && (sessionFlags & MAX_ENTERED) != 0)
+                    || (value == secrets.getLong(index) && (sessionFlags & SECRET_ENTERED) != 0);
+        }
+        return arena.contains(histories.getLong(index), value);
+    }
+
+    /**
+     * Validates inputted guess by the game rules.
+     * @param session session id.
+     * @param value inputted value.
+     * @return {@link GuessValidation#VALID} if the guess can be put.
+     */
+    public GuessValidation validateGuess(int session, long value) {
+        if (!isInBounds(session, value)) {
+            return GuessValidation.OUT_OF_BOUNDS;
+        }
+        if (isRepeatedEntered(session, value)) {
+            return GuessValidation.REPEATED;
+        }
+        return GuessValidation.VALID;
+    }
+
+    /**
+     * Put new entered number and check for victories.
+     * @param session session id.
+     * @param enteredNumber last user entered number.
+     * @return check result.
+     */
+    public boolean putEnteredNumberAndCheckVictory(int session, long enteredNumber) {
+        int index = longIndex(session);
+        byte sessionFlags = startedFlags(session);
+        if (!isRepeatedEntered(session, enteredNumber)) {
+            histories.putLong(index, arena.push(histories.getLong(index), enteredNumber));
+            int triesIndex = session * Integer.BYTES;
+            tries.putInt(triesIndex, tries.getInt(triesIndex) + 1);
+        }
+        lastGuesses.putLong(index, enteredNumber);
+
+        long secretNumber = secrets.getLong(index);
+        if (enteredNumber > secretNumber) {
+            if (enteredNumber > maxBounds.getLong(index)) {
+                sessionFlags |= WIDENED;
+            }
+            maxBounds.putLong(index, enteredNumber);
+            sessionFlags |= MAX_ENTERED;
+        } else if (enteredNumber < secretNumber) {
+            if (enteredNumber < minBounds.getLong(index)) {
+                sessionFlags |= WIDENED;
+            }
+            minBounds.putLong(index, enteredNumber);
+            sessionFlags |= MIN_ENTERED;
+        } else {
+            sessionFlags |= SECRET_ENTERED;
+        }
+        flags.put(session, sessionFlags);
+        return enteredNumber == secretNumber;
+    }
+
+    /**
+     * Checks is last input value grater than secret value.
+     * @param session session id.
+     * @return result.
+     */
+    public boolean isLastInputValueGreaterThanGuess(int session) {
+        int index = longIndex(session);
+        return lastGuesses.getLong(index) > secrets.getLong(index);
+    }
+
+    /**
+     * Gets current min bound.
+     * @param session session id.
+     * @return lower bound.
+     */
+    public long getLowerBound(int session) {
+        return minBounds.getLong(longIndex(session));
+    }
+
+    /**
+     * Gets current max bound.
+     * @param session session id.
+     * @return upper bound.
+     */
+    public long getUpperBound(int session) {
+        return maxBounds.getLong(longIndex(session));
+    }
+
+    /**
+     * Gets guessing number.
+     * @param session session id.
+     * @return secret number.
+     */
+    public long getSecretNumber(int session) {
+        return secrets.getLong(longIndex(session));
+    }
+
+    /**
+     * Gets last entered number.
+     * @param session session id.
+     * @return last guess, -1 before the first guess.
+     */
+    public long getLastGuess(int session) {
+        return lastGuesses.getLong(longIndex(session));
+    }
+
+    /**
+     * Gets count of different entered values.
+     * @param session session id.
+     * @return tries count.
+     */
+    public int getTries(int session) {
+        checkSession(session);
+        return tries.getInt(session * Integer.BYTES);
+    }
+
+    /**
+     * Checks is the session started.
+     * @param session session id.
+     * @return true if a game was started in the session.
+     */
+    public boolean isStarted(int session) {
+        checkSession(session);
+        return (flags.get(session) & STARTED) != 0;
+    }
+
+    /**
+     * Passes entered values to the consumer, from the newest.
+     * @param session session id.
+     * @param consumer consumer of the values.
+     */
+    public void forEachEntered(int session, LongConsumer consumer) {
+        for (long node = histories.getLong(longIndex(session)); node != LongListArena.EMPTY;
+             node = arena.next(node)) {
+            consumer.accept(arena.value(node));
+        }
+    }
+
+    /**
+     * Gets count of sessions.
+     * @return slab capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets off-heap memory taken by the slab.
+     * @return size of the session fields and the history arena in bytes.
+     */
+    public long getOffHeapBytes() {
+        return (long) capacity * (5 * Long.BYTES + Integer.BYTES + 1) + arena.getReservedBytes();
+    }
+
+    /**
+     * Gets flags of the started session.
+     * @param session session id.
+     * @return session flags.
+     * @throws IllegalStateException if the session is not started.
+     */
+    private byte startedFlags(int session) {
+        byte sessionFlags = flags.get(session);
+        if ((sessionFlags & STARTED) == 0) {
+            throw new IllegalStateException("Session " + session + " is not started");
+        }
+        return sessionFlags;
+    }
+
+    /**
+     * Gets offset of the session long field.
+     * @param session session id.
+     * @return byte offset.
+     */
+    private int longIndex(int session) {
+        checkSession(session);
+        return session * Long.BYTES;
+    }
+
+    /**
+     * Checks session id.
+     * @param session session id.
+     */
+    private void checkSession(int session) {
+        if (session < 0 || session >= capacity) {
+            throw new IndexOutOfBoundsException("Session " + session + " is out of slab");
+        }
+    }
+
+    /**
+     * Allocates zeroed direct buffer of a field.
+     * @param capacity count of sessions.
+     * @param fieldSize size of the field.
+     * @return field buffer.
+     */
+    private static ByteBuffer allocate(int capacity, int fieldSize) {
+        return ByteBuffer.allocateDirect(capacity * fieldSize).order(ByteOrder.nativeOrder());
+    }
+}
@@ -0,0 +1,131 @@
+package ua.training.game;
+
+import java.util.Arrays;
+
+/**
+ * Result of simulated games: tries distribution and speed.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class SimulationReport {
+
+    /**
+     * Count of games by tries count, the last bucket
+     * counts games with that or greater tries count.
+     */
+    private final long[] triesHistogram;
+
+    /**
+     * Count of played games.
+     */
+    private final long games;
+
+    /**
+     * Sum of tries of all games.
+     */
+    private final long totalTries;
+
+    /**
+     * Max tries count of one game.
+     */
+    private final int maxTries;
+
+    /**
+     * Simulation duration.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Creates report.
+     * @param triesHistogram count of games by tries count.
+     * @param totalTries sum of tries of all games.
+     * @param maxTries max tries count of one game.
+     * @param elapsedNanos simulation duration.
+     */
+    SimulationReport(long[] triesHistogram, long totalTries, int maxTries, long elapsedNanos) {
+        this.triesHistogram = triesHistogram;
+        this.games = Arrays.stream(triesHistogram).sum();
+        this.totalTries = totalTries;
+        this.maxTries = maxTries;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets count of played games.
+     * @return games count.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets count of games by tries count.
+     * @return copy of the histogram.
+     */
+    public long[] getTriesHistogram() {
+        return triesHistogram.clone();
+    }
+
+    /**
+     * Gets average tries count.
+     * @return mean tries.
+     */
+    public double getMeanTries() {
+        return games == 0 ? 0 : (double) totalTries / games;
+    }
+
+    /**
+     * Gets max tries count of one game.
+     * @return max tries.
+     */
+    public int getMaxTries() {
+        return maxTries;
+    }
+
+    /**
+     * Gets tries count that the part of games didn't exceed.
+     * @param quantile part of games in interval (0, 1].
+     * @return tries count.
+     */
+    public int getTriesQuantile(double quantile) {
+        long rank = (long) Math.ceil(quantile * games);
+        long seen = 0;
+
+        for (int tries = 0; tries < triesHistogram.length; tries++) {
+            seen += triesHistogram[tries];
+            if (seen >= rank) {
+                return tries;
+            }
+        }
+        return triesHistogram.length - 1;
+    }
+
+    /**
+     * Gets simulation speed.
+     * @return games per second.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns summary and non-empty histogram buckets.
+     * @return string representation.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+                .append(String.format("games: %d, games/s: %.0f, tries mean: %.2f, p50: %d, p99: %d, max: %d%n",
+                        games, getGamesPerSecond(), getMeanTries(),
+                        getTriesQuantile(0.5), getTriesQuantile(0.99), maxTries));
+
+        for (int tries = 0; tries < triesHistogram.length; tries++) {
+            if (triesHistogram[tries] != 0) {
+                builder.append(String.format("%4d%s %d%n", tries,
+                        tries == triesHistogram.length - 1 ? "+" : " ", triesHistogram[tries]));
+            }
+        }
+        return builder.toString();
+    }
+}
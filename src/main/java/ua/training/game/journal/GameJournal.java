@@ -0,0 +1,653 @@
+package ua.training.game.journal;
+
+import ua.training.game.GameEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only journal of game events.
+ * Records are written into memory mapped segment files
+ * of fixed size, a new segment is started when the current
+ * one is full. On opening the last segment is continued
+ * if it has room.
+ * Type byte of a record is written after its body,
+ * so a reader never sees a half written record,
+ * zero type marks the end of segment data.
+ * With {@link SyncPolicy#GROUP_COMMIT} appended records are
+ * forced together every {@link #GROUP_COMMIT_MILLIS},
+ * with {@link SyncPolicy#EVERY_EVENT} each event waits for
+ * its force and concurrent waits are grouped: one of them
+ * forces the segment and the rest just wait for it.
+ * <p>
+ * Every session ends with a victory or a closed record.
+ * Segments whose sessions are all ended are deleted,
+ * so a restart replays only the records of the unfinished games.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class GameJournal implements AutoCloseable {
+
+    /**
+     * Default size of segment file.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    /**
+     * Interval of the forces with {@link SyncPolicy#GROUP_COMMIT}.
+     */
+    public static final long GROUP_COMMIT_MILLIS = 10;
+
+    /**
+     * End of segment data.
+     */
+    static final byte END = 0;
+
+    /**
+     * Session start: session, min bound, max bound, secret number.
+     */
+    static final byte START = 1;
+
+    /**
+     * Accepted guess: session, value.
+     */
+    static final byte GUESS = 2;
+
+    /**
+     * Victory: session.
+     */
+    static final byte VICTORY = 3;
+
+    /**
+     * Session closed without victory: session.
+     */
+    static final byte CLOSED = 4;
+
+    /**
+     * Size of session start record.
+     */
+    static final int START_SIZE = 1 + 4 * Long.BYTES;
+
+    /**
+     * Size of guess record.
+     */
+    static final int GUESS_SIZE = 1 + 2 * Long.BYTES;
+
+    /**
+     * Size of victory record.
+     */
+    static final int VICTORY_SIZE = 1 + Long.BYTES;
+
+    /**
+     * Size of closed session record.
+     */
+    static final int CLOSED_SIZE = 1 + Long.BYTES;
+
+    /**
+     * Segment file name prefix.
+     */
+    private static final String SEGMENT_PREFIX = "journal-";
+
+    /**
+     * Segment file name suffix.
+     */
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    /**
+     * When appended records are forced to disk.
+     */
+    public enum SyncPolicy {
+        /**
+         * Each event returns when its record is on disk,
+         * concurrent events share one force.
+         */
+        EVERY_EVENT,
+        /**
+         * Events return at once, records are forced together
+         * every {@link #GROUP_COMMIT_MILLIS}, so a crash loses
+         * at most the records of the last interval.
+         */
+        GROUP_COMMIT
+    }
+
+    /**
+     * Directory of segment files.
+     */
+    private final Path directory;
+
+    /**
+     * Size of each segment file.
+     */
+    private final int segmentSize;
+
+    /**
+     * Provides ids of new sessions.
+     */
+    private final AtomicLong sessionIds;
+
+    /**
+     * When appended records are forced to disk.
+     */
+    private final SyncPolicy syncPolicy;
+
+    /**
+     * Allows only one segment force at a time.
+     */
+    private final Object syncLock = new Object();
+
+    /**
+     * Count of not ended sessions by the segment of their first record.
+     */
+    private final TreeMap<Long, Integer> openSessions = new TreeMap<>();
+
+    /**
+     * Forces records of the group commit, null for other policies.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Segment records are appended to.
+     */
+    private MappedByteBuffer segment;
+
+    /**
+     * Index of the current segment.
+     */
+    private long segmentIndex;
+
+    /**
+     * Index of the oldest segment that may exist.
+     */
+    private long oldestSegment;
+
+    /**
+     * Journal position after the last appended record.
+     */
+    private long appended;
+
+    /**
+     * Journal position before which records are on disk.
+     */
+    private volatile long durable;
+
+    /**
+     * Is the journal closed.
+     */
+    private boolean closed;
+
+    /**
+     * Opens journal with group commit and without unfinished games,
+     * creating the directory if needed.
+     * @param directory directory of segment files.
+     * @param segmentSize size of each segment file.
+     * @param firstSessionId id of the first new session.
+     * @throws IOException if segment can't be created.
+     */
+    public GameJournal(Path directory, int segmentSize, long firstSessionId) throws IOException {
+        this(directory, segmentSize, SyncPolicy.GROUP_COMMIT, firstSessionId, Collections.emptyList());
+    }
+
+    /**
+     * Opens journal, creating the directory if needed.
+     * New sessions can't continue the recovered unfinished games,
+     * so they are closed and their segments are deleted.
+     * @param directory directory of segment files.
+     * @param segmentSize size of each segment file.
+     * @param syncPolicy when appended records are forced to disk.
+     * @param firstSessionId id of the first new session.
+     * @param unfinishedSessions sessions of the recovered unfinished games.
+     * @throws IOException if segment can't be created.
+     */
+    public GameJournal(Path directory, int segmentSize, SyncPolicy syncPolicy,
+                       long firstSessionId, Collection<Long> unfinishedSessions) throws IOException {
+        if (segmentSize <= START_SIZE) {
+            throw new IllegalArgumentException("Segment size is too small");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.sessionIds = new AtomicLong(firstSessionId);
+        this.syncPolicy = syncPolicy;
+
+        List<Path> segments = segments(directory);
+        if (segments.isEmpty()) {
+            this.segment = mapSegment(0, true);
+        } else {
+            Path last = segments.get(segments.size() - 1);
+            this.oldestSegment = segmentIndex(segments.get(0));
+            this.segmentIndex = segmentIndex(last);
+            this.segment = Files.size(last) == segmentSize ? continueSegment(segmentIndex) : null;
+            if (segment == null) {
+                this.segment = mapSegment(++segmentIndex, true);
+            }
+        }
+        this.appended = segmentIndex * segmentSize + segment.position();
+        this.durable = appended;
+
+        for (long session : unfinishedSessions) {
+            appendClosed(session);
+        }
+        deleteEndedSegments();
+        force();
+
+        if (syncPolicy == SyncPolicy.GROUP_COMMIT) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "game-journal");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::syncAppended,
+                    GROUP_COMMIT_MILLIS, GROUP_COMMIT_MILLIS, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Creates listener that journals events of a new session.
+     * @return session listener.
+     */
+    public GameEventListener newSession() {
+        return new SessionJournal(sessionIds.getAndIncrement());
+    }
+
+    /**
+     * Appends session start record.
+     * @param session session id.
+     * @param minBound min bound of the game.
+     * @param maxBound max bound of the game.
+     * @param secretNumber value that need to guess.
+     * @return journal position after the record.
+     */
+    public synchronized long appendStart(long session, long minBound, long maxBound, long secretNumber) {
+        int position = reserve(START_SIZE);
+        segment.putLong(position + 1, session)
+                .putLong(position + 1 + Long.BYTES, minBound)
+                .putLong(position + 1 + 2 * Long.BYTES, maxBound)
+                .putLong(position + 1 + 3 * Long.BYTES, secretNumber);
+        return publish(position, START, START_SIZE);
+    }
+
+    /**
+     * Appends accepted guess record.
+     * @param session session id.
+     * @param value entered value.
+     * @return journal position after the record.
+     */
+    public synchronized long appendGuess(long session, long value) {
+        int position = reserve(GUESS_SIZE);
+        segment.putLong(position + 1, session)
+                .putLong(position + 1 + Long.BYTES, value);
+        return publish(position, GUESS, GUESS_SIZE);
+    }
+
+    /**
+     * Appends victory record.
+     * @param session session id.
+     * @return journal position after the record.
+     */
+    public synchronized long appendVictory(long session) {
+        int position = reserve(VICTORY_SIZE);
+        segment.putLong(position + 1, session);
+        return publish(position, VICTORY, VICTORY_SIZE);
+    }
+
+    /**
+     * Appends record of the session closed without victory.
+     * @param session session id.
+     * @return journal position after the record.
+     */
+    public synchronized long appendClosed(long session) {
+        int position = reserve(CLOSED_SIZE);
+        segment.putLong(position + 1, session);
+        return publish(position, CLOSED, CLOSED_SIZE);
+    }
+
+    /**
+     * Waits until records before the position are on disk.
+     * If other thread is forcing the segment, waits for it
+     * and forces again only if its records were not covered.
+     * @param position journal position returned by append.
+     */
+    public void sync(long position) {
+        if (durable >= position) {
+            return;
+        }
+
+        synchronized (syncLock) {
+            if (durable >= position) {
+                return;
+            }
+
+            MappedByteBuffer target;
+            long end;
+            synchronized (this) {
+                target = segment;
+                end = appended;
+            }
+            target.force();
+            durable = end;
+        }
+    }
+
+    /**
+     * Forces appended records and closes the journal.
+     * Running games stay unfinished in the journal,
+     * so they are recovered when the journal is opened again.
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        synchronized (syncLock) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                segment.force();
+                durable = appended;
+                closed = true;
+            }
+        }
+    }
+
+    /**
+     * Gets sorted segment files of the journal.
+     * @param directory journal directory.
+     * @return segment paths, empty if there is no journal.
+     * @throws IOException if the directory can't be read.
+     */
+    static List<Path> segments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                segments.add(path);
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    /**
+     * Gets index of the segment by its file name.
+     * @param segment segment path.
+     * @return segment index.
+     */
+    static long segmentIndex(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Gets path of the segment file.
+     * @param index segment index.
+     * @return segment path.
+     */
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Maps segment file.
+     * @param index segment index.
+     * @param create is a new file created.
+     * @return mapped segment.
+     * @throws IOException if the file can't be created or opened.
+     */
+    private MappedByteBuffer mapSegment(long index, boolean create) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(index),
+                create ? StandardOpenOption.CREATE_NEW : StandardOpenOption.READ,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    /**
+     * Maps existing segment to append after its records.
+     * The bytes of a record that was not completely written
+     * before a crash are cleared, so they can't be read
+     * after the next records.
+     * @param index segment index.
+     * @return mapped segment or null if it has no room for a record.
+     * @throws IOException if the file can't be opened.
+     */
+    private MappedByteBuffer continueSegment(long index) throws IOException {
+        MappedByteBuffer existing = mapSegment(index, false);
+        int end = JournalReader.end(existing);
+        if (segmentSize - end < START_SIZE) {
+            return null;
+        }
+
+        for (int i = end; i < Math.min(segmentSize, end + START_SIZE); i++) {
+            existing.put(i, END);
+        }
+        existing.position(end);
+        return existing;
+    }
+
+    /**
+     * Gets segment offset for the record,
+     * rolls to the next segment if the current is full.
+     * @param size record size.
+     * @return offset of the record in the current segment.
+     */
+    private int reserve(int size) {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        if (segment.remaining() >= size) {
+            return segment.position();
+        }
+
+        segment.force();
+        try {
+            segment = mapSegment(++segmentIndex, true);
+        } catch (IOException e) {
+            segmentIndex--;
+            throw new UncheckedIOException(e);
+        }
+        appended = segmentIndex * segmentSize;
+        return 0;
+    }
+
+    /**
+     * Makes the record visible by writing its type.
+     * @param position record offset.
+     * @param type record type.
+     * @param size record size.
+     * @return journal position after the record.
+     */
+    private long publish(int position, byte type, int size) {
+        segment.put(position, type);
+        segment.position(position + size);
+        appended = segmentIndex * segmentSize + position + size;
+        return appended;
+    }
+
+    /**
+     * Gets segment of the record.
+     * @param position journal position after the record.
+     * @return segment index.
+     */
+    private long segmentOf(long position) {
+        return (position - 1) / segmentSize;
+    }
+
+    /**
+     * Syncs the record by the sync policy.
+     * @param position journal position after the record.
+     */
+    private void commit(long position) {
+        if (syncPolicy == SyncPolicy.EVERY_EVENT) {
+            sync(position);
+        }
+    }
+
+    /**
+     * Forces all appended records.
+     */
+    private void force() {
+        long end;
+        synchronized (this) {
+            end = appended;
+        }
+        sync(end);
+    }
+
+    /**
+     * Forces appended records of the group commit.
+     */
+    private void syncAppended() {
+        try {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+            }
+            force();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Counts new session that is not ended.
+     * @param firstSegment segment of the first session record.
+     */
+    private synchronized void opened(long firstSegment) {
+        openSessions.merge(firstSegment, 1, Integer::sum);
+    }
+
+    /**
+     * Counts ended session and deletes segments that are not needed.
+     * @param firstSegment segment of the first session record.
+     */
+    private void released(long firstSegment) {
+        synchronized (this) {
+            if (openSessions.merge(firstSegment, -1, Integer::sum) == 0) {
+                openSessions.remove(firstSegment);
+            }
+        }
+        deleteEndedSegments();
+    }
+
+    /**
+     * Deletes segments before the first record of every not ended session.
+     * The current segment is kept. Files are deleted out of the lock.
+     */
+    private void deleteEndedSegments() {
+        long from;
+        long to;
+        synchronized (this) {
+            to = openSessions.isEmpty() ? segmentIndex : Math.min(openSessions.firstKey(), segmentIndex);
+            from = oldestSegment;
+            if (to <= from) {
+                return;
+            }
+            oldestSegment = to;
+        }
+
+        for (long index = from; index < to; index++) {
+            try {
+                Files.deleteIfExists(segmentPath(index));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Journals events of one session.
+     */
+    private final class SessionJournal implements GameEventListener {
+
+        /**
+         * Session id of the records.
+         */
+        private final long session;
+
+        /**
+         * Segment of the first session record, -1 before the game start.
+         */
+        private long firstSegment = -1;
+
+        /**
+         * Is the session ended.
+         */
+        private boolean ended;
+
+        /**
+         * Creates journal of the session.
+         * @param session session id.
+         */
+        SessionJournal(long session) {
+            this.session = session;
+        }
+
+        @Override
+        public void gameStarted(long minBound, long maxBound, long secretNumber) {
+            long position;
+            synchronized (GameJournal.this) {
+                position = appendStart(session, minBound, maxBound, secretNumber);
+                if (firstSegment < 0) {
+                    firstSegment = segmentOf(position);
+                    opened(firstSegment);
+                }
+            }
+            commit(position);
+        }
+
+        @Override
+        public void guessAccepted(long value) {
+            commit(appendGuess(session, value));
+        }
+
+        @Override
+        public void gameWon(int tries) {
+            long position = appendVictory(session);
+            ended = true;
+            released(firstSegment);
+            commit(position);
+        }
+
+        /**
+         * Closes unfinished game of the session.
+         * After the journal is closed the game is left unfinished.
+         */
+        @Override
+        public void sessionClosed() {
+            long position;
+            synchronized (GameJournal.this) {
+                if (firstSegment < 0 || ended || closed) {
+                    return;
+                }
+                ended = true;
+                position = appendClosed(session);
+            }
+            released(firstSegment);
+            commit(position);
+        }
+    }
+}
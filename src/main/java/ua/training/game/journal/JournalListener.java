@@ -0,0 +1,38 @@
+package ua.training.game.journal;
+
+/**
+ * Receives records read by {@link JournalReader}.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public interface JournalListener {
+
+    /**
+     * Called for session start record.
+     * @param session session id.
+     * @param minBound min bound of the game.
+     * @param maxBound max bound of the game.
+     * @param secretNumber value that need to guess.
+     */
+    void onStart(long session, long minBound, long maxBound, long secretNumber);
+
+    /**
+     * Called for accepted guess record.
+     * @param session session id.
+     * @param value entered value.
+     */
+    void onGuess(long session, long value);
+
+    /**
+     * Called for victory record.
+     * @param session session id.
+     */
+    void onVictory(long session);
+
+    /**
+     * Called for record of the session closed without victory.
+     * @param session session id.
+     */
+    void onClosed(long session);
+}
@@ -0,0 +1,126 @@
+package ua.training.game.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads records of {@link GameJournal} segments in the order they were appended.
+ * Each segment is read until the end marker, so records
+ * that were not completely written before a crash are skipped.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class JournalReader {
+
+    /**
+     * Utility class.
+     */
+    private JournalReader() {
+    }
+
+    /**
+     * Passes every journal record to the listener.
+     * @param directory journal directory.
+     * @param listener record listener.
+     * @return count of read records.
+     * @throws IOException if segment can't be read.
+     */
+    public static long read(Path directory, JournalListener listener) throws IOException {
+        long records = 0;
+
+        for (Path path : GameJournal.segments(directory)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                records += readSegment(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), listener);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Finds the end of complete records of the segment.
+     * @param segment segment data.
+     * @return offset after the last complete record.
+     */
+    static int end(ByteBuffer segment) {
+        int position = 0;
+        int size;
+        while ((size = recordSize(segment, position)) > 0) {
+            position += size;
+        }
+        return position;
+    }
+
+    /**
+     * Passes segment records to the listener.
+     * @param segment segment data.
+     * @param listener record listener.
+     * @return count of read records.
+     */
+    private static long readSegment(ByteBuffer segment, JournalListener listener) {
+        long records = 0;
+        int position = 0;
+        int size;
+
+        while ((size = recordSize(segment, position)) > 0) {
+            long session = segment.getLong(position + 1);
+            switch (segment.get(position)) {
+                case GameJournal.START:
+                    listener.onStart(session,
+                            segment.getLong(position + 1 + Long.BYTES),
+                            segment.getLong(position + 1 + 2 * Long.BYTES),
+                            segment.getLong(position + 1 + 3 * Long.BYTES));
+                    break;
+                case GameJournal.GUESS:
+                    listener.onGuess(session, segment.getLong(position + 1 + Long.BYTES));
+                    break;
+                case GameJournal.VICTORY:
+                    listener.onVictory(session);
+                    break;
+                case GameJournal.CLOSED:
+                    listener.onClosed(session);
+                    break;
+                default:
+                    break;
+            }
+            position += size;
+            records++;
+        }
+        return records;
+    }
+
+    /**
+     * Gets size of the complete record.
+     * @param segment segment data.
+     * @param position record offset.
+     * @return record size, 0 at the end of segment data.
+     */
+    private static int recordSize(ByteBuffer segment, int position) {
+        int remaining = segment.limit() - position;
+        if (remaining <= 0) {
+            return 0;
+        }
+
+        int size;
+        switch (segment.get(position)) {
+            case GameJournal.START:
+                size = GameJournal.START_SIZE;
+                break;
+            case GameJournal.GUESS:
+                size = GameJournal.GUESS_SIZE;
+                break;
+            case GameJournal.VICTORY:
+                size = GameJournal.VICTORY_SIZE;
+                break;
+            case GameJournal.CLOSED:
+                size = GameJournal.CLOSED_SIZE;
+                break;
+            default:
+                return 0;
+        }
+        return remaining < size ? 0 : size;
+    }
+}
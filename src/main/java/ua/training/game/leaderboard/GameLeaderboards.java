@@ -0,0 +1,155 @@
+package ua.training.game.leaderboard;
+
+import ua.training.game.GameEventListener;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Global leaderboard and leaderboards of range buckets.
+ * Games are put into the bucket by bit count
+ * of their range size, that is the max count
+ * of binary search tries, so games of similar
+ * ranges are compared with each other.
+ * The game protocol has no player names,
+ * so results are ranked by games, not by players.
+ *
+ * @version 1.2 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class GameLeaderboards implements GameLeaderboardsMBean {
+
+    /**
+     * Name of the registered MBean.
+     */
+    public static final String OBJECT_NAME = "ua.training.game:type=GameLeaderboards";
+
+    /**
+     * Default count of kept results.
+     */
+    public static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Board of all games.
+     */
+    private final Leaderboard global;
+
+    /**
+     * Boards by bit count of range size.
+     */
+    private final Leaderboard[] ranges = new Leaderboard[Long.SIZE + 1];
+
+    /**
+     * Creates boards.
+     * @param capacity count of results kept by each board.
+     * @param concurrency expected count of concurrent sessions.
+     */
+    public GameLeaderboards(int capacity, int concurrency) {
+        global = new Leaderboard(capacity, concurrency);
+        for (int i = 0; i < ranges.length; i++) {
+            ranges[i] = new Leaderboard(capacity, concurrency);
+        }
+    }
+
+    /**
+     * Submits result of won game to the global board
+     * and to the board of its range.
+     * @param tries count of tries.
+     * @param minBound min bound of the game.
+     * @param maxBound max bound of the game.
+     */
+    public void submit(int tries, long minBound, long maxBound) {
+        global.submit(tries, minBound, maxBound);
+        ranges[LeaderboardEntry.rangeBits(minBound, maxBound)].submit(tries, minBound, maxBound);
+    }
+
+    /**
+     * Creates listener that submits won game of the session.
+     * A game that wasn't started in the session is not submitted.
+     * @return session listener.
+     */
+    public GameEventListener newSession() {
+        return new GameEventListener() {
+            private long minBound;
+            private long maxBound;
+            private boolean started;
+
+            @Override
+            public void gameStarted(long min, long max, long secretNumber) {
+                minBound = min;
+                maxBound = max;
+                started = true;
+            }
+
+            @Override
+            public void gameWon(int tries) {
+                if (started) {
+                    submit(tries, minBound, maxBound);
+                }
+            }
+        };
+    }
+
+    /**
+     * Gets global board.
+     * @return board of all games.
+     */
+    public Leaderboard getGlobal() {
+        return global;
+    }
+
+    /**
+     * Gets board of range bucket.
+     * @param rangeBits bits of the range size, from 0 to 64.
+     * @return board of the range bucket.
+     */
+    public Leaderboard getRange(int rangeBits) {
+        return ranges[rangeBits];
+    }
+
+    /**
+     * Registers boards in the platform MBean server as {@link #OBJECT_NAME}.
+     * @throws IllegalStateException if boards can't be registered.
+     */
+    public void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            throw new IllegalStateException("Leaderboards can't be registered", e);
+        }
+    }
+
+    /**
+     * Gets best results of all games.
+     * @return results from the best.
+     */
+    @Override
+    public String[] getGlobalTop() {
+        return toStrings(global.getTop());
+    }
+
+    /**
+     * Gets best results of the range bucket.
+     * @param rangeBits bits of the range size, from 0 to 64.
+     * @return results from the best.
+     */
+    @Override
+    public String[] getRangeTop(int rangeBits) {
+        return toStrings(getRange(rangeBits).getTop());
+    }
+
+    /**
+     * Converts results to strings.
+     * @param entries results.
+     * @return string representations.
+     */
+    private static String[] toStrings(List<LeaderboardEntry> entries) {
+        String[] result = new String[entries.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = entries.get(i).toString();
+        }
+        return result;
+    }
+}
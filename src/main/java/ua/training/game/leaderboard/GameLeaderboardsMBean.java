@@ -0,0 +1,24 @@
+package ua.training.game.leaderboard;
+
+/**
+ * Leaderboards exported over JMX.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public interface GameLeaderboardsMBean {
+
+    /**
+     * Gets best results of all games.
+     * @return results from the best.
+     */
+    String[] getGlobalTop();
+
+    /**
+     * Gets best results of the games which range
+     * size has the count of bits.
+     * @param rangeBits bits of the range size, from 0 to 64.
+     * @return results from the best.
+     */
+    String[] getRangeTop(int rangeBits);
+}
@@ -0,0 +1,153 @@
+package ua.training.game.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps best K results submitted by many threads.
+ * Results go to one of the stripes selected by the thread,
+ * each stripe holds its own best K results under its own lock.
+ * A result that is worse than the worst result of the full
+ * stripe is rejected without locking. Readers merge
+ * immutable stripe snapshots, so they never block writers.
+ * Board holds at most K results per stripe.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class Leaderboard {
+
+    /**
+     * Count of kept results.
+     */
+    private final int capacity;
+
+    /**
+     * Stripes of the board, count is power of two.
+     */
+    private final Stripe[] stripes;
+
+    /**
+     * Creates board.
+     * @param capacity count of kept results.
+     * @param concurrency expected count of concurrent writers.
+     */
+    public Leaderboard(int capacity, int concurrency) {
+        if (capacity <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("Capacity and concurrency must be positive");
+        }
+        this.capacity = capacity;
+        this.stripes = new Stripe[Integer.highestOneBit(concurrency * 2 - 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    /**
+     * Submits result of won game.
+     * @param tries count of tries.
+     * @param minBound min bound of the game.
+     * @param maxBound max bound of the game.
+     * @return true if the result was kept by its stripe.
+     */
+    public boolean submit(int tries, long minBound, long maxBound) {
+        Stripe stripe = stripes[(int) mix(Thread.currentThread().getId()) & (stripes.length - 1)];
+
+        if (LeaderboardEntry.score(tries, minBound, maxBound) > stripe.threshold) {
+            return false;
+        }
+        return stripe.add(new LeaderboardEntry(tries, minBound, maxBound));
+    }
+
+    /**
+     * Gets best results.
+     * @return at most K results from the best.
+     */
+    public List<LeaderboardEntry> getTop() {
+        List<LeaderboardEntry> merged = new ArrayList<>(capacity * 2);
+        for (Stripe stripe : stripes) {
+            Collections.addAll(merged, stripe.snapshot);
+        }
+        Collections.sort(merged);
+        return Collections.unmodifiableList(merged.size() > capacity
+                ? new ArrayList<>(merged.subList(0, capacity))
+                : merged);
+    }
+
+    /**
+     * Spreads thread ids between stripes.
+     * @param id thread id.
+     * @return mixed bits.
+     */
+    private static long mix(long id) {
+        id *= 0x9E3779B97F4A7C15L;
+        return id ^ (id >>> 32);
+    }
+
+    /**
+     * Best results of the threads mapped to the stripe.
+     */
+    private static final class Stripe {
+
+        /**
+         * Empty snapshot.
+         */
+        private static final LeaderboardEntry[] EMPTY = new LeaderboardEntry[0];
+
+        /**
+         * Sorted results, guarded by the stripe lock.
+         */
+        private final LeaderboardEntry[] entries;
+
+        /**
+         * Count of results.
+         */
+        private int size;
+
+        /**
+         * Copy of the results for readers.
+         */
+        private volatile LeaderboardEntry[] snapshot = EMPTY;
+
+        /**
+         * Score of the worst result when the stripe is full.
+         */
+        private volatile double threshold = Double.POSITIVE_INFINITY;
+
+        /**
+         * Creates stripe.
+         * @param capacity count of kept results.
+         */
+        Stripe(int capacity) {
+            entries = new LeaderboardEntry[capacity];
+        }
+
+        /**
+         * Inserts result if it is better than the worst one.
+         * @param entry submitted result.
+         * @return true if the result was kept.
+         */
+        synchronized boolean add(LeaderboardEntry entry) {
+            if (size == entries.length && entry.compareTo(entries[size - 1]) >= 0) {
+                return false;
+            }
+
+            int position = size;
+            while (position > 0 && entry.compareTo(entries[position - 1]) < 0) {
+                position--;
+            }
+            int moved = Math.min(size, entries.length - 1) - position;
+            System.arraycopy(entries, position, entries, position + 1, moved);
+            entries[position] = entry;
+            size = Math.min(size + 1, entries.length);
+
+            snapshot = Arrays.copyOf(entries, size);
+            if (size == entries.length) {
+                threshold = entries[size - 1].getScore();
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package ua.training.game.leaderboard;
+
+/**
+ * Result of a won game.
+ * Score is count of tries divided by count of binary
+ * search tries for the game range, lower score is better.
+ *
+ * @version 1.2 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class LeaderboardEntry implements Comparable<LeaderboardEntry> {
+
+    /**
+     * Count of tries.
+     */
+    private final int tries;
+
+    /**
+     * Min bound of the game.
+     */
+    private final long minBound;
+
+    /**
+     * Max bound of the game.
+     */
+    private final long maxBound;
+
+    /**
+     * Normalized tries.
+     */
+    private final double score;
+
+    /**
+     * Creates entry.
+     * @param tries count of tries.
+     * @param minBound min bound of the game.
+     * @param maxBound max bound of the game.
+     */
+    LeaderboardEntry(int tries, long minBound, long maxBound) {
+        this.tries = tries;
+        this.minBound = minBound;
+        this.maxBound = maxBound;
+        this.score = score(tries, minBound, maxBound);
+    }
+
+    /**
+     * Computes normalized tries.
+     * @param tries count of tries.
+     * @param minBound min bound of the game.
+     * @param maxBound max bound of the game.
+     * @return tries divided by binary search tries.
+     */
+    static double score(int tries, long minBound, long maxBound) {
+        return (double) tries / rangeBits(minBound, maxBound);
+    }
+
+    /**
+     * Gets count of bits of the range size {@code max - min + 1}, it is
+     * max count of binary search tries for the range.
+     * The whole long range is counted as 64 bits.
+     * @param minBound min bound of the game.
+     * @param maxBound max bound of the game.
+     * @return bits count in interval [1, 64].
+     */
+    static int rangeBits(long minBound, long maxBound) {
+        long size = maxBound - minBound + 1;
+        return size == 0 ? Long.SIZE : Long.SIZE - Long.numberOfLeadingZeros(size);
+    }
+
+    /**
+     * Gets count of tries.
+     * @return tries.
+     */
+    public int getTries() {
+        return tries;
+    }
+
+    /**
+     * Gets min bound of the game.
+     * @return min bound.
+     */
+    public long getMinBound() {
+        return minBound;
+    }
+
+    /**
+     * Gets max bound of the game.
+     * @return max bound.
+     */
+    public long getMaxBound() {
+        return maxBound;
+    }
+
+    /**
+     * Gets normalized tries.
+     * @return score, lower is better.
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Orders entries from the best.
+     * @param other compared entry.
+     * @return comparison result.
+     */
+    @Override
+    public int compareTo(LeaderboardEntry other) {
+        int result = Double.compare(score, other.score);
+        return result != 0 ? result : Integer.compare(tries, other.tries);
+    }
+
+    /**
+     * Returns entry in form {@code tries [min, max] score}.
+     * @return string representation.
+     */
+    @Override
+    public String toString() {
+        return String.format("%d [%d, %d] %.3f", tries, minBound, maxBound, score);
+    }
+}
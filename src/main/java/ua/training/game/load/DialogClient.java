@@ -0,0 +1,251 @@
+package ua.training.game.load;
+
+import ua.training.game.GameSession;
+import ua.training.game.metrics.LogHistogram;
+import ua.training.game.utils.MessageTemplate;
+import ua.training.game.utils.ResourceManager;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Simulated player of the text dialog.
+ * The output of a turn ends with a prompt, the client waits for it,
+ * reads the hint of its last guess and answers by binary search.
+ * Prompts and hints are taken from the dialog resources,
+ * with the arguments of {@link GameSession},
+ * so the client follows the same texts as the game.
+ *
+ * @version 1.2 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+final class DialogClient {
+
+    /**
+     * Text that asks to press Enter.
+     */
+    private final byte[] welcome;
+
+    /**
+     * Prompt of the min bound.
+     */
+    private final byte[] minPrompt;
+
+    /**
+     * Prompt of the max bound.
+     */
+    private final byte[] maxPrompt;
+
+    /**
+     * Prompt of the guess.
+     */
+    private final byte[] valuePrompt;
+
+    /**
+     * Hint of the guess greater than the secret.
+     */
+    private final byte[] greaterHint;
+
+    /**
+     * Hint of the guess lower than the secret.
+     */
+    private final byte[] lowerHint;
+
+    /**
+     * Start of the victory message.
+     */
+    private final byte[] congratulation;
+
+    /**
+     * Buffer of the reads.
+     */
+    private final byte[] readBuffer = new byte[8 * 1024];
+
+    /**
+     * Output of the current turn.
+     */
+    private byte[] turn = new byte[8 * 1024];
+
+    /**
+     * Length of the current turn output.
+     */
+    private int turnLength;
+
+    /**
+     * Creates client of the dialog.
+     * @param resources dialog resources of the game.
+     */
+    DialogClient(ResourceManager resources) {
+        Charset charset = Charset.defaultCharset();
+        this.welcome = resources.getString("WELCOME_MESSAGE").getBytes(charset);
+        MessageTemplate boundsPrompt = resources.getTemplate("INPUT_BOUNDS_SUGGESTION");
+        this.minPrompt = boundsPrompt.format(GameSession.MIN_STRING).getBytes(charset);
+        this.maxPrompt = boundsPrompt.format(GameSession.MAX_STRING).getBytes(charset);
+        this.valuePrompt = resources.getString("INPUT_VALUE_SUGGESTION").getBytes(charset);
+        this.greaterHint = resources.getString("VALUE_GREATER").getBytes(charset);
+        this.lowerHint = resources.getString("VALUE_LOWER").getBytes(charset);
+        this.congratulation = resources.getTemplate("CONGRATULATION_MESSAGE").getLiteral(0).getBytes(charset);
+    }
+
+    /**
+     * Plays one game by binary search.
+     * @param connection connection to the new session.
+     * @param minBound min game value.
+     * @param maxBound max game value.
+     * @param turnLatencies latencies from an answer to the next prompt in nanoseconds.
+     * @return count of guesses.
+     * @throws IOException if the connection fails or the dialog is not recognized.
+     */
+    int play(LoadConnection connection, long minBound, long maxBound, LogHistogram turnLatencies)
+            throws IOException {
+        InputStream input = connection.getInput();
+        OutputStream output = connection.getOutput();
+        turnLength = 0;
+
+        awaitEnd(input, welcome);
+        send(output, "");
+        awaitEnd(input, minPrompt);
+        send(output, Long.toString(minBound));
+        awaitEnd(input, maxPrompt);
+        send(output, Long.toString(maxBound));
+        awaitEnd(input, valuePrompt);
+
+        long low = minBound;
+        long high = maxBound;
+        int guesses = 0;
+        while (true) {
+            if (low > high) {
+                throw new IOException("Hints don't match any secret in [" + minBound + ", " + maxBound + "]");
+            }
+            long guess = low + ((high - low) >>> 1);
+            send(output, Long.toString(guess));
+            guesses++;
+            long sent = System.nanoTime();
+
+            boolean won = awaitTurn(input);
+            turnLatencies.record(System.nanoTime() - sent);
+            if (won) {
+                return guesses;
+            }
+            if (indexOf(greaterHint) >= 0) {
+                high = guess - 1;
+            } else if (indexOf(lowerHint) >= 0) {
+                low = guess + 1;
+            } else {
+                throw new IOException("Guess " + guess + " has no hint: " + turnText());
+            }
+        }
+    }
+
+    /**
+     * Reads output until it ends with the expected text.
+     * @param input game output.
+     * @param expected expected end.
+     * @throws IOException if the output ends first.
+     */
+    private void awaitEnd(InputStream input, byte[] expected) throws IOException {
+        while (!endsWith(expected)) {
+            read(input);
+        }
+    }
+
+    /**
+     * Reads output of the guess turn.
+     * @param input game output.
+     * @return true if the game is won, false if the next guess is asked.
+     * @throws IOException if the output ends first.
+     */
+    private boolean awaitTurn(InputStream input) throws IOException {
+        while (true) {
+            if (indexOf(congratulation) >= 0) {
+                return true;
+            }
+            if (endsWith(valuePrompt)) {
+                return false;
+            }
+            read(input);
+        }
+    }
+
+    /**
+     * Sends answer line and starts output of the next turn.
+     * @param output game input.
+     * @param line answer.
+     * @throws IOException if the answer can't be sent.
+     */
+    private void send(OutputStream output, String line) throws IOException {
+        turnLength = 0;
+        byte[] bytes = new byte[line.length() + 1];
+        for (int i = 0; i < line.length(); i++) {
+            bytes[i] = (byte) line.charAt(i);
+        }
+        bytes[line.length()] = '\n';
+        output.write(bytes);
+        output.flush();
+    }
+
+    /**
+     * Appends the next read to the turn output.
+     * @param input game output.
+     * @throws IOException if the output ends.
+     */
+    private void read(InputStream input) throws IOException {
+        int count = input.read(readBuffer);
+        if (count < 0) {
+            throw new EOFException("Dialog ended unexpectedly: " + turnText());
+        }
+        if (turnLength + count > turn.length) {
+            turn = Arrays.copyOf(turn, Math.max(turn.length * 2, turnLength + count));
+        }
+        System.arraycopy(readBuffer, 0, turn, turnLength, count);
+        turnLength += count;
+    }
+
+    /**
+     * Checks does the turn output end with the text.
+     * @param text expected text.
+     * @return true if the output ends with the text.
+     */
+    private boolean endsWith(byte[] text) {
+        if (turnLength < text.length) {
+            return false;
+        }
+        int start = turnLength - text.length;
+        for (int i = 0; i < text.length; i++) {
+            if (turn[start + i] != text[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the text in the turn output.
+     * @param text searched text.
+     * @return index of the text or -1.
+     */
+    private int indexOf(byte[] text) {
+        for (int start = 0; start + text.length <= turnLength; start++) {
+            int i = 0;
+            while (i < text.length && turn[start + i] == text[i]) {
+                i++;
+            }
+            if (i == text.length) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets turn output for error messages.
+     * @return decoded output.
+     */
+    private String turnText() {
+        return new String(turn, 0, turnLength, Charset.defaultCharset()).trim();
+    }
+}
@@ -0,0 +1,26 @@
+package ua.training.game.load;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Connection of a simulated client to the game dialog.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public interface LoadConnection extends Closeable {
+
+    /**
+     * Gets stream of the dialog messages.
+     * @return game output.
+     */
+    InputStream getInput();
+
+    /**
+     * Gets stream of the client answers.
+     * @return game input.
+     */
+    OutputStream getOutput();
+}
@@ -0,0 +1,235 @@
+package ua.training.game.load;
+
+import ua.training.game.metrics.LogHistogram;
+import ua.training.game.utils.ResourceManager;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives simulated clients against the game dialog.
+ * Every client plays whole games by binary search over
+ * a new connection and measures the latency of each turn.
+ * In the closed loop every client starts the next game when
+ * its game ends. In the open loop games start at the planned
+ * rate whatever the game latency is, so a slow game doesn't
+ * hide the load it delays; the delay of a game start after
+ * its planned time is reported as start lag.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class LoadGenerator {
+
+    /**
+     * Opens connections of the clients.
+     */
+    private final LoadTransport transport;
+
+    /**
+     * Dialog resources of the game.
+     */
+    private final ResourceManager resources;
+
+    /**
+     * Min game value.
+     */
+    private final long minBound;
+
+    /**
+     * Max game value.
+     */
+    private final long maxBound;
+
+    /**
+     * Creates load generator.
+     * @param transport opens connections of the clients.
+     * @param resources dialog resources of the game.
+     * @param minBound min game value.
+     * @param maxBound max game value.
+     */
+    public LoadGenerator(LoadTransport transport, ResourceManager resources, long minBound, long maxBound) {
+        if (minBound > maxBound) {
+            throw new IllegalArgumentException("Max bound value can't be less than min bound");
+        }
+        this.transport = transport;
+        this.resources = resources;
+        this.minBound = minBound;
+        this.maxBound = maxBound;
+    }
+
+    /**
+     * Runs clients that play games back to back.
+     * The run ends when the games are played or the duration is over.
+     * @param clients count of concurrent clients.
+     * @param games count of games, not positive for no limit.
+     * @param durationMillis run duration, not positive for no limit.
+     * @return report of the run.
+     * @throws InterruptedException if the run is interrupted.
+     */
+    public LoadReport runClosedLoop(int clients, long games, long durationMillis) throws InterruptedException {
+        checkLimits(clients, games, durationMillis);
+        Run run = new Run();
+        AtomicLong remaining = new AtomicLong(games > 0 ? games : Long.MAX_VALUE);
+        long deadline = deadline(run.start, durationMillis);
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch finished = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            executor.execute(() -> {
+                DialogClient client = new DialogClient(resources);
+                while (System.nanoTime() - deadline < 0 && remaining.getAndDecrement() > 0) {
+                    run.play(client);
+                }
+                finished.countDown();
+            });
+        }
+        try {
+            finished.await();
+        } finally {
+            executor.shutdownNow();
+        }
+        return run.report("closed", clients, 0);
+    }
+
+    /**
+     * Starts games at the fixed rate, at most one game per client at once.
+     * The run ends when the games are started or the duration is over
+     * and every started game ends.
+     * @param clients max count of concurrent games.
+     * @param gamesPerSecond planned rate of game starts.
+     * @param games count of games, not positive for no limit.
+     * @param durationMillis run duration, not positive for no limit.
+     * @return report of the run.
+     * @throws InterruptedException if the run is interrupted.
+     */
+    public LoadReport runOpenLoop(int clients, double gamesPerSecond, long games, long durationMillis)
+            throws InterruptedException {
+        checkLimits(clients, games, durationMillis);
+        if (!(gamesPerSecond > 0)) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        Run run = new Run();
+        long deadline = deadline(run.start, durationMillis);
+        double intervalNanos = 1e9 / gamesPerSecond;
+        ThreadLocal<DialogClient> dialogClients = ThreadLocal.withInitial(() -> new DialogClient(resources));
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            for (long game = 0; games <= 0 || game < games; game++) {
+                long planned = run.start + (long) (game * intervalNanos);
+                if (planned - deadline >= 0) {
+                    break;
+                }
+                long wait;
+                while ((wait = planned - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+                executor.execute(() -> {
+                    run.startLags.record(System.nanoTime() - planned);
+                    run.play(dialogClients.get());
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        return run.report("open", clients, gamesPerSecond);
+    }
+
+    /**
+     * Checks limits of the run.
+     * @param clients count of clients.
+     * @param games count of games.
+     * @param durationMillis run duration.
+     */
+    private static void checkLimits(int clients, long games, long durationMillis) {
+        if (clients <= 0) {
+            throw new IllegalArgumentException("Clients count must be positive");
+        }
+        if (games <= 0 && durationMillis <= 0) {
+            throw new IllegalArgumentException("Run must be limited by games or duration");
+        }
+    }
+
+    /**
+     * Gets end time of the run.
+     * @param start start time.
+     * @param durationMillis run duration.
+     * @return end time, far in the future for no limit.
+     */
+    private static long deadline(long start, long durationMillis) {
+        return start + (durationMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(durationMillis) : Long.MAX_VALUE / 2);
+    }
+
+    /**
+     * Counters of one run.
+     */
+    private final class Run {
+
+        /**
+         * Start time.
+         */
+        private final long start = System.nanoTime();
+
+        /**
+         * Count of finished games.
+         */
+        private final LongAdder games = new LongAdder();
+
+        /**
+         * Count of failed games.
+         */
+        private final LongAdder errors = new LongAdder();
+
+        /**
+         * Count of guesses.
+         */
+        private final LongAdder turns = new LongAdder();
+
+        /**
+         * Turn latencies.
+         */
+        private final LogHistogram turnLatencies = new LogHistogram();
+
+        /**
+         * Delays of game starts.
+         */
+        private final LogHistogram startLags = new LogHistogram();
+
+        /**
+         * Plays one game over a new connection.
+         * @param client dialog client of the thread.
+         */
+        void play(DialogClient client) {
+            try (LoadConnection connection = transport.open()) {
+                turns.add(client.play(connection, minBound, maxBound, turnLatencies));
+                games.increment();
+            } catch (IOException | RuntimeException e) {
+                errors.increment();
+            }
+        }
+
+        /**
+         * Creates report of the run.
+         * @param mode run mode.
+         * @param clients count of clients.
+         * @param targetRate planned games per second.
+         * @return run report.
+         */
+        LoadReport report(String mode, int clients, double targetRate) {
+            return new LoadReport(mode, clients, targetRate, games.sum(), errors.sum(), turns.sum(),
+                    System.nanoTime() - start, turnLatencies, startLags);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package ua.training.game.load;
+
+import ua.training.game.metrics.LogHistogram;
+import ua.training.game.utils.JsonWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of the load run: throughput and turn latency.
+ * Latencies are reported in microseconds.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class LoadReport {
+
+    /**
+     * Run mode, {@code closed} or {@code open}.
+     */
+    private final String mode;
+
+    /**
+     * Count of simulated clients.
+     */
+    private final int clients;
+
+    /**
+     * Planned games per second of the open loop, 0 for the closed loop.
+     */
+    private final double targetRate;
+
+    /**
+     * Count of finished games.
+     */
+    private final long games;
+
+    /**
+     * Count of failed games.
+     */
+    private final long errors;
+
+    /**
+     * Count of guesses of the finished games.
+     */
+    private final long turns;
+
+    /**
+     * Run duration.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Turn latency quantiles: p50, p99, p999 and max.
+     */
+    private final long[] turnLatency;
+
+    /**
+     * Mean turn latency.
+     */
+    private final double meanTurnLatency;
+
+    /**
+     * Game start lag quantiles: p50, p99 and max.
+     */
+    private final long[] startLag;
+
+    /**
+     * Time of the report.
+     */
+    private final long timestamp = System.currentTimeMillis();
+
+    /**
+     * Creates report.
+     * @param mode run mode.
+     * @param clients count of simulated clients.
+     * @param targetRate planned games per second.
+     * @param games count of finished games.
+     * @param errors count of failed games.
+     * @param turns count of guesses.
+     * @param elapsedNanos run duration.
+     * @param turnLatencies turn latencies in nanoseconds.
+     * @param startLags delays of game starts after their planned time in nanoseconds.
+     */
+    LoadReport(String mode, int clients, double targetRate, long games, long errors, long turns,
+               long elapsedNanos, LogHistogram turnLatencies, LogHistogram startLags) {
+        this.mode = mode;
+        this.clients = clients;
+        this.targetRate = targetRate;
+        this.games = games;
+        this.errors = errors;
+        this.turns = turns;
+        this.elapsedNanos = elapsedNanos;
+        this.turnLatency = new long[] {micros(turnLatencies.getValueAtQuantile(0.5)),
+                micros(turnLatencies.getValueAtQuantile(0.99)),
+                micros(turnLatencies.getValueAtQuantile(0.999)), micros(turnLatencies.getMax())};
+        this.meanTurnLatency = turnLatencies.getMean() / 1_000;
+        this.startLag = new long[] {micros(startLags.getValueAtQuantile(0.5)),
+                micros(startLags.getValueAtQuantile(0.99)), micros(startLags.getMax())};
+    }
+
+    /**
+     * Gets count of finished games.
+     * @return games count.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets count of failed games.
+     * @return errors count.
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets count of guesses of the finished games.
+     * @return turns count.
+     */
+    public long getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets finished games per second.
+     * @return games throughput.
+     */
+    public double getGamesPerSecond() {
+        return perSecond(games);
+    }
+
+    /**
+     * Gets guesses per second.
+     * @return turns throughput.
+     */
+    public double getTurnsPerSecond() {
+        return perSecond(turns);
+    }
+
+    /**
+     * Gets median turn latency.
+     * @return latency in microseconds.
+     */
+    public long getTurnLatencyP50() {
+        return turnLatency[0];
+    }
+
+    /**
+     * Gets 99th percentile of turn latency.
+     * @return latency in microseconds.
+     */
+    public long getTurnLatencyP99() {
+        return turnLatency[1];
+    }
+
+    /**
+     * Gets 99.9th percentile of turn latency.
+     * @return latency in microseconds.
+     */
+    public long getTurnLatencyP999() {
+        return turnLatency[2];
+    }
+
+    /**
+     * Gets max turn latency.
+     * @return latency in microseconds.
+     */
+    public long getTurnLatencyMax() {
+        return turnLatency[3];
+    }
+
+    /**
+     * Gets 99th percentile of the game start lag of the open loop.
+     * It grows when the clients can't keep up with the arrival rate.
+     * @return lag in microseconds.
+     */
+    public long getStartLagP99() {
+        return startLag[1];
+    }
+
+    /**
+     * Writes the report as JSON object.
+     * @param json writer of the report.
+     * @return the writer.
+     */
+    public JsonWriter writeJson(JsonWriter json) {
+        return json.beginObject()
+                .name("timestamp").value(timestamp)
+                .name("mode").value(mode)
+                .name("clients").value(clients)
+                .name("targetGamesPerSecond").value(Math.round(targetRate))
+                .name("games").value(games)
+                .name("errors").value(errors)
+                .name("turns").value(turns)
+                .name("elapsedMillis").value(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .name("gamesPerSecond").value(Math.round(getGamesPerSecond()))
+                .name("turnsPerSecond").value(Math.round(getTurnsPerSecond()))
+                .name("turnLatencyMicros").beginObject()
+                .name("mean").value(Math.round(meanTurnLatency))
+                .name("p50").value(turnLatency[0])
+                .name("p99").value(turnLatency[1])
+                .name("p999").value(turnLatency[2])
+                .name("max").value(turnLatency[3])
+                .endObject()
+                .name("startLagMicros").beginObject()
+                .name("p50").value(startLag[0])
+                .name("p99").value(startLag[1])
+                .name("max").value(startLag[2])
+                .endObject()
+                .endObject();
+    }
+
+    /**
+     * Writes the report as JSON file.
+     * @param file report file, it is replaced.
+     * @throws IOException if the file can't be written.
+     */
+    public void writeTo(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            writeJson(new JsonWriter()).writeTo(out);
+            out.write('\n');
+        }
+    }
+
+    /**
+     * Gets human readable report.
+     * @return report lines.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+                .append(String.format("%s loop, clients: %d, games: %d, errors: %d, turns: %d, %d ms%n",
+                        mode, clients, games, errors, turns, TimeUnit.NANOSECONDS.toMillis(elapsedNanos)))
+                .append(String.format("games/s: %.0f, turns/s: %.0f%n", getGamesPerSecond(), getTurnsPerSecond()))
+                .append(String.format("turn latency us, mean: %.1f, p50: %d, p99: %d, p999: %d, max: %d%n",
+                        meanTurnLatency, turnLatency[0], turnLatency[1], turnLatency[2], turnLatency[3]));
+        if (targetRate > 0) {
+            builder.append(String.format("target games/s: %.0f, start lag us, p50: %d, p99: %d, max: %d%n",
+                    targetRate, startLag[0], startLag[1], startLag[2]));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Gets count per second of the run.
+     * @param count counted events.
+     * @return events per second.
+     */
+    private double perSecond(long count) {
+        return elapsedNanos == 0 ? 0 : count * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Converts nanoseconds to microseconds.
+     * @param nanos duration in nanoseconds.
+     * @return duration in microseconds.
+     */
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
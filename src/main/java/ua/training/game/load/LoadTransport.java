@@ -0,0 +1,119 @@
+package ua.training.game.load;
+
+import ua.training.game.GuessTheNumberController;
+import ua.training.game.GuessTheNumberLongModel;
+import ua.training.game.GuessTheNumberView;
+import ua.training.game.utils.ResourceManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Opens connections of simulated clients.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+@FunctionalInterface
+public interface LoadTransport {
+
+    /**
+     * Size of the pipe buffer, it holds the whole output of a turn.
+     */
+    int PIPE_SIZE = 64 * 1024;
+
+    /**
+     * Opens connection to a new game session.
+     * @return opened connection.
+     * @throws IOException if the connection can't be opened.
+     */
+    LoadConnection open() throws IOException;
+
+    /**
+     * Creates transport that connects to the game server.
+     * @param address server address.
+     * @param timeoutMillis connect and read timeout.
+     * @return socket transport.
+     */
+    static LoadTransport socket(InetSocketAddress address, int timeoutMillis) {
+        return () -> {
+            Socket socket = new Socket();
+            try {
+                socket.setTcpNoDelay(true);
+                socket.connect(address, timeoutMillis);
+                socket.setSoTimeout(timeoutMillis);
+                InputStream input = socket.getInputStream();
+                OutputStream output = socket.getOutputStream();
+                return new LoadConnection() {
+                    @Override
+                    public InputStream getInput() {
+                        return input;
+                    }
+
+                    @Override
+                    public OutputStream getOutput() {
+                        return output;
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        socket.close();
+                    }
+                };
+            } catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Creates transport that runs console controller of every
+     * connection in this process on its own thread, connected by pipes.
+     * @param resources dialog resources.
+     * @param viewSize view length.
+     * @return piped transport.
+     */
+    static LoadTransport piped(ResourceManager resources, int viewSize) {
+        return () -> {
+            PipedInputStream gameInput = new PipedInputStream(PIPE_SIZE);
+            PipedOutputStream clientOutput = new PipedOutputStream(gameInput);
+            PipedInputStream clientInput = new PipedInputStream(PIPE_SIZE);
+            PipedOutputStream gameOutput = new PipedOutputStream(clientInput);
+
+            Thread game = new Thread(() -> {
+                try (OutputStream output = gameOutput) {
+                    GuessTheNumberView view = new GuessTheNumberView(gameInput, output, resources, viewSize);
+                    new GuessTheNumberController(new GuessTheNumberLongModel(), view).execute();
+                } catch (IOException | RuntimeException e) {
+                    // the client closed the connection before the game end
+                }
+            }, "piped-game");
+            game.setDaemon(true);
+            game.start();
+
+            return new LoadConnection() {
+                @Override
+                public InputStream getInput() {
+                    return clientInput;
+                }
+
+                @Override
+                public OutputStream getOutput() {
+                    return clientOutput;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    clientOutput.close();
+                    clientInput.close();
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,368 @@
+package ua.training.game.metrics;
+
+import ua.training.game.GameEventListener;
+import ua.training.game.GuessValidation;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects metrics of all game sessions.
+ * Counters are {@link LongAdder}s and latencies are
+ * {@link LogHistogram}s, so sessions record events
+ * without locks and allocations.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class GameMetrics implements GameMetricsMBean {
+
+    /**
+     * Name of the registered MBean.
+     */
+    public static final String OBJECT_NAME = "ua.training.game:type=GameMetrics";
+
+    /**
+     * Count of running sessions.
+     */
+    private final LongAdder activeSessions = new LongAdder();
+
+    /**
+     * Count of started games.
+     */
+    private final LongAdder gamesStarted = new LongAdder();
+
+    /**
+     * Count of won games.
+     */
+    private final LongAdder gamesWon = new LongAdder();
+
+    /**
+     * Count of accepted guesses.
+     */
+    private final LongAdder guessesAccepted = new LongAdder();
+
+    /**
+     * Count of rejected inputs by {@link GuessValidation} ordinal.
+     */
+    private final LongAdder[] rejected = new LongAdder[GuessValidation.values().length];
+
+    /**
+     * Tries of won games.
+     */
+    private final LogHistogram tries = new LogHistogram();
+
+    /**
+     * Nanoseconds from input to printed reply.
+     */
+    private final LogHistogram turnLatency = new LogHistogram();
+
+    /**
+     * Nanoseconds from input to sent reply.
+     */
+    private final LogHistogram responseLatency = new LogHistogram();
+
+    /**
+     * Creates empty metrics.
+     */
+    public GameMetrics() {
+        for (int i = 0; i < rejected.length; i++) {
+            rejected[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Creates listener that records events of a new session.
+     * The session is active until {@link GameEventListener#sessionClosed()}.
+     * @return session listener.
+     */
+    public GameEventListener newSession() {
+        activeSessions.increment();
+        return new SessionMetrics();
+    }
+
+    /**
+     * Registers metrics in the platform MBean server as {@link #OBJECT_NAME}.
+     * @throws IllegalStateException if metrics can't be registered.
+     */
+    public void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            throw new IllegalStateException("Metrics can't be registered", e);
+        }
+    }
+
+    /**
+     * Gets tries histogram.
+     * @return tries of won games.
+     */
+    public LogHistogram getTries() {
+        return tries;
+    }
+
+    /**
+     * Gets turn latency histogram.
+     * @return nanoseconds from input to printed reply.
+     */
+    public LogHistogram getTurnLatency() {
+        return turnLatency;
+    }
+
+    /**
+     * Gets response latency histogram.
+     * @return nanoseconds from input to sent reply.
+     */
+    public LogHistogram getResponseLatency() {
+        return responseLatency;
+    }
+
+    /**
+     * Gets count of running sessions.
+     * @return active sessions.
+     */
+    @Override
+    public long getActiveSessions() {
+        return activeSessions.sum();
+    }
+
+    /**
+     * Gets count of started games.
+     * @return started games.
+     */
+    @Override
+    public long getGamesStarted() {
+        return gamesStarted.sum();
+    }
+
+    /**
+     * Gets count of won games.
+     * @return won games.
+     */
+    @Override
+    public long getGamesWon() {
+        return gamesWon.sum();
+    }
+
+    /**
+     * Gets count of accepted guesses.
+     * @return accepted guesses.
+     */
+    @Override
+    public long getGuessesAccepted() {
+        return guessesAccepted.sum();
+    }
+
+    /**
+     * Gets count of inputs that are not numbers.
+     * @return rejected inputs.
+     */
+    @Override
+    public long getRejectedNotANumber() {
+        return rejected[GuessValidation.NOT_A_NUMBER.ordinal()].sum();
+    }
+
+    /**
+     * Gets count of guesses out of bounds.
+     * @return rejected inputs.
+     */
+    @Override
+    public long getRejectedOutOfBounds() {
+        return rejected[GuessValidation.OUT_OF_BOUNDS.ordinal()].sum();
+    }
+
+    /**
+     * Gets count of repeated guesses.
+     * @return rejected inputs.
+     */
+    @Override
+    public long getRejectedRepeated() {
+        return rejected[GuessValidation.REPEATED.ordinal()].sum();
+    }
+
+    /**
+     * Gets mean tries of won games.
+     * @return mean tries.
+     */
+    @Override
+    public double getTriesMean() {
+        return tries.getMean();
+    }
+
+    /**
+     * Gets 99th percentile of tries of won games.
+     * @return tries percentile.
+     */
+    @Override
+    public long getTriesP99() {
+        return tries.getValueAtQuantile(0.99);
+    }
+
+    /**
+     * Gets median time from input to printed reply.
+     * @return latency in microseconds.
+     */
+    @Override
+    public long getTurnLatencyP50Micros() {
+        return toMicros(turnLatency.getValueAtQuantile(0.5));
+    }
+
+    /**
+     * Gets 99th percentile of time from input to printed reply.
+     * @return latency in microseconds.
+     */
+    @Override
+    public long getTurnLatencyP99Micros() {
+        return toMicros(turnLatency.getValueAtQuantile(0.99));
+    }
+
+    /**
+     * Gets max time from input to printed reply.
+     * @return latency in microseconds.
+     */
+    @Override
+    public long getTurnLatencyMaxMicros() {
+        return toMicros(turnLatency.getMax());
+    }
+
+    /**
+     * Gets median time from input to sent reply.
+     * @return latency in microseconds.
+     */
+    @Override
+    public long getResponseLatencyP50Micros() {
+        return toMicros(responseLatency.getValueAtQuantile(0.5));
+    }
+
+    /**
+     * Gets 99th percentile of time from input to sent reply.
+     * @return latency in microseconds.
+     */
+    @Override
+    public long getResponseLatencyP99Micros() {
+        return toMicros(responseLatency.getValueAtQuantile(0.99));
+    }
+
+    /**
+     * Gets max time from input to sent reply.
+     * @return latency in microseconds.
+     */
+    @Override
+    public long getResponseLatencyMaxMicros() {
+        return toMicros(responseLatency.getMax());
+    }
+
+    /**
+     * Converts nanoseconds to microseconds.
+     * @param nanos nanoseconds.
+     * @return microseconds.
+     */
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    /**
+     * Records events of one session.
+     * It is used by the session thread only.
+     */
+    private final class SessionMetrics implements GameEventListener {
+
+        /**
+         * Time of the last input.
+         */
+        private long receivedAt;
+
+        /**
+         * Is the reply to the last input not sent yet.
+         */
+        private boolean replyPending;
+
+        /**
+         * Is the session closed.
+         */
+        private boolean closed;
+
+        /**
+         * Counts started game.
+         * @param minBound min bound of the game.
+         * @param maxBound max bound of the game.
+         * @param secretNumber value that need to guess.
+         */
+        @Override
+        public void gameStarted(long minBound, long maxBound, long secretNumber) {
+            gamesStarted.increment();
+        }
+
+        /**
+         * Counts accepted guess.
+         * @param value entered value.
+         */
+        @Override
+        public void guessAccepted(long value) {
+            guessesAccepted.increment();
+        }
+
+        /**
+         * Counts won game and its tries.
+         * @param gameTries count of guesses.
+         */
+        @Override
+        public void gameWon(int gameTries) {
+            gamesWon.increment();
+            tries.record(gameTries);
+        }
+
+        /**
+         * Remembers input time.
+         */
+        @Override
+        public void inputReceived() {
+            receivedAt = System.nanoTime();
+            replyPending = true;
+        }
+
+        /**
+         * Counts rejected input.
+         * @param reason rejection reason.
+         */
+        @Override
+        public void inputRejected(GuessValidation reason) {
+            rejected[reason.ordinal()].increment();
+        }
+
+        /**
+         * Records time from input to printed reply.
+         */
+        @Override
+        public void outputReady() {
+            if (replyPending) {
+                turnLatency.record(System.nanoTime() - receivedAt);
+            }
+        }
+
+        /**
+         * Records time from input to sent reply.
+         */
+        @Override
+        public void outputFlushed() {
+            if (replyPending) {
+                responseLatency.record(System.nanoTime() - receivedAt);
+                replyPending = false;
+            }
+        }
+
+        /**
+         * Counts the session as finished once.
+         */
+        @Override
+        public void sessionClosed() {
+            if (!closed) {
+                closed = true;
+                activeSessions.decrement();
+            }
+        }
+    }
+}
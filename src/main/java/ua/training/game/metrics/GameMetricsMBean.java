@@ -0,0 +1,101 @@
+package ua.training.game.metrics;
+
+/**
+ * Game metrics exported over JMX.
+ * Latencies are in microseconds.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public interface GameMetricsMBean {
+
+    /**
+     * Gets count of running sessions.
+     * @return active sessions.
+     */
+    long getActiveSessions();
+
+    /**
+     * Gets count of started games.
+     * @return started games.
+     */
+    long getGamesStarted();
+
+    /**
+     * Gets count of won games.
+     * @return won games.
+     */
+    long getGamesWon();
+
+    /**
+     * Gets count of accepted guesses.
+     * @return accepted guesses.
+     */
+    long getGuessesAccepted();
+
+    /**
+     * Gets count of inputs that are not numbers.
+     * @return rejected inputs.
+     */
+    long getRejectedNotANumber();
+
+    /**
+     * Gets count of guesses out of bounds.
+     * @return rejected inputs.
+     */
+    long getRejectedOutOfBounds();
+
+    /**
+     * Gets count of repeated guesses.
+     * @return rejected inputs.
+     */
+    long getRejectedRepeated();
+
+    /**
+     * Gets mean tries of won games.
+     * @return mean tries.
+     */
+    double getTriesMean();
+
+    /**
+     * Gets 99th percentile of tries of won games.
+     * @return tries percentile.
+     */
+    long getTriesP99();
+
+    /**
+     * Gets median time from input to printed reply.
+     * @return latency in microseconds.
+     */
+    long getTurnLatencyP50Micros();
+
+    /**
+     * Gets 99th percentile of time from input to printed reply.
+     * @return latency in microseconds.
+     */
+    long getTurnLatencyP99Micros();
+
+    /**
+     * Gets max time from input to printed reply.
+     * @return latency in microseconds.
+     */
+    long getTurnLatencyMaxMicros();
+
+    /**
+     * Gets median time from input to sent reply.
+     * @return latency in microseconds.
+     */
+    long getResponseLatencyP50Micros();
+
+    /**
+     * Gets 99th percentile of time from input to sent reply.
+     * @return latency in microseconds.
+     */
+    long getResponseLatencyP99Micros();
+
+    /**
+     * Gets max time from input to sent reply.
+     * @return latency in microseconds.
+     */
+    long getResponseLatencyMaxMicros();
+}
@@ -0,0 +1,156 @@
+package ua.training.game.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of non negative values with fixed memory.
+ * Each power of two interval is split into 8 buckets,
+ * so a value is counted with at most 12.5% error.
+ * Values from 0 to 7 are counted exactly.
+ * Recording is lock free and doesn't allocate.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class LogHistogram {
+
+    /**
+     * Count of bits that select bucket in power of two interval.
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * Count of buckets in power of two interval.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Count of buckets for all long values.
+     */
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS;
+
+    /**
+     * Count of values of each bucket.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Count of recorded values.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Sum of recorded values.
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Max recorded value.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records the value, negative values are recorded as zero.
+     * @param value recorded value.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Gets count of recorded values.
+     * @return values count.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets mean of recorded values.
+     * @return mean value, 0 if nothing was recorded.
+     */
+    public double getMean() {
+        long values = count.sum();
+        return values == 0 ? 0 : (double) sum.sum() / values;
+    }
+
+    /**
+     * Gets max recorded value.
+     * @return max value.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets value that is not less than the quantile
+     * of recorded values.
+     * @param quantile quantile in interval [0, 1].
+     * @return highest value of the quantile bucket, 0 if nothing was recorded.
+     */
+    public long getValueAtQuantile(double quantile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketHighestValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Gets bucket of the value.
+     * @param value non negative value.
+     * @return bucket index.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return ((shift + 1) << SUB_BUCKET_BITS) | subBucket;
+    }
+
+    /**
+     * Gets highest value counted by the bucket.
+     * @param index bucket index.
+     * @return highest bucket value.
+     */
+    static long bucketHighestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) (SUB_BUCKETS | (index & (SUB_BUCKETS - 1))) << shift;
+        return lowest + ((1L << shift) - 1);
+    }
+}
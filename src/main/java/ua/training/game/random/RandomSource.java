@@ -0,0 +1,65 @@
+package ua.training.game.random;
+
+/**
+ * Source of random values that are used for
+ * the secret number generation.
+ * Implementations provide uniformly distributed 64 bits,
+ * bounded values are drawn by the shared unbiased algorithm,
+ * so sources with equal bits produce equal games.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public interface RandomSource {
+
+    /**
+     * Returns uniformly distributed 64 bits.
+     * @return random value.
+     */
+    long nextLong();
+
+    /**
+     * Returns uniformly distributed value
+     * in interval [min, max]. Works for any bounds,
+     * including the whole long range, and doesn't allocate.
+     * @param min minimal interval value.
+     * @param max max interval value.
+     * @return random value.
+     */
+    default long nextLong(long min, long max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min value can't be greater than max value");
+        }
+
+        long range = max - min + 1;
+        long bits = nextLong();
+
+        if ((range & (range - 1)) == 0) {
+            return min + (bits & (range - 1));
+        }
+
+        if (range > 0) {
+            long limit = range - 1;
+            for (long u = bits >>> 1; u + limit - (bits = u % range) < 0; u = nextLong() >>> 1) {
+                // reject values from the incomplete last interval
+            }
+            return min + bits;
+        }
+
+        while (Long.compareUnsigned(bits, range) >= 0) {
+            bits = nextLong();
+        }
+        return min + bits;
+    }
+
+    /**
+     * Returns uniformly distributed value
+     * in interval [min, max].
+     * @param min minimal interval value.
+     * @param max max interval value.
+     * @return random value.
+     */
+    default int nextInt(int min, int max) {
+        return (int) nextLong(min, max);
+    }
+}
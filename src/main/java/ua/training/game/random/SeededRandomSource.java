@@ -0,0 +1,64 @@
+package ua.training.game.random;
+
+/**
+ * Deterministic random source for game replay.
+ * Uses SplitMix64 algorithm implemented here,
+ * so the sequence of the seed is the same on every JVM.
+ * Instance isn't thread safe.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class SeededRandomSource implements RandomSource {
+
+    /**
+     * SplitMix64 increment.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Seed that source was created with.
+     */
+    private final long seed;
+
+    /**
+     * Current generator state.
+     */
+    private long state;
+
+    /**
+     * Creates source with specific seed.
+     * @param seed initial seed.
+     */
+    public SeededRandomSource(long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    /**
+     * Gets seed that source was created with.
+     * @return seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Restarts the sequence from the seed.
+     */
+    public void reset() {
+        state = seed;
+    }
+
+    /**
+     * Returns uniformly distributed 64 bits.
+     * @return random value.
+     */
+    @Override
+    public long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
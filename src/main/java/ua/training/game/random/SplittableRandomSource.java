@@ -0,0 +1,59 @@
+package ua.training.game.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random source backed by {@link SplittableRandom}.
+ * Instance isn't thread safe, each session
+ * or worker must use its own {@link #split()} result.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class SplittableRandomSource implements RandomSource {
+
+    /**
+     * Provides random values.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Creates source with unpredictable seed.
+     */
+    public SplittableRandomSource() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates source with specific seed.
+     * @param seed initial seed.
+     */
+    public SplittableRandomSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates source over existing generator.
+     * @param random generator that will be used.
+     */
+    private SplittableRandomSource(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Creates new independent source.
+     * @return split source.
+     */
+    public SplittableRandomSource split() {
+        return new SplittableRandomSource(random.split());
+    }
+
+    /**
+     * Returns uniformly distributed 64 bits.
+     * @return random value.
+     */
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+}
@@ -0,0 +1,26 @@
+package ua.training.game.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Random source backed by {@link ThreadLocalRandom}.
+ * Can be shared by any count of threads.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public enum ThreadLocalRandomSource implements RandomSource {
+    /**
+     * Single instance that application uses by default.
+     */
+    INSTANCE;
+
+    /**
+     * Returns uniformly distributed 64 bits.
+     * @return random value.
+     */
+    @Override
+    public long nextLong() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+}
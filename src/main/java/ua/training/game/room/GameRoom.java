@@ -0,0 +1,331 @@
+package ua.training.game.room;
+
+import ua.training.game.random.RandomSource;
+import ua.training.game.utils.RunHistory;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Game where many players guess the same secret at once.
+ * Every accepted guess narrows the shared interval like the single
+ * player model does. The interval of values that are neither
+ * entered nor excluded is packed into one long and narrowed
+ * by compare and set, so guessers never wait for a lock.
+ * Entered values lie right outside this interval, so a guess
+ * next to it is repeated, a farther one is out of bounds.
+ * The first player who enters the secret wins, accepted guesses
+ * are pushed to the lock-free shared history.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class GameRoom {
+
+    /**
+     * Winner id before the secret is guessed.
+     */
+    public static final long NO_WINNER = Long.MIN_VALUE;
+
+    /**
+     * Initial min bound.
+     */
+    private final int minBound;
+
+    /**
+     * Initial max bound.
+     */
+    private final int maxBound;
+
+    /**
+     * Guessing number.
+     */
+    private final int secretNumber;
+
+    /**
+     * Interval of not entered values that may be the secret,
+     * first value in high half, last value in low half.
+     */
+    private final AtomicLong candidates;
+
+    /**
+     * Id of the player who guessed the secret.
+     */
+    private final AtomicLong winner = new AtomicLong(NO_WINNER);
+
+    /**
+     * Newest accepted guess.
+     */
+    private final AtomicReference<Guess> history = new AtomicReference<>();
+
+    /**
+     * Creates room with random secret.
+     * @param minBound min game value.
+     * @param maxBound max game value.
+     * @param randomSource source of the guessing number.
+     */
+    public GameRoom(int minBound, int maxBound, RandomSource randomSource) {
+        this(minBound, maxBound, checkedSecret(minBound, maxBound, randomSource));
+    }
+
+    /**
+     * Creates room with specific secret.
+     * @param minBound min game value.
+     * @param maxBound max game value.
+     * @param secretNumber guessing number in the bounds.
+     */
+    public GameRoom(int minBound, int maxBound, int secretNumber) {
+        if (minBound > maxBound || secretNumber < minBound || secretNumber > maxBound) {
+            throw new IllegalArgumentException("Secret number must be in bounds");
+        }
+        this.minBound = minBound;
+        this.maxBound = maxBound;
+        this.secretNumber = secretNumber;
+        this.candidates = new AtomicLong(pack(minBound, maxBound));
+    }
+
+    /**
+     * Enters the guess of the player.
+     * @param player player id.
+     * @param value guess.
+     * @return result of the guess.
+     */
+    public RoomGuess guess(long player, int value) {
+        while (winner.get() == NO_WINNER) {
+            long packed = candidates.get();
+            int first = first(packed);
+            int last = last(packed);
+
+            if (value < first || value > last) {
+                if ((value == first - 1 && first > minBound) || (value == last + 1 && last < maxBound)) {
+                    return RoomGuess.REPEATED;
+                }
+                return RoomGuess.OUT_OF_BOUNDS;
+            }
+
+            if (value == secretNumber) {
+                if (!winner.compareAndSet(NO_WINNER, player)) {
+                    return RoomGuess.TOO_LATE;
+                }
+                push(player, value);
+                return RoomGuess.WON;
+            }
+
+            long narrowed = value < secretNumber ? pack(value + 1, last) : pack(first, value - 1);
+            if (candidates.compareAndSet(packed, narrowed)) {
+                push(player, value);
+                return value < secretNumber ? RoomGuess.TOO_LOW : RoomGuess.TOO_HIGH;
+            }
+        }
+        return RoomGuess.TOO_LATE;
+    }
+
+    /**
+     * Gets current min bound, the greatest entered value lower
+     * than the secret or the initial bound.
+     * @return lower bound.
+     */
+    public int getLowerBound() {
+        int first = first(candidates.get());
+        return first > minBound ? first - 1 : first;
+    }
+
+    /**
+     * Gets current max bound, the lowest entered value greater
+     * than the secret or the initial bound.
+     * @return upper bound.
+     */
+    public int getUpperBound() {
+        int last = last(candidates.get());
+        return last < maxBound ? last + 1 : last;
+    }
+
+    /**
+     * Gets initial min bound.
+     * @return min game value.
+     */
+    public int getMinBound() {
+        return minBound;
+    }
+
+    /**
+     * Gets initial max bound.
+     * @return max game value.
+     */
+    public int getMaxBound() {
+        return maxBound;
+    }
+
+    /**
+     * Gets guessing number.
+     * @return secret number.
+     */
+    public int getSecretNumber() {
+        return secretNumber;
+    }
+
+    /**
+     * Gets the player who guessed the secret.
+     * @return winner id or {@link #NO_WINNER}.
+     */
+    public long getWinner() {
+        return winner.get();
+    }
+
+    /**
+     * Checks is the secret guessed.
+     * @return true if the room has winner.
+     */
+    public boolean isFinished() {
+        return winner.get() != NO_WINNER;
+    }
+
+    /**
+     * Gets accepted guesses in ascending order.
+     * A guess is in the history shortly after its result is returned.
+     * @return accepted values.
+     */
+    public int[] getEnteredNumbers() {
+        Guess newest = history.get();
+        int[] values = new int[newest == null ? 0 : newest.index];
+        int index = 0;
+        for (Guess guess = newest; guess != null; guess = guess.next) {
+            values[index++] = guess.value;
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    /**
+     * Gets count of accepted guesses.
+     * @return accepted guesses count.
+     */
+    public int getTries() {
+        Guess newest = history.get();
+        return newest == null ? 0 : newest.index;
+    }
+
+    /**
+     * Gets string of the accepted guesses.
+     * @return sorted values with consecutive runs collapsed.
+     */
+    public String getPreviouslyEnteredNumbersString() {
+        int[] values = getEnteredNumbers();
+        RunHistory line = new RunHistory(RunHistory.DEFAULT_MAX_RUNS);
+        for (int value : values) {
+            line.addSorted(value, value <= secretNumber);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Gets player who entered the value.
+     * @param value accepted guess.
+     * @return player id or {@link #NO_WINNER} if the value was not accepted.
+     */
+    public long getPlayer(int value) {
+        for (Guess guess = history.get(); guess != null; guess = guess.next) {
+            if (guess.value == value) {
+                return guess.player;
+            }
+        }
+        return NO_WINNER;
+    }
+
+    /**
+     * Pushes accepted guess to the history.
+     * @param player player id.
+     * @param value accepted guess.
+     */
+    private void push(long player, int value) {
+        while (true) {
+            Guess newest = history.get();
+            Guess guess = new Guess(player, value, newest);
+            if (history.compareAndSet(newest, guess)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Packs interval into long.
+     * @param first first value.
+     * @param last last value.
+     * @return packed interval.
+     */
+    private static long pack(int first, int last) {
+        return (long) first << 32 | (last & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets first value of the packed interval.
+     * @param packed packed interval.
+     * @return first value.
+     */
+    private static int first(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * Gets last value of the packed interval.
+     * @param packed packed interval.
+     * @return last value.
+     */
+    private static int last(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Creates random secret in the bounds.
+     * @param minBound min game value.
+     * @param maxBound max game value.
+     * @param randomSource source of the guessing number.
+     * @return secret number.
+     */
+    private static int checkedSecret(int minBound, int maxBound, RandomSource randomSource) {
+        if (minBound > maxBound) {
+            throw new IllegalArgumentException("Max bound value can't be less than min bound");
+        }
+        return randomSource.nextInt(minBound, maxBound);
+    }
+
+    /**
+     * Accepted guess, node of the history stack.
+     */
+    private static final class Guess {
+
+        /**
+         * Player id.
+         */
+        private final long player;
+
+        /**
+         * Accepted value.
+         */
+        private final int value;
+
+        /**
+         * Count of accepted guesses including this one.
+         */
+        private final int index;
+
+        /**
+         * Previous accepted guess.
+         */
+        private final Guess next;
+
+        /**
+         * Creates history node.
+         * @param player player id.
+         * @param value accepted value.
+         * @param next previous accepted guess.
+         */
+        Guess(long player, int value, Guess next) {
+            this.player = player;
+            this.value = value;
+            this.index = next == null ? 1 : next.index + 1;
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package ua.training.game.room;
+
+import ua.training.game.random.ThreadLocalRandomSource;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Open game rooms by id.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class GameRooms {
+
+    /**
+     * Rooms by id.
+     */
+    private final ConcurrentHashMap<Long, GameRoom> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * Id of the next room.
+     */
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * Opens room with random secret.
+     * @param minBound min game value.
+     * @param maxBound max game value.
+     * @return id of the room.
+     */
+    public long create(int minBound, int maxBound) {
+        GameRoom room = new GameRoom(minBound, maxBound, ThreadLocalRandomSource.INSTANCE);
+        long id = nextId.getAndIncrement();
+        rooms.put(id, room);
+        return id;
+    }
+
+    /**
+     * Gets room.
+     * @param id room id.
+     * @return room or null if there is no such room.
+     */
+    public GameRoom get(long id) {
+        return rooms.get(id);
+    }
+
+    /**
+     * Closes room.
+     * @param id room id.
+     * @return false if there was no such room.
+     */
+    public boolean remove(long id) {
+        return rooms.remove(id) != null;
+    }
+
+    /**
+     * Gets count of open rooms.
+     * @return rooms count.
+     */
+    public int size() {
+        return rooms.size();
+    }
+}
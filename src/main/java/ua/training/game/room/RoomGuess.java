@@ -0,0 +1,34 @@
+package ua.training.game.room;
+
+/**
+ * Result of a guess in the game room.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public enum RoomGuess {
+    /**
+     * The guess is lower than the secret, the interval is narrowed.
+     */
+    TOO_LOW,
+    /**
+     * The guess is greater than the secret, the interval is narrowed.
+     */
+    TOO_HIGH,
+    /**
+     * The guess is the secret and the player is the first who guessed it.
+     */
+    WON,
+    /**
+     * The secret is already guessed by another player.
+     */
+    TOO_LATE,
+    /**
+     * The guess is out of the current interval.
+     */
+    OUT_OF_BOUNDS,
+    /**
+     * The guess was entered before.
+     */
+    REPEATED
+}
@@ -0,0 +1,115 @@
+package ua.training.game.server;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Bytes of a connection that are not sent yet.
+ * Session view writes its replies here and the event loop
+ * moves them to the socket through its direct buffer,
+ * so a partial socket write keeps the rest for later.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+final class ConnectionOutput extends OutputStream {
+
+    /**
+     * Pending bytes.
+     */
+    private byte[] buffer;
+
+    /**
+     * Index of the first pending byte.
+     */
+    private int head;
+
+    /**
+     * Index after the last pending byte.
+     */
+    private int tail;
+
+    /**
+     * Creates empty output.
+     * @param capacity initial capacity.
+     */
+    ConnectionOutput(int capacity) {
+        buffer = new byte[capacity];
+    }
+
+    /**
+     * Appends one byte.
+     * @param b appended byte.
+     */
+    @Override
+    public void write(int b) {
+        ensureCapacity(1);
+        buffer[tail++] = (byte) b;
+    }
+
+    /**
+     * Appends bytes.
+     * @param bytes appended bytes.
+     * @param offset offset of the bytes.
+     * @param length count of the bytes.
+     */
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, tail, length);
+        tail += length;
+    }
+
+    /**
+     * Copies pending bytes into the buffer, they stay pending
+     * until {@link #consume(int)} is called.
+     * @param target buffer in write mode.
+     * @return count of copied bytes.
+     */
+    int copyTo(ByteBuffer target) {
+        int count = Math.min(tail - head, target.remaining());
+        target.put(buffer, head, count);
+        return count;
+    }
+
+    /**
+     * Removes sent bytes.
+     * @param count count of sent bytes.
+     */
+    void consume(int count) {
+        head += count;
+        if (head == tail) {
+            head = 0;
+            tail = 0;
+        }
+    }
+
+    /**
+     * Gets count of pending bytes.
+     * @return pending bytes count.
+     */
+    int size() {
+        return tail - head;
+    }
+
+    /**
+     * Makes room for more bytes, moving pending
+     * bytes to the start before growing.
+     * @param bytes count of bytes that will be appended.
+     */
+    private void ensureCapacity(int bytes) {
+        if (buffer.length - tail >= bytes) {
+            return;
+        }
+
+        int size = tail - head;
+        if (buffer.length - size < bytes) {
+            buffer = Arrays.copyOfRange(buffer, head, head + Math.max(buffer.length * 2, size + bytes));
+        } else {
+            System.arraycopy(buffer, head, buffer, 0, size);
+        }
+        head = 0;
+        tail = size;
+    }
+}
@@ -0,0 +1,277 @@
+package ua.training.game.server;
+
+import ua.training.game.GameEventListener;
+import ua.training.game.GuessTheNumberController;
+import ua.training.game.GuessTheNumberModel;
+import ua.training.game.GuessTheNumberView;
+import ua.training.game.random.SplittableRandomSource;
+import ua.training.game.utils.AsyncOutputStream;
+import ua.training.game.utils.ResourceManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Accepts local TCP connections and runs independent
+ * game session for each of them.
+ * Sessions are executed on virtual threads when
+ * the running JVM supports them, otherwise on
+ * the cached thread pool.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class GameServer implements SessionServer {
+
+    /**
+     * Default sessions limit.
+     */
+    public static final int DEFAULT_MAX_SESSIONS = 10_000;
+
+    /**
+     * Pending connections queue length.
+     */
+    private static final int BACKLOG = 1024;
+
+    /**
+     * Size of the session output ring when output is asynchronous.
+     */
+    private static final int OUTPUT_RING_SIZE = 16 * 1024;
+
+    /**
+     * Server socket that accepts players.
+     */
+    private final ServerSocket serverSocket;
+
+    /**
+     * Executes game sessions.
+     */
+    private final ExecutorService sessionExecutor;
+
+    /**
+     * Are sessions executed on virtual threads.
+     * Then each session output is sent by its own writer thread.
+     */
+    private final boolean virtualThreads;
+
+    /**
+     * Limits count of concurrent sessions.
+     */
+    private final Semaphore sessionPermits;
+
+    /**
+     * Max count of concurrent sessions.
+     */
+    private final int maxSessions;
+
+    /**
+     * Provides user dialog resources.
+     */
+    private final ResourceManager resources;
+
+    /**
+     * View length of each session.
+     */
+    private final int viewSize;
+
+    /**
+     * Root random source, every session gets its own split.
+     */
+    private final SplittableRandomSource randomSource = new SplittableRandomSource();
+
+    /**
+     * Creates event listener of each session.
+     */
+    private final Supplier<GameEventListener> sessionListeners;
+
+    /**
+     * Creates server bound to the loopback address.
+     * @param port port that will be listened, 0 for any free port.
+     * @param maxSessions max count of concurrent sessions.
+     * @param resources game message resource.
+     * @param viewSize view length of each session.
+     * @throws IOException if socket can't be bound.
+     */
+    public GameServer(int port, int maxSessions,
+                      ResourceManager resources, int viewSize) throws IOException {
+        this(port, maxSessions, resources, viewSize, () -> GameEventListener.NONE);
+    }
+
+    /**
+     * Creates server bound to the loopback address
+     * that reports events of every session.
+     * @param port port that will be listened, 0 for any free port.
+     * @param maxSessions max count of concurrent sessions.
+     * @param resources game message resource.
+     * @param viewSize view length of each session.
+     * @param sessionListeners creates event listener of each session.
+     * @throws IOException if socket can't be bound.
+     */
+    public GameServer(int port, int maxSessions, ResourceManager resources,
+                      int viewSize, Supplier<GameEventListener> sessionListeners) throws IOException {
+        if (maxSessions <= 0) {
+            throw new IllegalArgumentException("Max sessions must be positive");
+        }
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        ExecutorService virtualExecutor = createVirtualThreadExecutor();
+        this.virtualThreads = virtualExecutor != null;
+        this.sessionExecutor = virtualThreads ? virtualExecutor : Executors.newCachedThreadPool();
+        this.sessionPermits = new Semaphore(maxSessions);
+        this.maxSessions = maxSessions;
+        this.resources = resources;
+        this.viewSize = viewSize;
+        this.sessionListeners = sessionListeners;
+    }
+
+    /**
+     * Accepts connections until the server is closed.
+     * Blocks when max sessions count is reached.
+     */
+    @Override
+    public void serve() {
+        while (!serverSocket.isClosed()) {
+            try {
+                sessionPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                sessionPermits.release();
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                e.printStackTrace();
+                continue;
+            }
+
+            SplittableRandomSource sessionRandom = randomSource.split();
+            sessionExecutor.execute(() -> runSession(socket, sessionRandom));
+        }
+    }
+
+    /**
+     * Gets port the server listens.
+     * @return local port.
+     */
+    @Override
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Gets max count of concurrent sessions.
+     * @return sessions limit.
+     */
+    @Override
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    /**
+     * Gets count of running sessions.
+     * @return running sessions count.
+     */
+    @Override
+    public int getActiveSessions() {
+        return maxSessions - sessionPermits.availablePermits();
+    }
+
+    /**
+     * Stops accepting connections and waits for running sessions.
+     * @throws IOException if socket can't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        sessionExecutor.shutdown();
+        try {
+            sessionExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Plays one game with connected user.
+     * @param socket user connection.
+     * @param sessionRandom random source of the session.
+     */
+    private void runSession(Socket socket, SplittableRandomSource sessionRandom) {
+        GameEventListener listener = sessionListeners.get();
+        try (Socket s = socket;
+             OutputStream out = createSessionOutput(s)) {
+            s.setTcpNoDelay(true);
+            GuessTheNumberModel model = new GuessTheNumberModel(sessionRandom);
+            GuessTheNumberView view = new GuessTheNumberView(s.getInputStream(), out,
+                    resources, viewSize);
+            new GuessTheNumberController(model, view, listener).execute();
+        } catch (NoSuchElementException | UncheckedIOException | SocketException e) {
+            // user disconnected before the game end
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            listener.sessionClosed();
+            sessionPermits.release();
+        }
+    }
+
+    /**
+     * Creates session output stream.
+     * With virtual threads output is written asynchronously,
+     * so a slow client doesn't delay its game logic.
+     * @param socket user connection.
+     * @return output stream of the session.
+     * @throws IOException if socket is closed.
+     */
+    private OutputStream createSessionOutput(Socket socket) throws IOException {
+        if (virtualThreads) {
+            return new AsyncOutputStream(socket.getOutputStream(), OUTPUT_RING_SIZE, sessionExecutor);
+        }
+        return socket.getOutputStream();
+    }
+
+    /**
+     * Checks are virtual threads available in the running JVM.
+     * @return true if sessions run on virtual threads.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates virtual thread per task executor if it is available.
+     * @return sessions executor or null.
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,541 @@
+package ua.training.game.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import ua.training.game.GameService;
+import ua.training.game.GuessValidation;
+import ua.training.game.room.GameRoom;
+import ua.training.game.room.GameRooms;
+import ua.training.game.room.RoomGuess;
+import ua.training.game.utils.JsonWriter;
+import ua.training.game.utils.NumberParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
+
+/**
+ * JSON API of the games over the JDK HTTP server.
+ * <ul>
+ * <li>{@code POST /games?min=1&max=100} creates game, 201</li>
+ * <li>{@code GET /games/{id}} gets game state</li>
+ * <li>{@code POST /games/{id}/guesses?value=50} puts the guess</li>
+ * <li>{@code DELETE /games/{id}} removes game, 204</li>
+ * <li>{@code POST /rooms?min=1&max=100} opens multiplayer room, 201</li>
+ * <li>{@code GET /rooms/{id}} gets room state</li>
+ * <li>{@code POST /rooms/{id}/guesses?player=7&value=50} puts the guess of the player</li>
+ * <li>{@code DELETE /rooms/{id}} closes room, 204</li>
+ * </ul>
+ * Unknown game or room is 404, bad request is 400, guess into won game is 409,
+ * error body is {@code {"error":"..."}}.
+ * Game and room history is the array of {@code [from, to]} runs
+ * of the accepted guesses, e.g. {@code [[1,40],[57,57]]}.
+ * Every handler thread reuses its JSON writer and number parser.
+ * <p>
+ * The JDK HTTP server reads {@value #NO_DELAY_PROPERTY} once,
+ * when its first server is created, and it applies to every
+ * server of the JVM, so the server doesn't set it.
+ * The {@code http} mode of {@link ua.training.Main} sets it to {@code true}
+ * unless the JVM is run with {@code -Dsun.net.httpserver.nodelay=false},
+ * other applications set it before the first server is created.
+ *
+ * @version 1.3 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class HttpGameServer implements AutoCloseable {
+
+    /**
+     * Pending connections queue length.
+     */
+    private static final int BACKLOG = 1024;
+
+    /**
+     * Path of the games resource.
+     */
+    private static final String GAMES_PATH = "/games";
+
+    /**
+     * Path of the guesses of a game.
+     */
+    private static final String GUESSES_PATH = "/guesses";
+
+    /**
+     * Path of the rooms resource.
+     */
+    private static final String ROOMS_PATH = "/rooms";
+
+    /**
+     * Content type of the responses.
+     */
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+    /**
+     * JVM-wide property that disables Nagle's algorithm on the JDK HTTP server
+     * sockets, otherwise separately written headers and body wait for delayed ACK.
+     */
+    public static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    /**
+     * Writer and parser of the handler thread.
+     */
+    private static final ThreadLocal<RequestBuffers> BUFFERS = ThreadLocal.withInitial(RequestBuffers::new);
+
+    /**
+     * Games of the API.
+     */
+    private final GameService service;
+
+    /**
+     * Open multiplayer rooms.
+     */
+    private final GameRooms rooms;
+
+    /**
+     * JDK HTTP server.
+     */
+    private final HttpServer httpServer;
+
+    /**
+     * Creates server bound to the loopback address, it serves after {@link #start()}.
+     * @param port port that will be listened, 0 for any free port.
+     * @param service games of the API.
+     * @param executor runs request handlers.
+     * @throws IOException if socket can't be bound.
+     */
+    public HttpGameServer(int port, GameService service, Executor executor) throws IOException {
+        this(port, service, new GameRooms(), executor);
+    }
+
+    /**
+     * Creates server with specific rooms, it serves after {@link #start()}.
+     * @param port port that will be listened, 0 for any free port.
+     * @param service games of the API.
+     * @param rooms open multiplayer rooms.
+     * @param executor runs request handlers.
+     * @throws IOException if socket can't be bound.
+     */
+    public HttpGameServer(int port, GameService service, GameRooms rooms, Executor executor) throws IOException {
+        this.service = service;
+        this.rooms = rooms;
+        this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        this.httpServer.createContext(GAMES_PATH, this::handleGames);
+        this.httpServer.createContext(ROOMS_PATH, this::handleRooms);
+        this.httpServer.setExecutor(executor);
+    }
+
+    /**
+     * Starts serving requests in background.
+     */
+    public void start() {
+        httpServer.start();
+    }
+
+    /**
+     * Gets port the server listens.
+     * @return local port.
+     */
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server, running exchanges are not awaited.
+     */
+    @Override
+    public void close() {
+        httpServer.stop(0);
+    }
+
+    /**
+     * Handles request to the games.
+     * @param exchange HTTP exchange.
+     * @throws IOException if response can't be sent.
+     */
+    private void handleGames(HttpExchange exchange) throws IOException {
+        respond(exchange, GAMES_PATH, this::createGame, this::handleGame);
+    }
+
+    /**
+     * Handles request to the rooms.
+     * @param exchange HTTP exchange.
+     * @throws IOException if response can't be sent.
+     */
+    private void handleRooms(HttpExchange exchange) throws IOException {
+        respond(exchange, ROOMS_PATH, this::createRoom, this::handleRoom);
+    }
+
+    /**
+     * Routes the request to the resource collection or its item and sends response.
+     * @param exchange HTTP exchange.
+     * @param resource path of the collection.
+     * @param creator creates collection item.
+     * @param handler handles request to the item.
+     * @throws IOException if response can't be sent.
+     */
+    private void respond(HttpExchange exchange, String resource,
+                         Creator creator, ItemHandler handler) throws IOException {
+        RequestBuffers buffers = BUFFERS.get();
+        JsonWriter json = buffers.json.reset();
+        try {
+            drain(exchange.getRequestBody());
+            String path = exchange.getRequestURI().getRawPath();
+            String method = exchange.getRequestMethod();
+            int status;
+
+            if (path.length() == resource.length()
+                    || (path.length() == resource.length() + 1 && path.charAt(resource.length()) == '/')) {
+                status = "POST".equals(method) ? creator.create(exchange, buffers) : error(json, 405, "Method not allowed");
+            } else {
+                status = routeItem(exchange, buffers, resource, path, method, handler);
+            }
+            send(exchange, status, json);
+        } catch (RuntimeException e) {
+            error(json.reset(), 500, "Internal error");
+            send(exchange, 500, json);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Parses item id and routes the request to the item or its guesses.
+     * @param exchange HTTP exchange.
+     * @param buffers buffers of the thread.
+     * @param resource path of the collection.
+     * @param path request path.
+     * @param method request method.
+     * @param handler handles request to the item.
+     * @return response status.
+     */
+    private static int routeItem(HttpExchange exchange, RequestBuffers buffers, String resource,
+                                 String path, String method, ItemHandler handler) {
+        int idStart = resource.length() + 1;
+        int idEnd = path.indexOf('/', idStart);
+        if (idEnd < 0) {
+            idEnd = path.length();
+        }
+        if (path.charAt(resource.length()) != '/' || !buffers.parse(path, idStart, idEnd)) {
+            return error(buffers.json, 404, "Not found");
+        }
+        long id = buffers.parser.getValue();
+
+        if (idEnd == path.length()) {
+            return handler.handle(exchange, buffers, id, method, false);
+        }
+        if (!path.regionMatches(idEnd, GUESSES_PATH, 0, GUESSES_PATH.length())
+                || path.length() != idEnd + GUESSES_PATH.length()) {
+            return error(buffers.json, 404, "Not found");
+        }
+        if (!"POST".equals(method)) {
+            return error(buffers.json, 405, "Method not allowed");
+        }
+        return handler.handle(exchange, buffers, id, method, true);
+    }
+
+    /**
+     * Handles request to the specific game.
+     * @param exchange HTTP exchange.
+     * @param buffers buffers of the thread.
+     * @param id game id.
+     * @param method request method.
+     * @param guesses is the request to the game guesses.
+     * @return response status.
+     */
+    private int handleGame(HttpExchange exchange, RequestBuffers buffers, long id, String method, boolean guesses) {
+        JsonWriter json = buffers.json;
+        if (guesses) {
+            return guess(exchange, buffers, id);
+        }
+        if ("GET".equals(method)) {
+            return service.state(id, json) ? 200 : error(json, 404, "Game not found");
+        }
+        if ("DELETE".equals(method)) {
+            return service.remove(id) ? 204 : error(json, 404, "Game not found");
+        }
+        return error(json, 405, "Method not allowed");
+    }
+
+    /**
+     * Creates game.
+     * @param exchange HTTP exchange.
+     * @param buffers buffers of the thread.
+     * @return response status.
+     */
+    private int createGame(HttpExchange exchange, RequestBuffers buffers) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (!buffers.parseParameter(query, "min")) {
+            return error(buffers.json, 400, "Parameter min must be a number");
+        }
+        long minBound = buffers.parser.getValue();
+        if (!buffers.parseParameter(query, "max")) {
+            return error(buffers.json, 400, "Parameter max must be a number");
+        }
+        long maxBound = buffers.parser.getValue();
+        if (maxBound <= minBound) {
+            return error(buffers.json, 400, "Max bound is not greater than min bound");
+        }
+
+        service.create(minBound, maxBound, buffers.json);
+        return 201;
+    }
+
+    /**
+     * Puts the guess.
+     * @param exchange HTTP exchange.
+     * @param buffers buffers of the thread.
+     * @param id game id.
+     * @return response status.
+     */
+    private int guess(HttpExchange exchange, RequestBuffers buffers, long id) {
+        if (!buffers.parseParameter(exchange.getRequestURI().getRawQuery(), "value")) {
+            return error(buffers.json, 400, "Parameter value must be a number");
+        }
+        try {
+            GuessValidation validation = service.guess(id, buffers.parser.getValue(), buffers.json);
+            return validation != null ? 200 : error(buffers.json, 404, "Game not found");
+        } catch (IllegalStateException e) {
+            return error(buffers.json.reset(), 409, "Game is won");
+        }
+    }
+
+    /**
+     * Handles request to the specific room.
+     * @param exchange HTTP exchange.
+     * @param buffers buffers of the thread.
+     * @param id room id.
+     * @param method request method.
+     * @param guesses is the request to the room guesses.
+     * @return response status.
+     */
+    private int handleRoom(HttpExchange exchange, RequestBuffers buffers, long id, String method, boolean guesses) {
+        JsonWriter json = buffers.json;
+        if ("DELETE".equals(method) && !guesses) {
+            return rooms.remove(id) ? 204 : error(json, 404, "Room not found");
+        }
+        GameRoom room = rooms.get(id);
+        if (room == null) {
+            return error(json, 404, "Room not found");
+        }
+        if (!guesses) {
+            if (!"GET".equals(method)) {
+                return error(json, 405, "Method not allowed");
+            }
+            writeRoom(id, room, json);
+            json.endObject();
+            return 200;
+        }
+
+        String query = exchange.getRequestURI().getRawQuery();
+        if (!buffers.parseParameter(query, "player")) {
+            return error(json, 400, "Parameter player must be a number");
+        }
+        long player = buffers.parser.getValue();
+        if (!buffers.parseIntParameter(query, "value")) {
+            return error(json, 400, "Parameter value must be an int number");
+        }
+        RoomGuess result = room.guess(player, (int) buffers.parser.getValue());
+        writeRoom(id, room, json);
+        json.name("result").value(result.name()).endObject();
+        return 200;
+    }
+
+    /**
+     * Opens room.
+     * @param exchange HTTP exchange.
+     * @param buffers buffers of the thread.
+     * @return response status.
+     */
+    private int createRoom(HttpExchange exchange, RequestBuffers buffers) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (!buffers.parseIntParameter(query, "min")) {
+            return error(buffers.json, 400, "Parameter min must be an int number");
+        }
+        int minBound = (int) buffers.parser.getValue();
+        if (!buffers.parseIntParameter(query, "max")) {
+            return error(buffers.json, 400, "Parameter max must be an int number");
+        }
+        int maxBound = (int) buffers.parser.getValue();
+        if (maxBound < minBound) {
+            return error(buffers.json, 400, "Max bound is less than min bound");
+        }
+
+        long id = rooms.create(minBound, maxBound);
+        writeRoom(id, rooms.get(id), buffers.json);
+        buffers.json.endObject();
+        return 201;
+    }
+
+    /**
+     * Writes state members of the room, the object is left open.
+     * @param id room id.
+     * @param room game room.
+     * @param json response writer.
+     */
+    private static void writeRoom(long id, GameRoom room, JsonWriter json) {
+        long winner = room.getWinner();
+        json.beginObject()
+                .name("id").value(id)
+                .name("status").value(winner == GameRoom.NO_WINNER ? "PLAYING" : "WON")
+                .name("lowerBound").value(room.getLowerBound())
+                .name("upperBound").value(room.getUpperBound())
+                .name("tries").value(room.getTries())
+                .name("history").beginRuns();
+        for (int value : room.getEnteredNumbers()) {
+            json.runValue(value);
+        }
+        json.endRuns()
+                .name("winner");
+        if (winner == GameRoom.NO_WINNER) {
+            json.nullValue();
+        } else {
+            json.value(winner);
+        }
+    }
+
+    /**
+     * Writes error body.
+     * @param json response writer.
+     * @param status response status.
+     * @param message error message.
+     * @return response status.
+     */
+    private static int error(JsonWriter json, int status, String message) {
+        json.beginObject().name("error").value(message).endObject();
+        return status;
+    }
+
+    /**
+     * Sends response.
+     * @param exchange HTTP exchange.
+     * @param status response status.
+     * @param json response body.
+     * @throws IOException if response can't be sent.
+     */
+    private static void send(HttpExchange exchange, int status, JsonWriter json) throws IOException {
+        if (status == 204) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, json.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            json.writeTo(out);
+        }
+    }
+
+    /**
+     * Skips request body, so the connection can be reused.
+     * @param body request body.
+     * @throws IOException if body can't be read.
+     */
+    private static void drain(InputStream body) throws IOException {
+        while (body.read() >= 0) {
+            body.skip(Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Creates item of a resource collection.
+     */
+    private interface Creator {
+
+        /**
+         * Creates item and writes its state.
+         * @param exchange HTTP exchange.
+         * @param buffers buffers of the thread.
+         * @return response status.
+         */
+        int create(HttpExchange exchange, RequestBuffers buffers);
+    }
+
+    /**
+     * Handles request to an item of a resource collection.
+     */
+    private interface ItemHandler {
+
+        /**
+         * Handles request and writes response body.
+         * @param exchange HTTP exchange.
+         * @param buffers buffers of the thread.
+         * @param id item id.
+         * @param method request method.
+         * @param guesses is the request to the item guesses.
+         * @return response status.
+         */
+        int handle(HttpExchange exchange, RequestBuffers buffers, long id, String method, boolean guesses);
+    }
+
+    /**
+     * Reusable objects of the handler thread.
+     */
+    private static final class RequestBuffers {
+
+        /**
+         * Writer of the response.
+         */
+        private final JsonWriter json = new JsonWriter();
+
+        /**
+         * Parser of the request numbers.
+         */
+        private final NumberParser parser = new NumberParser();
+
+        /**
+         * Parses number from the part of the string into the parser value.
+         * @param text parsed string.
+         * @param start index of the first symbol.
+         * @param end index after the last symbol.
+         * @return true if the part is a number.
+         */
+        boolean parse(String text, int start, int end) {
+            parser.reset();
+            for (int i = start; i < end; i++) {
+                char symbol = text.charAt(i);
+                if (symbol >= 0x80 || NumberParser.isWhitespace(symbol)
+                        || parser.accept(symbol) != NumberParser.INCOMPLETE) {
+                    return false;
+                }
+            }
+            return parser.finish() == NumberParser.NUMBER;
+        }
+
+        /**
+         * Parses number value of the query parameter.
+         * @param query raw query, may be null.
+         * @param name parameter name.
+         * @return true if the parameter is a number.
+         */
+        boolean parseParameter(String query, String name) {
+            if (query == null) {
+                return false;
+            }
+            int start = 0;
+            while (start < query.length()) {
+                int end = query.indexOf('&', start);
+                if (end < 0) {
+                    end = query.length();
+                }
+                if (query.regionMatches(start, name, 0, name.length())
+                        && start + name.length() < end && query.charAt(start + name.length()) == '=') {
+                    return parse(query, start + name.length() + 1, end);
+                }
+                start = end + 1;
+            }
+            return false;
+        }
+
+        /**
+         * Parses int value of the query parameter.
+         * @param query raw query, may be null.
+         * @param name parameter name.
+         * @return true if the parameter is an int number.
+         */
+        boolean parseIntParameter(String query, String name) {
+            return parseParameter(query, name)
+                    && parser.getValue() >= Integer.MIN_VALUE && parser.getValue() <= Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,536 @@
+package ua.training.game.server;
+
+import ua.training.game.GameEventListener;
+import ua.training.game.GameSession;
+import ua.training.game.GuessTheNumberModel;
+import ua.training.game.GuessTheNumberView;
+import ua.training.game.random.SplittableRandomSource;
+import ua.training.game.utils.ResourceManager;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Game server that multiplexes connections over a few
+ * event loop threads with non blocking channels.
+ * Each connection has its own line buffer and {@link GameSession},
+ * all connections of a loop share its direct read and write buffers.
+ * A reply that is not fully written stays in the connection
+ * output and is sent when the socket becomes writable,
+ * reading from the connection is paused while too much
+ * output is pending.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class NioGameServer implements SessionServer {
+
+    /**
+     * Pending connections queue length.
+     */
+    private static final int BACKLOG = 1024;
+
+    /**
+     * Max length of input line, longer lines are wrong inputs.
+     */
+    private static final int MAX_LINE_LENGTH = 256;
+
+    /**
+     * Size of the direct read buffer of each loop.
+     */
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Size of the direct write buffer of each loop.
+     */
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Initial size of the connection output.
+     */
+    private static final int OUTPUT_CAPACITY = 1024;
+
+    /**
+     * Pending output size that pauses reading.
+     */
+    private static final int MAX_PENDING_OUTPUT = 64 * 1024;
+
+    /**
+     * Channel that accepts players.
+     */
+    private final ServerSocketChannel serverChannel;
+
+    /**
+     * Event loops of the connections.
+     */
+    private final EventLoop[] loops;
+
+    /**
+     * Limits count of concurrent sessions.
+     */
+    private final Semaphore sessionPermits;
+
+    /**
+     * Max count of concurrent sessions.
+     */
+    private final int maxSessions;
+
+    /**
+     * Provides user dialog resources.
+     */
+    private final ResourceManager resources;
+
+    /**
+     * View length of each session.
+     */
+    private final int viewSize;
+
+    /**
+     * Creates event listener of each session.
+     */
+    private final Supplier<GameEventListener> sessionListeners;
+
+    /**
+     * Root random source, every session gets its own split.
+     */
+    private final SplittableRandomSource randomSource = new SplittableRandomSource();
+
+    /**
+     * Index of the loop that gets the next connection.
+     */
+    private int nextLoop;
+
+    /**
+     * Creates server bound to the loopback address and starts its loops.
+     * @param port port that will be listened, 0 for any free port.
+     * @param maxSessions max count of concurrent sessions.
+     * @param eventLoops count of event loop threads.
+     * @param resources game message resource.
+     * @param viewSize view length of each session.
+     * @param sessionListeners creates event listener of each session.
+     * @throws IOException if socket can't be bound.
+     */
+    public NioGameServer(int port, int maxSessions, int eventLoops, ResourceManager resources,
+                         int viewSize, Supplier<GameEventListener> sessionListeners) throws IOException {
+        if (maxSessions <= 0 || eventLoops <= 0) {
+            throw new IllegalArgumentException("Max sessions and event loops must be positive");
+        }
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        this.sessionPermits = new Semaphore(maxSessions);
+        this.maxSessions = maxSessions;
+        this.resources = resources;
+        this.viewSize = viewSize;
+        this.sessionListeners = sessionListeners;
+
+        this.loops = new EventLoop[eventLoops];
+        for (int i = 0; i < eventLoops; i++) {
+            loops[i] = new EventLoop();
+            Thread thread = new Thread(loops[i], "game-event-loop-" + i);
+            thread.setDaemon(true);
+            loops[i].thread = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Accepts connections until the server is closed
+     * and passes them to the loops in turn.
+     * Blocks when max sessions count is reached.
+     */
+    @Override
+    public void serve() {
+        while (serverChannel.isOpen()) {
+            try {
+                sessionPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (IOException e) {
+                sessionPermits.release();
+                if (!serverChannel.isOpen()) {
+                    return;
+                }
+                e.printStackTrace();
+                continue;
+            }
+
+            EventLoop loop = loops[nextLoop];
+            nextLoop = (nextLoop + 1) % loops.length;
+            loop.register(new Connection(channel, loop, randomSource.split()));
+        }
+    }
+
+    /**
+     * Gets port the server listens.
+     * @return local port.
+     */
+    @Override
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Gets max count of concurrent sessions.
+     * @return sessions limit.
+     */
+    @Override
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    /**
+     * Gets count of running sessions.
+     * @return running sessions count.
+     */
+    @Override
+    public int getActiveSessions() {
+        return maxSessions - sessionPermits.availablePermits();
+    }
+
+    /**
+     * Stops accepting connections, stops the loops
+     * and closes their connections.
+     * @throws IOException if socket can't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverChannel.close();
+        for (EventLoop loop : loops) {
+            loop.running = false;
+            loop.selector.wakeup();
+        }
+        for (EventLoop loop : loops) {
+            try {
+                loop.thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Thread that serves its connections.
+     */
+    private final class EventLoop implements Runnable {
+
+        /**
+         * Selects ready connections.
+         */
+        private final Selector selector;
+
+        /**
+         * Connections accepted for this loop.
+         */
+        private final Queue<Connection> registrations = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Buffer of the socket reads.
+         */
+        private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+
+        /**
+         * Buffer of the socket writes.
+         */
+        private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+
+        /**
+         * Is the loop running.
+         */
+        private volatile boolean running = true;
+
+        /**
+         * Thread of the loop.
+         */
+        private Thread thread;
+
+        /**
+         * Opens loop selector.
+         * @throws IOException if selector can't be opened.
+         */
+        EventLoop() throws IOException {
+            selector = Selector.open();
+        }
+
+        /**
+         * Passes connection to the loop thread.
+         * @param connection accepted connection.
+         */
+        void register(Connection connection) {
+            registrations.add(connection);
+            selector.wakeup();
+        }
+
+        /**
+         * Serves ready connections until the server is closed.
+         */
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    openRegistered();
+
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        ((Connection) key.attachment()).handle(key);
+                    }
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            } finally {
+                closeAll();
+            }
+        }
+
+        /**
+         * Registers accepted connections and starts their sessions.
+         */
+        private void openRegistered() {
+            Connection connection;
+            while ((connection = registrations.poll()) != null) {
+                connection.open(selector);
+            }
+        }
+
+        /**
+         * Closes all connections of the loop.
+         */
+        private void closeAll() {
+            Connection connection;
+            while ((connection = registrations.poll()) != null) {
+                connection.close();
+            }
+            for (SelectionKey key : selector.keys()) {
+                ((Connection) key.attachment()).close();
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Connection and game session of one user.
+     * It is used by its loop thread only.
+     */
+    private final class Connection {
+
+        /**
+         * User connection.
+         */
+        private final SocketChannel channel;
+
+        /**
+         * Loop of the connection.
+         */
+        private final EventLoop loop;
+
+        /**
+         * Random source of the session.
+         */
+        private final SplittableRandomSource random;
+
+        /**
+         * Replies that are not sent yet.
+         */
+        private final ConnectionOutput output = new ConnectionOutput(OUTPUT_CAPACITY);
+
+        /**
+         * Bytes of the current input line.
+         */
+        private final byte[] line = new byte[MAX_LINE_LENGTH];
+
+        /**
+         * Length of the current input line.
+         */
+        private int lineLength;
+
+        /**
+         * Is the current line longer than the limit.
+         */
+        private boolean lineOverflow;
+
+        /**
+         * Selection key of the connection.
+         */
+        private SelectionKey key;
+
+        /**
+         * Game session.
+         */
+        private GameSession session;
+
+        /**
+         * Receives session events.
+         */
+        private GameEventListener listener = GameEventListener.NONE;
+
+        /**
+         * Is the connection closed.
+         */
+        private boolean closed;
+
+        /**
+         * Creates connection.
+         * @param channel user connection.
+         * @param loop loop of the connection.
+         * @param random random source of the session.
+         */
+        Connection(SocketChannel channel, EventLoop loop, SplittableRandomSource random) {
+            this.channel = channel;
+            this.loop = loop;
+            this.random = random;
+        }
+
+        /**
+         * Registers the channel and starts the game session.
+         * @param selector loop selector.
+         */
+        void open(Selector selector) {
+            try {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                key = channel.register(selector, SelectionKey.OP_READ, this);
+                listener = sessionListeners.get();
+
+                GuessTheNumberView view = new GuessTheNumberView(output, resources, viewSize);
+                session = new GameSession(new GuessTheNumberModel(random), view, listener);
+                session.start();
+                write();
+            } catch (IOException | RuntimeException e) {
+                close();
+            }
+        }
+
+        /**
+         * Reads or writes ready channel.
+         * @param readyKey selected key.
+         */
+        void handle(SelectionKey readyKey) {
+            try {
+                if (readyKey.isReadable()) {
+                    read();
+                }
+                if (!closed && readyKey.isWritable()) {
+                    write();
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+            }
+        }
+
+        /**
+         * Reads available bytes and passes complete lines to the session.
+         * @throws IOException if channel can't be read.
+         */
+        private void read() throws IOException {
+            ByteBuffer buffer = loop.readBuffer;
+            buffer.clear();
+            if (channel.read(buffer) < 0) {
+                close();
+                return;
+            }
+            buffer.flip();
+
+            while (buffer.hasRemaining() && !session.isFinished()) {
+                byte symbol = buffer.get();
+                if (symbol == '\n') {
+                    acceptLine();
+                } else if (lineLength < line.length) {
+                    line[lineLength++] = symbol;
+                } else {
+                    lineOverflow = true;
+                }
+            }
+
+            write();
+        }
+
+        /**
+         * Passes the current line to the session.
+         */
+        private void acceptLine() {
+            int length = lineOverflow ? 0 : lineLength;
+            if (length > 0 && line[length - 1] == '\r') {
+                length--;
+            }
+            session.acceptLine(line, 0, length);
+            lineLength = 0;
+            lineOverflow = false;
+        }
+
+        /**
+         * Writes pending output while the socket accepts it,
+         * then updates interest in the channel events.
+         * @throws IOException if channel can't be written.
+         */
+        private void write() throws IOException {
+            ByteBuffer buffer = loop.writeBuffer;
+            while (output.size() > 0) {
+                buffer.clear();
+                output.copyTo(buffer);
+                buffer.flip();
+                output.consume(channel.write(buffer));
+                if (buffer.hasRemaining()) {
+                    break;
+                }
+            }
+
+            if (session.isFinished() && output.size() == 0) {
+                close();
+                return;
+            }
+
+            int interest = output.size() > 0 ? SelectionKey.OP_WRITE : 0;
+            if (!session.isFinished() && output.size() < MAX_PENDING_OUTPUT) {
+                interest |= SelectionKey.OP_READ;
+            }
+            key.interestOps(interest);
+        }
+
+        /**
+         * Closes the connection and releases its session permit.
+         */
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            if (key != null) {
+                key.cancel();
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // connection is closed anyway
+            }
+            listener.sessionClosed();
+            sessionPermits.release();
+        }
+    }
+}
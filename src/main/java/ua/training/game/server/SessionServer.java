@@ -0,0 +1,43 @@
+package ua.training.game.server;
+
+import java.io.IOException;
+
+/**
+ * Server that runs game sessions of connected users.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public interface SessionServer extends AutoCloseable {
+
+    /**
+     * Accepts connections until the server is closed.
+     * Blocks when max sessions count is reached.
+     */
+    void serve();
+
+    /**
+     * Gets port the server listens.
+     * @return local port.
+     */
+    int getPort();
+
+    /**
+     * Gets max count of concurrent sessions.
+     * @return sessions limit.
+     */
+    int getMaxSessions();
+
+    /**
+     * Gets count of running sessions.
+     * @return running sessions count.
+     */
+    int getActiveSessions();
+
+    /**
+     * Stops accepting connections and closes sessions.
+     * @throws IOException if socket can't be closed.
+     */
+    @Override
+    void close() throws IOException;
+}
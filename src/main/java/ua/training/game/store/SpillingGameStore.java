@@ -0,0 +1,825 @@
+package ua.training.game.store;
+
+import ua.training.game.AbstractGuessTheNumberModel;
+import ua.training.game.GameStore;
+import ua.training.game.ModelSnapshot;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Game store with bounded memory tier.
+ * Games are kept in memory in least recently used order, when there
+ * are more games than the capacity or a game is idle longer than
+ * the timeout it is spilled to the file as {@link ModelSnapshot}
+ * and reloaded by the next lookup.
+ * The spill file is scratch space, it is truncated on open and
+ * rewritten into the other file by a background thread
+ * when most of its records are dead.
+ * Games are spilled by the threads that call {@link #get(long)}
+ * or {@link #put(long, AbstractGuessTheNumberModel)}, so these
+ * methods must not be called holding a game monitor.
+ * The lock guards only the maps and counters, snapshots
+ * are written, read and compacted out of it.
+ *
+ * @version 1.2 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public class SpillingGameStore implements GameStore, SpillingGameStoreMBean, AutoCloseable {
+
+    /**
+     * Name of the registered MBean.
+     */
+    public static final String OBJECT_NAME = "ua.training.game:type=GameStore";
+
+    /**
+     * Default count of games kept in memory.
+     */
+    public static final int DEFAULT_CAPACITY = 100_000;
+
+    /**
+     * Default idle time of a game before it is spilled.
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    /**
+     * Bits of the record length in the packed location.
+     */
+    private static final int LENGTH_BITS = 26;
+
+    /**
+     * Dead bytes that are never compacted.
+     */
+    private static final long MIN_COMPACTED_BYTES = 1 << 20;
+
+    /**
+     * Passes of the compaction before new spills are held.
+     */
+    private static final int MAX_COMPACTION_PASSES = 8;
+
+    /**
+     * Guards all the state.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Games in memory, the eldest entry is the least recently used.
+     */
+    private final LinkedHashMap<Long, Resident> residents = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Games removed from memory, but not written yet.
+     */
+    private final Map<Long, Resident> evicting = new HashMap<>();
+
+    /**
+     * Offset and length of the spilled games, packed into long.
+     */
+    private final Map<Long, Long> spilled = new HashMap<>();
+
+    /**
+     * Spill file path.
+     */
+    private final Path file;
+
+    /**
+     * Path of the file that is used in turn with the spill file.
+     */
+    private final Path compactedFile;
+
+    /**
+     * Rewrites live records.
+     */
+    private final ExecutorService compactor;
+
+    /**
+     * Max count of games kept in memory.
+     */
+    private final int capacity;
+
+    /**
+     * Idle time of a game before it is spilled.
+     */
+    private final long idleTimeoutNanos;
+
+    /**
+     * Source of the time in nanoseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Spill file channel.
+     */
+    private FileChannel channel;
+
+    /**
+     * Path of the current spill file.
+     */
+    private Path channelPath;
+
+    /**
+     * Count of the spill file swaps.
+     */
+    private long generation;
+
+    /**
+     * Is the compaction running.
+     */
+    private boolean compacting;
+
+    /**
+     * Are new spills held until the compaction swaps the files.
+     */
+    private boolean spillsHeld;
+
+    /**
+     * Is the store closed.
+     */
+    private boolean closed;
+
+    /**
+     * Size of the spill file including reserved records.
+     */
+    private long fileSize;
+
+    /**
+     * Bytes of the records that are not used anymore.
+     */
+    private long deadBytes;
+
+    /**
+     * Count of lookups of games kept in memory.
+     */
+    private long hits;
+
+    /**
+     * Count of lookups that reloaded spilled games.
+     */
+    private long misses;
+
+    /**
+     * Count of games spilled because memory tier was full.
+     */
+    private long evictions;
+
+    /**
+     * Count of games spilled because they were idle.
+     */
+    private long expirations;
+
+    /**
+     * Creates store with empty spill file.
+     * @param file spill file path, it is truncated.
+     * @param capacity max count of games kept in memory.
+     * @param idleTimeoutMillis idle time of a game before it is spilled.
+     * @throws IOException if file can't be opened.
+     */
+    public SpillingGameStore(Path file, int capacity, long idleTimeoutMillis) throws IOException {
+        this(file, capacity, idleTimeoutMillis, System::nanoTime);
+    }
+
+    /**
+     * Creates store with specific time source.
+     * @param file spill file path, it is truncated.
+     * @param capacity max count of games kept in memory.
+     * @param idleTimeoutMillis idle time of a game before it is spilled.
+     * @param clock source of the time in nanoseconds.
+     * @throws IOException if file can't be opened.
+     */
+    SpillingGameStore(Path file, int capacity, long idleTimeoutMillis, LongSupplier clock) throws IOException {
+        if (capacity <= 0 || idleTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Capacity and idle timeout must be positive");
+        }
+        this.file = file;
+        this.capacity = capacity;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.clock = clock;
+        this.compactedFile = file.resolveSibling(file.getFileName() + ".compact");
+        this.channel = open(file);
+        this.channelPath = file;
+        this.compactor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "game-store-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets stored game, spilled game is reloaded into memory.
+     * @param id game id.
+     * @return game model or null if there is no such game.
+     */
+    @Override
+    public AbstractGuessTheNumberModel get(long id) {
+        AbstractGuessTheNumberModel model = load(id);
+        if (model != null) {
+            spillExcess();
+        }
+        return model;
+    }
+
+    /**
+     * Stores the game in memory.
+     * @param id game id.
+     * @param model game model.
+     */
+    @Override
+    public void put(long id, AbstractGuessTheNumberModel model) {
+        synchronized (lock) {
+            evicting.remove(id);
+            Long location = spilled.remove(id);
+            if (location != null) {
+                deadBytes += length(location);
+            }
+            residents.put(id, new Resident(model, clock.getAsLong()));
+        }
+        spillExcess();
+    }
+
+    /**
+     * Checks is the model still the stored copy of the game.
+     * Game that is being spilled is kept in memory.
+     * @param id game id.
+     * @param model game model got from the store.
+     * @return false if the game was spilled or removed.
+     */
+    @Override
+    public boolean isCurrent(long id, AbstractGuessTheNumberModel model) {
+        synchronized (lock) {
+            Resident resident = residents.get(id);
+            if (resident != null) {
+                return resident.model == model;
+            }
+            resident = evicting.get(id);
+            if (resident != null && resident.model == model) {
+                evicting.remove(id);
+                residents.put(id, new Resident(model, clock.getAsLong()));
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Removes the game.
+     * @param id game id.
+     * @return false if there was no such game.
+     */
+    @Override
+    public boolean remove(long id) {
+        synchronized (lock) {
+            if (residents.remove(id) != null || evicting.remove(id) != null) {
+                return true;
+            }
+            Long location = spilled.remove(id);
+            if (location == null) {
+                return false;
+            }
+            deadBytes += length(location);
+            return true;
+        }
+    }
+
+    /**
+     * Gets count of stored games.
+     * @return games count.
+     */
+    @Override
+    public int size() {
+        synchronized (lock) {
+            return residents.size() + evicting.size() + spilled.size();
+        }
+    }
+
+    /**
+     * Spills games idle longer than the timeout,
+     * for the periodic call when the store is not used.
+     */
+    public void spillIdle() {
+        spillExcess();
+    }
+
+    /**
+     * Registers counters in the platform MBean server as {@link #OBJECT_NAME}.
+     * @throws IllegalStateException if counters can't be registered.
+     */
+    public void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            throw new IllegalStateException("Store counters can't be registered", e);
+        }
+    }
+
+    /**
+     * Gets count of lookups of games kept in memory.
+     * @return hits count.
+     */
+    @Override
+    public long getHits() {
+        synchronized (lock) {
+            return hits;
+        }
+    }
+
+    /**
+     * Gets count of lookups that reloaded spilled games.
+     * @return misses count.
+     */
+    @Override
+    public long getMisses() {
+        synchronized (lock) {
+            return misses;
+        }
+    }
+
+    /**
+     * Gets count of games spilled because memory tier was full.
+     * @return evictions count.
+     */
+    @Override
+    public long getEvictions() {
+        synchronized (lock) {
+            return evictions;
+        }
+    }
+
+    /**
+     * Gets count of games spilled because they were idle.
+     * @return expirations count.
+     */
+    @Override
+    public long getExpirations() {
+        synchronized (lock) {
+            return expirations;
+        }
+    }
+
+    /**
+     * Gets count of games kept in memory.
+     * @return resident games.
+     */
+    @Override
+    public int getResidentGames() {
+        synchronized (lock) {
+            return residents.size() + evicting.size();
+        }
+    }
+
+    /**
+     * Gets count of games kept in the spill file.
+     * @return spilled games.
+     */
+    @Override
+    public int getSpilledGames() {
+        synchronized (lock) {
+            return spilled.size();
+        }
+    }
+
+    /**
+     * Gets size of the spill file including dead records.
+     * @return file size in bytes.
+     */
+    @Override
+    public long getSpillFileSize() {
+        synchronized (lock) {
+            return fileSize;
+        }
+    }
+
+    /**
+     * Gets max count of games kept in memory.
+     * @return memory tier capacity.
+     */
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Closes and deletes the spill file, spilled games are lost.
+     * @throws IOException if file can't be deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            closed = true;
+            channel.close();
+            lock.notifyAll();
+        }
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(compactedFile);
+    }
+
+    /**
+     * Waits until the running compaction is finished.
+     * @throws InterruptedException if the thread is interrupted.
+     */
+    void awaitCompaction() throws InterruptedException {
+        synchronized (lock) {
+            while (compacting) {
+                lock.wait();
+            }
+        }
+    }
+
+    /**
+     * Gets game kept in memory or reloads spilled game.
+     * The snapshot is read out of the lock, it is used only
+     * if the game was not changed, reloaded or moved by the
+     * compaction meanwhile, otherwise the lookup is repeated.
+     * @param id game id.
+     * @return game model or null if there is no such game.
+     */
+    private AbstractGuessTheNumberModel load(long id) {
+        while (true) {
+            FileChannel source;
+            long sourceGeneration;
+            Long location;
+            synchronized (lock) {
+                long now = clock.getAsLong();
+                Resident resident = residents.get(id);
+                if (resident == null && (resident = evicting.remove(id)) != null) {
+                    resident = new Resident(resident.model, now);
+                    residents.put(id, resident);
+                }
+                if (resident != null) {
+                    hits++;
+                    resident.lastAccess = now;
+                    return resident.model;
+                }
+                location = spilled.get(id);
+                if (location == null) {
+                    return null;
+                }
+                source = channel;
+                sourceGeneration = generation;
+            }
+
+            AbstractGuessTheNumberModel model = null;
+            UncheckedIOException failure = null;
+            try {
+                model = ModelSnapshot.restore(readRecord(source, location));
+            } catch (UncheckedIOException e) {
+                failure = e;
+            }
+
+            synchronized (lock) {
+                if (sourceGeneration == generation && location.equals(spilled.get(id))) {
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    spilled.remove(id);
+                    misses++;
+                    deadBytes += length(location);
+                    residents.put(id, new Resident(model, clock.getAsLong()));
+                    return model;
+                }
+            }
+        }
+    }
+
+    /**
+     * Spills the least recently used games while there are
+     * more games than the capacity or they are idle too long.
+     * A game is snapshot holding its monitor, so a change made
+     * by the monitor owner is either in the snapshot or is made after
+     * {@link #isCurrent(long, AbstractGuessTheNumberModel)} kept it in memory.
+     */
+    private void spillExcess() {
+        while (true) {
+            long id;
+            Resident evicted;
+            synchronized (lock) {
+                Iterator<Map.Entry<Long, Resident>> eldest = residents.entrySet().iterator();
+                if (!eldest.hasNext()) {
+                    return;
+                }
+                Map.Entry<Long, Resident> entry = eldest.next();
+                boolean idle = clock.getAsLong() - entry.getValue().lastAccess >= idleTimeoutNanos;
+                if (!idle && residents.size() <= capacity) {
+                    return;
+                }
+                if (idle) {
+                    expirations++;
+                } else {
+                    evictions++;
+                }
+                id = entry.getKey();
+                evicted = entry.getValue();
+                eldest.remove();
+                evicting.put(id, evicted);
+            }
+
+            byte[] snapshot;
+            synchronized (evicted.model) {
+                snapshot = ModelSnapshot.save(evicted.model);
+            }
+            spill(id, evicted, snapshot);
+        }
+    }
+
+    /**
+     * Appends game snapshot to the spill file.
+     * The file range is reserved under the lock and written out of it,
+     * the game stays in memory until the write is finished.
+     * The snapshot is used only if the game was not reloaded
+     * meanwhile, each reload makes new resident, so a snapshot
+     * of the previous eviction is never taken for the next one.
+     * Game is kept in memory if it can't be written or the thread
+     * is interrupted while the compaction holds new spills.
+     * @param id game id.
+     * @param evicted evicted game.
+     * @param snapshot game snapshot.
+     */
+    private void spill(long id, Resident evicted, byte[] snapshot) {
+        while (true) {
+            FileChannel target;
+            long targetGeneration;
+            long position;
+            synchronized (lock) {
+                while (spillsHeld && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                if (evicting.get(id) != evicted) {
+                    return;
+                }
+                if (snapshot.length >= 1 << LENGTH_BITS || spillsHeld && !closed) {
+                    evicting.remove(id);
+                    residents.put(id, new Resident(evicted.model, clock.getAsLong()));
+                    return;
+                }
+                target = channel;
+                targetGeneration = generation;
+                position = fileSize;
+                fileSize += snapshot.length;
+            }
+
+            IOException failure = null;
+            try {
+                write(target, ByteBuffer.wrap(snapshot), position);
+            } catch (IOException e) {
+                failure = e;
+            }
+
+            synchronized (lock) {
+                if (targetGeneration != generation) {
+                    continue;
+                }
+                boolean current = evicting.get(id) == evicted;
+                if (current) {
+                    evicting.remove(id);
+                }
+                if (failure != null) {
+                    deadBytes += snapshot.length;
+                    if (current) {
+                        residents.put(id, new Resident(evicted.model, clock.getAsLong()));
+                    }
+                    throw new UncheckedIOException(failure);
+                }
+                if (current) {
+                    spilled.put(id, position << LENGTH_BITS | snapshot.length);
+                } else {
+                    deadBytes += snapshot.length;
+                }
+                if (!compacting && !closed && deadBytes >= MIN_COMPACTED_BYTES && deadBytes * 2 > fileSize) {
+                    compacting = true;
+                    compactor.execute(this::compact);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Rewrites live records into the other spill file
+     * on the compactor thread. Records are copied out of the lock
+     * until every spilled game is copied, then the locations and
+     * the file are swapped under the lock. If games keep being
+     * spilled, new spills are held after {@link #MAX_COMPACTION_PASSES},
+     * so only the spills that are already being written are left
+     * for the next passes, and released by the swap.
+     */
+    private void compact() {
+        Path targetPath;
+        FileChannel source;
+        synchronized (lock) {
+            targetPath = channelPath.equals(file) ? compactedFile : file;
+            source = channel;
+        }
+
+        FileChannel target = null;
+        boolean swapped = false;
+        try {
+            target = open(targetPath);
+            Map<Long, Long> copiedFrom = new HashMap<>();
+            Map<Long, Long> copiedTo = new HashMap<>();
+            long position = 0;
+            for (int pass = 1; !swapped; pass++) {
+                Map<Long, Long> uncopied = new HashMap<>();
+                synchronized (lock) {
+                    if (closed) {
+                        return;
+                    }
+                    for (Map.Entry<Long, Long> entry : spilled.entrySet()) {
+                        if (!entry.getValue().equals(copiedFrom.get(entry.getKey()))) {
+                            uncopied.put(entry.getKey(), entry.getValue());
+                        }
+                    }
+                    if (uncopied.isEmpty()) {
+                        swap(target, targetPath, copiedTo, position);
+                        swapped = true;
+                    } else if (pass >= MAX_COMPACTION_PASSES) {
+                        spillsHeld = true;
+                    }
+                }
+                if (!swapped) {
+                    position = copy(source, target, uncopied, position, copiedFrom, copiedTo);
+                }
+            }
+
+            source.close();
+            Files.deleteIfExists(targetPath.equals(file) ? compactedFile : file);
+        } catch (IOException | UncheckedIOException e) {
+            synchronized (lock) {
+                if (!closed) {
+                    e.printStackTrace();
+                }
+            }
+        } finally {
+            if (!swapped) {
+                try {
+                    if (target != null) {
+                        target.close();
+                    }
+                    Files.deleteIfExists(targetPath);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+                synchronized (lock) {
+                    compacting = false;
+                    spillsHeld = false;
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies records into the compacted file.
+     * @param source spill file channel.
+     * @param target compacted file channel.
+     * @param records packed locations of the copied records by game id.
+     * @param position compacted file position of the first record.
+     * @param copiedFrom receives source locations of the copied records.
+     * @param copiedTo receives target locations of the copied records.
+     * @return compacted file position after the records.
+     * @throws IOException if record can't be written.
+     */
+    private static long copy(FileChannel source, FileChannel target, Map<Long, Long> records, long position,
+                             Map<Long, Long> copiedFrom, Map<Long, Long> copiedTo) throws IOException {
+        for (Map.Entry<Long, Long> entry : records.entrySet()) {
+            int length = length(entry.getValue());
+            write(target, ByteBuffer.wrap(readRecord(source, entry.getValue())), position);
+            copiedFrom.put(entry.getKey(), entry.getValue());
+            copiedTo.put(entry.getKey(), position << LENGTH_BITS | length);
+            position += length;
+        }
+        return position;
+    }
+
+    /**
+     * Makes the compacted file current, must be called under the lock.
+     * Reads and writes of the previous file that are in progress
+     * see the changed generation and are repeated.
+     * @param target compacted file channel.
+     * @param targetPath compacted file path.
+     * @param copiedTo target locations of every spilled game.
+     * @param size compacted file size.
+     */
+    private void swap(FileChannel target, Path targetPath, Map<Long, Long> copiedTo, long size) {
+        long liveBytes = 0;
+        for (Map.Entry<Long, Long> entry : spilled.entrySet()) {
+            long location = copiedTo.get(entry.getKey());
+            entry.setValue(location);
+            liveBytes += length(location);
+        }
+        channel = target;
+        channelPath = targetPath;
+        generation++;
+        fileSize = size;
+        deadBytes = size - liveBytes;
+        compacting = false;
+        spillsHeld = false;
+        lock.notifyAll();
+    }
+
+    /**
+     * Writes whole buffer at the position.
+     * @param target file channel.
+     * @param buffer written bytes.
+     * @param position file position.
+     * @throws IOException if bytes can't be written.
+     */
+    private static void write(FileChannel target, ByteBuffer buffer, long position) throws IOException {
+        long start = position - buffer.position();
+        while (buffer.hasRemaining()) {
+            target.write(buffer, start + buffer.position());
+        }
+    }
+
+    /**
+     * Reads record of the spill file.
+     * @param source spill file channel.
+     * @param location packed location of the record.
+     * @return record bytes.
+     */
+    private static byte[] readRecord(FileChannel source, long location) {
+        ByteBuffer buffer = ByteBuffer.allocate(length(location));
+        long position = location >>> LENGTH_BITS;
+        try {
+            while (buffer.hasRemaining()) {
+                if (source.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Spill file is truncated");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Gets record length from the packed location.
+     * @param location packed location.
+     * @return record length.
+     */
+    private static int length(long location) {
+        return (int) (location & (1 << LENGTH_BITS) - 1);
+    }
+
+    /**
+     * Opens empty spill file.
+     * @param path file path.
+     * @return file channel.
+     * @throws IOException if file can't be opened.
+     */
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Game kept in memory.
+     */
+    private static final class Resident {
+
+        /**
+         * Game model.
+         */
+        private final AbstractGuessTheNumberModel model;
+
+        /**
+         * Time of the last lookup.
+         */
+        private long lastAccess;
+
+        /**
+         * Creates resident game.
+         * @param model game model.
+         * @param lastAccess time of the last lookup.
+         */
+        Resident(AbstractGuessTheNumberModel model, long lastAccess) {
+            this.model = model;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
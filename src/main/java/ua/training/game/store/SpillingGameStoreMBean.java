@@ -0,0 +1,58 @@
+package ua.training.game.store;
+
+/**
+ * Game store counters exported over JMX.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public interface SpillingGameStoreMBean {
+
+    /**
+     * Gets count of lookups of games kept in memory.
+     * @return hits count.
+     */
+    long getHits();
+
+    /**
+     * Gets count of lookups that reloaded spilled games.
+     * @return misses count.
+     */
+    long getMisses();
+
+    /**
+     * Gets count of games spilled because memory tier was full.
+     * @return evictions count.
+     */
+    long getEvictions();
+
+    /**
+     * Gets count of games spilled because they were idle.
+     * @return expirations count.
+     */
+    long getExpirations();
+
+    /**
+     * Gets count of games kept in memory.
+     * @return resident games.
+     */
+    int getResidentGames();
+
+    /**
+     * Gets count of games kept in the spill file.
+     * @return spilled games.
+     */
+    int getSpilledGames();
+
+    /**
+     * Gets size of the spill file including dead records.
+     * @return file size in bytes.
+     */
+    long getSpillFileSize();
+
+    /**
+     * Gets max count of games kept in memory.
+     * @return memory tier capacity.
+     */
+    int getCapacity();
+}
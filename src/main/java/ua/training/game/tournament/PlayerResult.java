@@ -0,0 +1,101 @@
+package ua.training.game.tournament;
+
+/**
+ * Result of one player in the round.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class PlayerResult {
+
+    /**
+     * Session of the player.
+     */
+    private final int session;
+
+    /**
+     * Is the secret guessed.
+     */
+    private final boolean won;
+
+    /**
+     * Count of accepted guesses.
+     */
+    private final int tries;
+
+    /**
+     * Count of forfeited turns.
+     */
+    private final int forfeits;
+
+    /**
+     * Game duration.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Creates result.
+     * @param session session of the player.
+     * @param won is the secret guessed.
+     * @param tries count of accepted guesses.
+     * @param forfeits count of forfeited turns.
+     * @param elapsedNanos game duration.
+     */
+    PlayerResult(int session, boolean won, int tries, int forfeits, long elapsedNanos) {
+        this.session = session;
+        this.won = won;
+        this.tries = tries;
+        this.forfeits = forfeits;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets session of the player, index of the player in the round.
+     * @return session id.
+     */
+    public int getSession() {
+        return session;
+    }
+
+    /**
+     * Checks is the secret guessed before the game deadline.
+     * @return true if the player won.
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Gets count of accepted guesses.
+     * @return tries count.
+     */
+    public int getTries() {
+        return tries;
+    }
+
+    /**
+     * Gets count of turns that timed out or were answered by invalid guess.
+     * @return forfeits count.
+     */
+    public int getForfeits() {
+        return forfeits;
+    }
+
+    /**
+     * Gets game duration.
+     * @return duration in milliseconds.
+     */
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    /**
+     * Gets result line.
+     * @return result of the player.
+     */
+    @Override
+    public String toString() {
+        return "Player " + session + ": " + (won ? "won" : "timed out") + ", tries " + tries
+                + ", forfeits " + forfeits + ", " + getElapsedMillis() + " ms";
+    }
+}
@@ -0,0 +1,94 @@
+package ua.training.game.tournament;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Results of all players of the round.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class RoundResult {
+
+    /**
+     * Number of the round, from one.
+     */
+    private final int round;
+
+    /**
+     * Results by session.
+     */
+    private final List<PlayerResult> results;
+
+    /**
+     * Round duration.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Creates result.
+     * @param round number of the round.
+     * @param results results by session.
+     * @param elapsedNanos round duration.
+     */
+    RoundResult(int round, List<PlayerResult> results, long elapsedNanos) {
+        this.round = round;
+        this.results = Collections.unmodifiableList(results);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets number of the round.
+     * @return round number.
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Gets results by session.
+     * @return results of the players.
+     */
+    public List<PlayerResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Gets count of players who guessed the secret.
+     * @return winners count.
+     */
+    public int getWinners() {
+        return (int) results.stream().filter(PlayerResult::isWon).count();
+    }
+
+    /**
+     * Gets count of forfeited turns of all players.
+     * @return forfeits count.
+     */
+    public long getForfeits() {
+        return results.stream().mapToLong(PlayerResult::getForfeits).sum();
+    }
+
+    /**
+     * Gets round duration.
+     * @return duration in milliseconds.
+     */
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    /**
+     * Gets round summary.
+     * @return summary line.
+     */
+    @Override
+    public String toString() {
+        int winners = getWinners();
+        double meanTries = results.stream().filter(PlayerResult::isWon)
+                .mapToInt(PlayerResult::getTries).average().orElse(0);
+        return String.format("Round %d: %d players, %d won, %d timed out, %d forfeited turns, "
+                        + "mean tries of winners %.2f, %d ms%n", round, results.size(), winners,
+                results.size() - winners, getForfeits(), meanTries, getElapsedMillis());
+    }
+}
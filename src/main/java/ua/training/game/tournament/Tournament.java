@@ -0,0 +1,428 @@
+package ua.training.game.tournament;
+
+import ua.training.game.GuessValidation;
+import ua.training.game.SessionSlab;
+import ua.training.game.random.RandomSource;
+import ua.training.game.utils.TimerWheel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs rounds of the tournament, in a round every player
+ * plays its own game with the same secret number.
+ * Players are never waited for: every turn and every game has
+ * a deadline on the shared {@link TimerWheel}, a turn that isn't
+ * answered in time is forfeited and the next turn starts,
+ * a game that isn't won in time is lost.
+ * Games of a round are spread over stripes, a stripe keeps its
+ * games in one {@link SessionSlab} and changes them under its own
+ * monitor, so players of different stripes never wait for each other.
+ * Slabs are reused by the next rounds.
+ * Turns are passed to the players by the executor.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class Tournament {
+
+    /**
+     * Shared timer of the deadlines.
+     */
+    private final TimerWheel timerWheel;
+
+    /**
+     * Executor that passes turns to the players.
+     */
+    private final Executor executor;
+
+    /**
+     * Time to answer a turn.
+     */
+    private final long turnTimeoutMillis;
+
+    /**
+     * Time to win a game.
+     */
+    private final long gameTimeoutMillis;
+
+    /**
+     * Source of the secret numbers.
+     */
+    private final RandomSource randomSource;
+
+    /**
+     * Count of started rounds.
+     */
+    private final AtomicInteger rounds = new AtomicInteger();
+
+    /**
+     * Max count of stripes in a round.
+     */
+    private final int stripes = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Slabs of the finished rounds.
+     */
+    private final Deque<SessionSlab> idleSlabs = new ArrayDeque<>();
+
+    /**
+     * Count of created slabs.
+     */
+    private int createdSlabs;
+
+    /**
+     * Creates tournament.
+     * @param timerWheel shared timer of the deadlines.
+     * @param executor executor that passes turns to the players.
+     * @param turnTimeoutMillis time to answer a turn.
+     * @param gameTimeoutMillis time to win a game.
+     * @param randomSource source of the secret numbers.
+     */
+    public Tournament(TimerWheel timerWheel, Executor executor, long turnTimeoutMillis,
+                      long gameTimeoutMillis, RandomSource randomSource) {
+        if (turnTimeoutMillis <= 0 || gameTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Timeouts must be positive");
+        }
+        this.timerWheel = timerWheel;
+        this.executor = executor;
+        this.turnTimeoutMillis = turnTimeoutMillis;
+        this.gameTimeoutMillis = gameTimeoutMillis;
+        this.randomSource = randomSource;
+    }
+
+    /**
+     * Starts round, every player gets its first turn.
+     * @param players players of the round, the index of a player is its session.
+     * @param minBound min game value.
+     * @param maxBound max game value.
+     * @return results that are completed when every game is won or timed out.
+     */
+    public CompletableFuture<RoundResult> playRound(List<? extends TournamentPlayer> players,
+                                                    long minBound, long maxBound) {
+        if (players.isEmpty()) {
+            throw new IllegalArgumentException("Round must have players");
+        }
+        if (minBound > maxBound) {
+            throw new IllegalArgumentException("Max bound value can't be less than min bound");
+        }
+        Round round = new Round(rounds.incrementAndGet(), new ArrayList<>(players),
+                minBound, maxBound, randomSource.nextLong(minBound, maxBound));
+        round.start();
+        return round.result;
+    }
+
+    /**
+     * Gets count of created slabs.
+     * @return slabs count.
+     */
+    int getCreatedSlabs() {
+        synchronized (idleSlabs) {
+            return createdSlabs;
+        }
+    }
+
+    /**
+     * Takes idle slab or creates new one.
+     * @param capacity min count of sessions.
+     * @return slab for the round.
+     */
+    private SessionSlab acquireSlab(int capacity) {
+        synchronized (idleSlabs) {
+            for (Iterator<SessionSlab> idle = idleSlabs.iterator(); idle.hasNext(); ) {
+                SessionSlab slab = idle.next();
+                if (slab.getCapacity() >= capacity) {
+                    idle.remove();
+                    return slab;
+                }
+            }
+            createdSlabs++;
+        }
+        return new SessionSlab(capacity);
+    }
+
+    /**
+     * Returns slabs of the finished round.
+     * @param slabs slabs of the round.
+     */
+    private void releaseSlabs(SessionSlab[] slabs) {
+        synchronized (idleSlabs) {
+            for (SessionSlab slab : slabs) {
+                idleSlabs.push(slab);
+            }
+        }
+    }
+
+    /**
+     * Games of the round. A session is in the stripe
+     * {@code session % stripes} at the index {@code session / stripes},
+     * its state is changed under the monitor of the stripe slab.
+     */
+    final class Round {
+
+        /**
+         * Number of the round.
+         */
+        private final int number;
+
+        /**
+         * Players by session.
+         */
+        private final List<TournamentPlayer> players;
+
+        /**
+         * Games of the players by stripe.
+         */
+        private final SessionSlab[] slabs;
+
+        /**
+         * Number of the current turn by session.
+         */
+        private final int[] turns;
+
+        /**
+         * Count of forfeited turns by session.
+         */
+        private final int[] forfeits;
+
+        /**
+         * Is the game over by session.
+         */
+        private final boolean[] over;
+
+        /**
+         * Game duration by session.
+         */
+        private final long[] elapsedNanos;
+
+        /**
+         * Deadline of the current turn by session.
+         */
+        private final TimerWheel.Timeout[] turnDeadlines;
+
+        /**
+         * Deadline of the game by session.
+         */
+        private final TimerWheel.Timeout[] gameDeadlines;
+
+        /**
+         * Results of the round.
+         */
+        private final CompletableFuture<RoundResult> result = new CompletableFuture<>();
+
+        /**
+         * Start time of the round.
+         */
+        private final long startTime;
+
+        /**
+         * Count of the games that are not over.
+         */
+        private final AtomicInteger playing;
+
+        /**
+         * Creates round.
+         * @param number number of the round.
+         * @param players players by session.
+         * @param minBound min game value.
+         * @param maxBound max game value.
+         * @param secretNumber guessing number of all games.
+         */
+        Round(int number, List<TournamentPlayer> players, long minBound, long maxBound, long secretNumber) {
+            int size = players.size();
+            this.number = number;
+            this.players = players;
+            this.slabs = new SessionSlab[Math.min(stripes, size)];
+            this.turns = new int[size];
+            this.forfeits = new int[size];
+            this.over = new boolean[size];
+            this.elapsedNanos = new long[size];
+            this.turnDeadlines = new TimerWheel.Timeout[size];
+            this.gameDeadlines = new TimerWheel.Timeout[size];
+            for (int stripe = 0; stripe < slabs.length; stripe++) {
+                slabs[stripe] = acquireSlab((size + slabs.length - 1) / slabs.length);
+            }
+            for (int session = 0; session < size; session++) {
+                slab(session).start(index(session), minBound, maxBound, secretNumber);
+            }
+            this.playing = new AtomicInteger(size);
+            this.startTime = System.nanoTime();
+        }
+
+        /**
+         * Schedules game deadlines and passes first turns.
+         */
+        void start() {
+            Turn[] firstTurns = new Turn[players.size()];
+            for (int session = 0; session < firstTurns.length; session++) {
+                int gameSession = session;
+                synchronized (slab(session)) {
+                    gameDeadlines[session] = timerWheel.schedule(() -> timeOut(gameSession),
+                            gameTimeoutMillis, TimeUnit.MILLISECONDS);
+                    firstTurns[session] = nextTurn(session);
+                }
+            }
+            for (Turn turn : firstTurns) {
+                pass(turn);
+            }
+        }
+
+        /**
+         * Puts answer of the turn into the game.
+         * @param session session of the player.
+         * @param turn number of the answered turn.
+         * @param value guess.
+         * @return false if the turn is already over.
+         */
+        boolean answer(int session, int turn, long value) {
+            Turn next;
+            boolean finished = false;
+            SessionSlab slab = slab(session);
+            synchronized (slab) {
+                if (over[session] || turns[session] != turn) {
+                    return false;
+                }
+                turnDeadlines[session].cancel();
+                if (slab.validateGuess(index(session), value) != GuessValidation.VALID) {
+                    forfeits[session]++;
+                    next = nextTurn(session);
+                } else if (slab.putEnteredNumberAndCheckVictory(index(session), value)) {
+                    gameDeadlines[session].cancel();
+                    end(session);
+                    finished = true;
+                    next = null;
+                } else {
+                    next = nextTurn(session);
+                }
+            }
+            pass(next);
+            if (finished) {
+                finish();
+            }
+            return true;
+        }
+
+        /**
+         * Forfeits the turn that wasn't answered in time.
+         * @param session session of the player.
+         * @param turn number of the turn.
+         */
+        private void forfeit(int session, int turn) {
+            Turn next;
+            synchronized (slab(session)) {
+                if (over[session] || turns[session] != turn) {
+                    return;
+                }
+                forfeits[session]++;
+                next = nextTurn(session);
+            }
+            pass(next);
+        }
+
+        /**
+         * Ends the game that wasn't won in time.
+         * @param session session of the player.
+         */
+        private void timeOut(int session) {
+            synchronized (slab(session)) {
+                if (over[session]) {
+                    return;
+                }
+                turnDeadlines[session].cancel();
+                end(session);
+            }
+            finish();
+        }
+
+        /**
+         * Starts next turn of the session and schedules its deadline.
+         * @param session session of the player.
+         * @return started turn.
+         */
+        private Turn nextTurn(int session) {
+            int turn = ++turns[session];
+            turnDeadlines[session] = timerWheel.schedule(() -> forfeit(session, turn),
+                    turnTimeoutMillis, TimeUnit.MILLISECONDS);
+
+            SessionSlab slab = slab(session);
+            int index = index(session);
+            long low = slab.getLowerBound(index);
+            long high = slab.getUpperBound(index);
+            if (low < high && slab.isRepeatedEntered(index, low)) {
+                low++;
+            }
+            if (low < high && slab.isRepeatedEntered(index, high)) {
+                high--;
+            }
+            return new Turn(this, session, turn, low, high);
+        }
+
+        /**
+         * Ends the game of the session, must be called under the stripe monitor.
+         * @param session session of the player.
+         */
+        private void end(int session) {
+            over[session] = true;
+            elapsedNanos[session] = System.nanoTime() - startTime;
+        }
+
+        /**
+         * Counts the ended game, the last one completes results
+         * of the round and releases its slabs. Every game is over
+         * by then, so the games are read without stripe monitors.
+         */
+        private void finish() {
+            if (playing.decrementAndGet() > 0) {
+                return;
+            }
+
+            List<PlayerResult> results = new ArrayList<>(players.size());
+            for (int i = 0; i < players.size(); i++) {
+                SessionSlab slab = slab(i);
+                int index = index(i);
+                int tries = slab.getTries(index);
+                boolean won = tries > 0 && slab.getLastGuess(index) == slab.getSecretNumber(index);
+                results.add(new PlayerResult(i, won, tries, forfeits[i], elapsedNanos[i]));
+            }
+            long elapsed = System.nanoTime() - startTime;
+            releaseSlabs(slabs);
+            result.complete(new RoundResult(number, results, elapsed));
+        }
+
+        /**
+         * Gets slab of the session stripe, it is the stripe monitor.
+         * @param session session of the player.
+         * @return stripe slab.
+         */
+        private SessionSlab slab(int session) {
+            return slabs[session % slabs.length];
+        }
+
+        /**
+         * Gets index of the session in the stripe slab.
+         * @param session session of the player.
+         * @return slab session.
+         */
+        private int index(int session) {
+            return session / slabs.length;
+        }
+
+        /**
+         * Passes the turn to its player.
+         * @param turn started turn or null.
+         */
+        private void pass(Turn turn) {
+            if (turn != null) {
+                TournamentPlayer player = players.get(turn.getSession());
+                executor.execute(() -> player.play(turn));
+            }
+        }
+    }
+}
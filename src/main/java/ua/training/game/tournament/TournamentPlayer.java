@@ -0,0 +1,33 @@
+package ua.training.game.tournament;
+
+import ua.training.game.GuessingStrategy;
+import ua.training.game.random.RandomSource;
+
+/**
+ * Player of the tournament.
+ * It gets every turn of its game and answers it, now or later,
+ * from any thread, by {@link Turn#answer(long)}.
+ * A turn that isn't answered before its deadline is forfeited.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+@FunctionalInterface
+public interface TournamentPlayer {
+
+    /**
+     * Starts the turn of the player.
+     * @param turn turn to answer.
+     */
+    void play(Turn turn);
+
+    /**
+     * Creates player that answers every turn at once by the strategy.
+     * @param strategy guessing strategy.
+     * @param random random source of the player.
+     * @return simulated player.
+     */
+    static TournamentPlayer of(GuessingStrategy strategy, RandomSource random) {
+        return turn -> turn.answer(strategy.nextGuess(turn.getLow(), turn.getHigh(), random));
+    }
+}
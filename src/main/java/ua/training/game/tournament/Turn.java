@@ -0,0 +1,92 @@
+package ua.training.game.tournament;
+
+/**
+ * Turn of a tournament player, it is answered by one guess.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class Turn {
+
+    /**
+     * Round of the turn.
+     */
+    private final Tournament.Round round;
+
+    /**
+     * Session of the player.
+     */
+    private final int session;
+
+    /**
+     * Number of the turn in the session.
+     */
+    private final int number;
+
+    /**
+     * Lowest value that wasn't excluded yet.
+     */
+    private final long low;
+
+    /**
+     * Highest value that wasn't excluded yet.
+     */
+    private final long high;
+
+    /**
+     * Creates turn.
+     * @param round round of the turn.
+     * @param session session of the player.
+     * @param number number of the turn in the session.
+     * @param low lowest value that wasn't excluded yet.
+     * @param high highest value that wasn't excluded yet.
+     */
+    Turn(Tournament.Round round, int session, int number, long low, long high) {
+        this.round = round;
+        this.session = session;
+        this.number = number;
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Answers the turn, a value that isn't valid by the game rules forfeits it.
+     * @param value guess.
+     * @return false if the turn is already over.
+     */
+    public boolean answer(long value) {
+        return round.answer(session, number, value);
+    }
+
+    /**
+     * Gets session of the player, index of the player in the round.
+     * @return session id.
+     */
+    public int getSession() {
+        return session;
+    }
+
+    /**
+     * Gets number of the turn in the session, from one.
+     * @return turn number.
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Gets lowest value that wasn't excluded yet.
+     * @return low candidate.
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * Gets highest value that wasn't excluded yet.
+     * @return high candidate.
+     */
+    public long getHigh() {
+        return high;
+    }
+}
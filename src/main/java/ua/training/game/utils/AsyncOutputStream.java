@@ -0,0 +1,200 @@
+package ua.training.game.utils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+
+/**
+ * Output stream that copies written bytes to a bounded
+ * ring buffer and sends them to the underlying stream
+ * from a separate writer task. Writers wait only when
+ * the ring is full, so a slow client stalls the game
+ * only after it is behind by the whole ring capacity.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class AsyncOutputStream extends OutputStream {
+
+    /**
+     * Underlying stream.
+     */
+    private final OutputStream out;
+
+    /**
+     * Ring of pending bytes.
+     */
+    private final byte[] ring;
+
+    /**
+     * Total count of bytes written to the ring.
+     */
+    private long written;
+
+    /**
+     * Total count of bytes sent to the underlying stream.
+     */
+    private long sent;
+
+    /**
+     * Is the stream closed.
+     */
+    private boolean closed;
+
+    /**
+     * Error of the writer task, reported to the next caller.
+     */
+    private IOException failure;
+
+    /**
+     * Creates stream and starts the writer task.
+     * @param out underlying stream.
+     * @param capacity ring size in bytes.
+     * @param writerExecutor executor of the writer task.
+     */
+    public AsyncOutputStream(OutputStream out, int capacity, Executor writerExecutor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.out = out;
+        this.ring = new byte[capacity];
+        writerExecutor.execute(this::drain);
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+        checkState();
+        while (written - sent == ring.length) {
+            await();
+            checkState();
+        }
+
+        ring[(int) (written % ring.length)] = (byte) b;
+        written++;
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            checkState();
+            long free = ring.length - (written - sent);
+            if (free == 0) {
+                await();
+                continue;
+            }
+
+            int start = (int) (written % ring.length);
+            int chunk = (int) Math.min(Math.min(free, length), ring.length - start);
+            System.arraycopy(bytes, offset, ring, start, chunk);
+            written += chunk;
+            offset += chunk;
+            length -= chunk;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Returns immediately, written bytes are always
+     * sent and flushed by the writer task.
+     * @throws IOException if the writer task failed.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        checkState();
+    }
+
+    /**
+     * Waits until pending bytes are sent and closes the underlying stream.
+     * @throws IOException if pending bytes can't be sent.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        while (written != sent && failure == null) {
+            await();
+        }
+        closed = true;
+        notifyAll();
+        out.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Sends ring bytes until the stream is closed.
+     */
+    private void drain() {
+        try {
+            while (true) {
+                int start;
+                int length;
+                synchronized (this) {
+                    while (written == sent && !closed) {
+                        wait();
+                    }
+                    if (closed) {
+                        return;
+                    }
+                    start = (int) (sent % ring.length);
+                    length = (int) Math.min(written - sent, ring.length - start);
+                }
+
+                out.write(ring, start, length);
+
+                boolean drained;
+                synchronized (this) {
+                    sent += length;
+                    drained = written == sent;
+                    notifyAll();
+                }
+                if (drained) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            fail(e);
+        } catch (InterruptedException e) {
+            fail(new InterruptedIOException("Writer interrupted"));
+        }
+    }
+
+    /**
+     * Stores writer error and wakes up waiting callers.
+     * @param e writer error.
+     */
+    private synchronized void fail(IOException e) {
+        failure = e;
+        notifyAll();
+    }
+
+    /**
+     * Throws if the stream can't accept bytes.
+     * @throws IOException if stream is closed or writer failed.
+     */
+    private void checkState() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Waits for the writer progress.
+     * @throws InterruptedIOException if the caller is interrupted.
+     */
+    private void await() throws InterruptedIOException {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the writer");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ua.training.game.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads whitespace separated numbers straight
+ * from the input stream bytes using {@link NumberParser}.
+ * Nothing is allocated per token.
+ *
+ * @version 1.2 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class InputTokenizer {
+
+    /**
+     * Size of the read buffer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Input that is tokenized.
+     */
+    private final InputStream inStream;
+
+    /**
+     * Read bytes.
+     */
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    /**
+     * Parses tokens.
+     */
+    private final NumberParser parser = new NumberParser();
+
+    /**
+     * Next unread byte position.
+     */
+    private int position;
+
+    /**
+     * Count of bytes in the buffer.
+     */
+    private int limit;
+
+    /**
+     * Creates tokenizer.
+     * @param inStream input that is tokenized.
+     */
+    public InputTokenizer(InputStream inStream) {
+        this.inStream = inStream;
+    }
+
+    /**
+     * Reads next token.
+     * @return true if the token is a valid number, see {@link #getValue()}.
+     * @throws NoSuchElementException if input is exhausted.
+     * @throws UncheckedIOException if input can't be read.
+     */
+    public boolean nextNumber() {
+        while (true) {
+            if (position == limit && !fill()) {
+                int result = parser.finish();
+                if (result == NumberParser.INCOMPLETE) {
+                    throw new NoSuchElementException("End of input");
+                }
+                return result == NumberParser.NUMBER;
+            }
+
+            int result = parser.accept(buffer[position++] & 0xFF);
+            if (result != NumberParser.INCOMPLETE) {
+                return result == NumberParser.NUMBER;
+            }
+        }
+    }
+
+    /**
+     * Gets last read number.
+     * @return value of the last valid token.
+     */
+    public long getValue() {
+        return parser.getValue();
+    }
+
+    /**
+     * Skips input up to the end of the current line,
+     * e.g. the key press that starts the console game.
+     * @throws UncheckedIOException if input can't be read.
+     */
+    public void skipLine() {
+        parser.reset();
+        while (position < limit || fill()) {
+            if (buffer[position++] == '\n') {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads next bytes to the buffer.
+     * @return false if input is exhausted.
+     */
+    private boolean fill() {
+        try {
+            int count = inStream.read(buffer, 0, buffer.length);
+            position = 0;
+            limit = Math.max(count, 0);
+            return count > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package ua.training.game.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes JSON document as UTF-8 bytes into a reusable buffer.
+ * Numbers are written digit by digit without temporary strings,
+ * so a reset writer encodes documents without allocations
+ * once the buffer is large enough.
+ * The writer doesn't check document structure.
+ * Sorted numbers may be written as array of
+ * {@code [from, to]} runs of consecutive values.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class JsonWriter {
+
+    /**
+     * Initial size of the buffer.
+     */
+    private static final int INITIAL_CAPACITY = 512;
+
+    /**
+     * Hexadecimal digits of escaped characters.
+     */
+    private static final byte[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7',
+            '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    /**
+     * Bytes of {@link Long#MIN_VALUE}, it has no positive counterpart.
+     */
+    private static final byte[] MIN_LONG = {'-', '9', '2', '2', '3', '3', '7', '2', '0', '3',
+            '6', '8', '5', '4', '7', '7', '5', '8', '0', '8'};
+
+    /**
+     * Bytes of the document.
+     */
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+
+    /**
+     * Count of written bytes.
+     */
+    private int size;
+
+    /**
+     * Must the next value be preceded by comma.
+     */
+    private boolean separate;
+
+    /**
+     * First value of the open run.
+     */
+    private long runFrom;
+
+    /**
+     * Last value of the open run.
+     */
+    private long runTo;
+
+    /**
+     * Is there an open run.
+     */
+    private boolean runOpen;
+
+    /**
+     * Clears the document.
+     * @return this writer.
+     */
+    public JsonWriter reset() {
+        size = 0;
+        separate = false;
+        runOpen = false;
+        return this;
+    }
+
+    /**
+     * Starts object.
+     * @return this writer.
+     */
+    public JsonWriter beginObject() {
+        separator();
+        append('{');
+        separate = false;
+        return this;
+    }
+
+    /**
+     * Ends object.
+     * @return this writer.
+     */
+    public JsonWriter endObject() {
+        append('}');
+        separate = true;
+        return this;
+    }
+
+    /**
+     * Starts array.
+     * @return this writer.
+     */
+    public JsonWriter beginArray() {
+        separator();
+        append('[');
+        separate = false;
+        return this;
+    }
+
+    /**
+     * Ends array.
+     * @return this writer.
+     */
+    public JsonWriter endArray() {
+        append(']');
+        separate = true;
+        return this;
+    }
+
+    /**
+     * Starts array of runs, see {@link #runValue(long)}.
+     * @return this writer.
+     */
+    public JsonWriter beginRuns() {
+        runOpen = false;
+        return beginArray();
+    }
+
+    /**
+     * Adds value to the array of runs. Values must be added
+     * in ascending order, consecutive values are written
+     * as one {@code [from, to]} array.
+     * @param value added value.
+     * @return this writer.
+     */
+    public JsonWriter runValue(long value) {
+        if (runOpen && value == runTo + 1) {
+            runTo = value;
+            return this;
+        }
+
+        writeRun();
+        runFrom = value;
+        runTo = value;
+        runOpen = true;
+        return this;
+    }
+
+    /**
+     * Writes the open run and ends array of runs.
+     * @return this writer.
+     */
+    public JsonWriter endRuns() {
+        writeRun();
+        return endArray();
+    }
+
+    /**
+     * Writes name of the next object member.
+     * @param name member name.
+     * @return this writer.
+     */
+    public JsonWriter name(String name) {
+        separator();
+        string(name);
+        append(':');
+        separate = false;
+        return this;
+    }
+
+    /**
+     * Writes number.
+     * @param value written value.
+     * @return this writer.
+     */
+    public JsonWriter value(long value) {
+        separator();
+        if (value == Long.MIN_VALUE) {
+            ensureCapacity(MIN_LONG.length);
+            System.arraycopy(MIN_LONG, 0, buffer, size, MIN_LONG.length);
+            size += MIN_LONG.length;
+        } else {
+            if (value < 0) {
+                append('-');
+                value = -value;
+            }
+            int digits = 1;
+            for (long rest = value / 10; rest != 0; rest /= 10) {
+                digits++;
+            }
+            ensureCapacity(digits);
+            for (int i = size + digits - 1; i >= size; i--) {
+                buffer[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            size += digits;
+        }
+        separate = true;
+        return this;
+    }
+
+    /**
+     * Writes boolean.
+     * @param value written value.
+     * @return this writer.
+     */
+    public JsonWriter value(boolean value) {
+        separator();
+        literal(value ? "true" : "false");
+        separate = true;
+        return this;
+    }
+
+    /**
+     * Writes string.
+     * @param value written value, null is written as JSON null.
+     * @return this writer.
+     */
+    public JsonWriter value(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        separator();
+        string(value);
+        separate = true;
+        return this;
+    }
+
+    /**
+     * Writes null.
+     * @return this writer.
+     */
+    public JsonWriter nullValue() {
+        separator();
+        literal("null");
+        separate = true;
+        return this;
+    }
+
+    /**
+     * Gets count of written bytes.
+     * @return document size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes the document to the stream.
+     * @param out target stream.
+     * @throws IOException if stream can't be written.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    /**
+     * Returns the document.
+     * @return document text.
+     */
+    @Override
+    public String toString() {
+        return new String(buffer, 0, size, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the open run.
+     */
+    private void writeRun() {
+        if (runOpen) {
+            beginArray().value(runFrom).value(runTo).endArray();
+            runOpen = false;
+        }
+    }
+
+    /**
+     * Writes comma if a value was written before.
+     */
+    private void separator() {
+        if (separate) {
+            append(',');
+        }
+    }
+
+    /**
+     * Writes ASCII literal.
+     * @param literal written literal.
+     */
+    private void literal(String literal) {
+        ensureCapacity(literal.length());
+        for (int i = 0; i < literal.length(); i++) {
+            buffer[size++] = (byte) literal.charAt(i);
+        }
+    }
+
+    /**
+     * Writes quoted and escaped string.
+     * @param value written string.
+     */
+    private void string(String value) {
+        ensureCapacity(value.length() + 2);
+        append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char symbol = value.charAt(i);
+            if (symbol == '"' || symbol == '\\') {
+                append('\\');
+                append(symbol);
+            } else if (symbol < 0x20) {
+                ensureCapacity(6);
+                buffer[size++] = '\\';
+                buffer[size++] = 'u';
+                buffer[size++] = '0';
+                buffer[size++] = '0';
+                buffer[size++] = HEX_DIGITS[symbol >> 4];
+                buffer[size++] = HEX_DIGITS[symbol & 0xF];
+            } else if (symbol < 0x80) {
+                append(symbol);
+            } else {
+                appendUtf8(value, i);
+                if (Character.isHighSurrogate(symbol) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    i++;
+                }
+            }
+        }
+        append('"');
+    }
+
+    /**
+     * Writes UTF-8 bytes of the non ASCII code point.
+     * @param value written string.
+     * @param index index of the code point.
+     */
+    private void appendUtf8(String value, int index) {
+        int codePoint = value.codePointAt(index);
+        if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            codePoint = '?';
+        }
+        ensureCapacity(4);
+        if (codePoint < 0x80) {
+            buffer[size++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            buffer[size++] = (byte) (0xC0 | codePoint >> 6);
+            buffer[size++] = (byte) (0x80 | codePoint & 0x3F);
+        } else if (codePoint < 0x10000) {
+            buffer[size++] = (byte) (0xE0 | codePoint >> 12);
+            buffer[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            buffer[size++] = (byte) (0x80 | codePoint & 0x3F);
+        } else {
+            buffer[size++] = (byte) (0xF0 | codePoint >> 18);
+            buffer[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+            buffer[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            buffer[size++] = (byte) (0x80 | codePoint & 0x3F);
+        }
+    }
+
+    /**
+     * Writes one byte.
+     * @param symbol ASCII symbol.
+     */
+    private void append(char symbol) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) symbol;
+    }
+
+    /**
+     * Grows the buffer if it has no room for the bytes.
+     * @param bytes count of bytes that will be written.
+     */
+    private void ensureCapacity(int bytes) {
+        if (buffer.length - size < bytes) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + bytes));
+        }
+    }
+}
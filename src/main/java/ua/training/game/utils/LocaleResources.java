@@ -0,0 +1,171 @@
+package ua.training.game.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+/**
+ * Immutable resources of one locale.
+ * Values and compiled templates are copied from the
+ * resource bundle or the generated resource class once,
+ * so lookups never lock and the instance can be shared
+ * by any count of sessions. Templates of generated
+ * resources are also found by the key index.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class LocaleResources implements ResourceManager {
+
+    /**
+     * Locale of the resources.
+     */
+    private final Locale locale;
+
+    /**
+     * Values by key.
+     */
+    private final Map<String, String> values;
+
+    /**
+     * Compiled values by key.
+     */
+    private final Map<String, MessageTemplate> templates;
+
+    /**
+     * Keys by index, empty for resources of a bundle.
+     */
+    private final String[] indexedKeys;
+
+    /**
+     * Compiled values by key index.
+     */
+    private final MessageTemplate[] indexedTemplates;
+
+    /**
+     * Copies resources of the bundle.
+     * @param locale requested locale.
+     * @param bundle loaded resource bundle.
+     */
+    LocaleResources(Locale locale, ResourceBundle bundle) {
+        Map<String, String> values = new HashMap<>();
+        Map<String, MessageTemplate> templates = new HashMap<>();
+
+        for (String key : bundle.keySet()) {
+            String value = bundle.getString(key);
+            values.put(key, value);
+            templates.put(key, MessageTemplate.compile(value));
+        }
+
+        this.locale = locale;
+        this.values = Collections.unmodifiableMap(values);
+        this.templates = Collections.unmodifiableMap(templates);
+        this.indexedKeys = new String[0];
+        this.indexedTemplates = new MessageTemplate[0];
+    }
+
+    /**
+     * Copies generated resources.
+     * @param locale requested locale.
+     * @param keys keys by index.
+     * @param values values by key index, null for missing values.
+     */
+    LocaleResources(Locale locale, String[] keys, String[] values) {
+        Map<String, String> valuesMap = new HashMap<>();
+        Map<String, MessageTemplate> templatesMap = new HashMap<>();
+        String[] indexedKeys = new String[keys.length];
+        MessageTemplate[] indexedTemplates = new MessageTemplate[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && values[i] != null) {
+                MessageTemplate template = MessageTemplate.compile(values[i]);
+                valuesMap.put(keys[i], values[i]);
+                templatesMap.put(keys[i], template);
+                indexedKeys[i] = keys[i];
+                indexedTemplates[i] = template;
+            }
+        }
+
+        this.locale = locale;
+        this.values = Collections.unmodifiableMap(valuesMap);
+        this.templates = Collections.unmodifiableMap(templatesMap);
+        this.indexedKeys = indexedKeys;
+        this.indexedTemplates = indexedTemplates;
+    }
+
+    /**
+     * Gets locale of the resources.
+     * @return locale.
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the key value.
+     * @param key key with value will be returned.
+     * @return value.
+     * @throws MissingResourceException if there is no such key.
+     */
+    @Override
+    public String getString(String key) {
+        String value = values.get(key);
+        if (value == null) {
+            throw missing(key);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the key value compiled as message template.
+     * @param key key with value will be returned.
+     * @return compiled value.
+     * @throws MissingResourceException if there is no such key.
+     */
+    @Override
+    public MessageTemplate getTemplate(String key) {
+        MessageTemplate template = templates.get(key);
+        if (template == null) {
+            throw missing(key);
+        }
+        return template;
+    }
+
+    /**
+     * Returns the key value compiled as message template by the key index.
+     * @param index index of the key.
+     * @param key key with value will be returned.
+     * @return compiled value.
+     * @throws MissingResourceException if there is no such key.
+     */
+    @Override
+    public MessageTemplate getTemplate(int index, String key) {
+        if (index >= 0 && index < indexedKeys.length && key.equals(indexedKeys[index])) {
+            return indexedTemplates[index];
+        }
+        return getTemplate(key);
+    }
+
+    /**
+     * Returns resources of other locale from the shared registry.
+     * @param locale required locale.
+     * @return resources of the locale.
+     */
+    @Override
+    public ResourceManager forLocale(Locale locale) {
+        return this.locale.equals(locale) ? this : ResourceBundleManager.INSTANCE.forLocale(locale);
+    }
+
+    /**
+     * Creates missing key exception.
+     * @param key missing key.
+     * @return exception.
+     */
+    private MissingResourceException missing(String key) {
+        return new MissingResourceException("Can't find resource for locale " + locale,
+                getClass().getName(), key);
+    }
+}
@@ -0,0 +1,173 @@
+package ua.training.game.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Many singly linked lists of long values in shared off-heap memory.
+ * A list is referenced by its head node, {@link #EMPTY} is the empty list.
+ * Values are pushed to the head, so a list is iterated from the newest value.
+ * Memory is taken in chunks of direct buffers that are never released,
+ * nodes of freed lists are reused by later pushes.
+ * The arena is not thread safe.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class LongListArena {
+
+    /**
+     * Reference of the empty list.
+     */
+    public static final long EMPTY = 0;
+
+    /**
+     * Bytes of a node: value and reference of the next node.
+     */
+    private static final int NODE_SIZE = 16;
+
+    /**
+     * Log2 of the count of nodes in a chunk.
+     */
+    private static final int CHUNK_NODES_SHIFT = 16;
+
+    /**
+     * Mask of node index in a chunk.
+     */
+    private static final int CHUNK_NODES_MASK = (1 << CHUNK_NODES_SHIFT) - 1;
+
+    /**
+     * Memory chunks.
+     */
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+
+    /**
+     * Count of nodes ever taken from the chunks.
+     */
+    private long allocated;
+
+    /**
+     * Head of the list of freed nodes.
+     */
+    private long freeList = EMPTY;
+
+    /**
+     * Count of nodes in use.
+     */
+    private long size;
+
+    /**
+     * Pushes value to the list head.
+     * @param head list head.
+     * @param value pushed value.
+     * @return new list head.
+     */
+    public long push(long head, long value) {
+        long node;
+        if (freeList != EMPTY) {
+            node = freeList;
+            freeList = next(node);
+        } else {
+            node = ++allocated;
+            if (chunkIndex(node) == chunks.size()) {
+                chunks.add(ByteBuffer.allocateDirect(NODE_SIZE << CHUNK_NODES_SHIFT)
+                        .order(ByteOrder.nativeOrder()));
+            }
+        }
+
+        ByteBuffer chunk = chunks.get(chunkIndex(node));
+        int offset = offset(node);
+        chunk.putLong(offset, value);
+        chunk.putLong(offset + 8, head);
+        size++;
+        return node;
+    }
+
+    /**
+     * Gets value of the node.
+     * @param node list node, not empty.
+     * @return node value.
+     */
+    public long value(long node) {
+        return chunks.get(chunkIndex(node)).getLong(offset(node));
+    }
+
+    /**
+     * Gets next node.
+     * @param node list node, not empty.
+     * @return next node or {@link #EMPTY}.
+     */
+    public long next(long node) {
+        return chunks.get(chunkIndex(node)).getLong(offset(node) + 8);
+    }
+
+    /**
+     * Checks does the list contain the value.
+     * @param head list head.
+     * @param value checked value.
+     * @return true if the value was pushed to the list.
+     */
+    public boolean contains(long head, long value) {
+        for (long node = head; node != EMPTY; node = next(node)) {
+            if (value(node) == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Frees nodes of the list for reuse.
+     * @param head list head.
+     */
+    public void free(long head) {
+        if (head == EMPTY) {
+            return;
+        }
+        long last = head;
+        size--;
+        for (long node = next(head); node != EMPTY; node = next(node)) {
+            last = node;
+            size--;
+        }
+        ByteBuffer chunk = chunks.get(chunkIndex(last));
+        chunk.putLong(offset(last) + 8, freeList);
+        freeList = head;
+    }
+
+    /**
+     * Gets count of nodes in use.
+     * @return used nodes count.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Gets off-heap memory taken by the arena.
+     * @return size of the chunks in bytes.
+     */
+    public long getReservedBytes() {
+        return (long) chunks.size() * (NODE_SIZE << CHUNK_NODES_SHIFT);
+    }
+
+    /**
+     * Gets chunk of the node, nodes are numbered from one.
+     * @param node list node.
+     * @return chunk index.
+     */
+    private static int chunkIndex(long node) {
+        return (int) ((node - 1) >>> CHUNK_NODES_SHIFT);
+    }
+
+    /**
+     * Gets node offset in its chunk.
+     * @param node list node.
+     * @return byte offset.
+     */
+    private static int offset(long node) {
+        return (int) ((node - 1) & CHUNK_NODES_MASK) * NODE_SIZE;
+    }
+}
@@ -0,0 +1,129 @@
+package ua.training.game.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Message pattern compiled once into literal parts
+ * between {@code %s} placeholders, {@code %%} is a percent sign.
+ * Arguments are appended straight into the caller buffer,
+ * a message without placeholders is rendered at compile time.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class MessageTemplate {
+
+    /**
+     * Literal parts, there is a placeholder between each two of them.
+     */
+    private final String[] literals;
+
+    /**
+     * Creates template.
+     * @param literals literal parts.
+     */
+    private MessageTemplate(String[] literals) {
+        this.literals = literals;
+    }
+
+    /**
+     * Compiles the pattern.
+     * @param pattern message pattern.
+     * @return compiled template.
+     * @throws IllegalArgumentException if pattern has conversion other than %s and %%.
+     */
+    public static MessageTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(pattern.length());
+
+        for (int i = 0; i < pattern.length(); i++) {
+            char symbol = pattern.charAt(i);
+            if (symbol != '%') {
+                literal.append(symbol);
+                continue;
+            }
+
+            char conversion = i + 1 < pattern.length() ? pattern.charAt(++i) : 0;
+            if (conversion == '%') {
+                literal.append('%');
+            } else if (conversion == 's') {
+                literals.add(literal.toString());
+                literal.setLength(0);
+            } else {
+                throw new IllegalArgumentException("Unsupported conversion in \"" + pattern + '"');
+            }
+        }
+        literals.add(literal.toString());
+
+        return new MessageTemplate(literals.toArray(new String[0]));
+    }
+
+    /**
+     * Gets count of placeholders.
+     * @return arguments count.
+     */
+    public int getArgumentsCount() {
+        return literals.length - 1;
+    }
+
+    /**
+     * Checks is the message without placeholders.
+     * @return true if the message is constant.
+     */
+    public boolean isConstant() {
+        return literals.length == 1;
+    }
+
+    /**
+     * Gets literal part that precedes placeholder with the index,
+     * or the last part for index equal to arguments count.
+     * @param index part index.
+     * @return literal part.
+     */
+    public String getLiteral(int index) {
+        return literals[index];
+    }
+
+    /**
+     * Appends the message with arguments.
+     * @param out buffer the message is appended to.
+     * @param arguments placeholders values.
+     * @return the buffer.
+     * @throws IllegalArgumentException if there are less arguments than placeholders.
+     */
+    public StringBuilder render(StringBuilder out, CharSequence... arguments) {
+        if (arguments.length < getArgumentsCount()) {
+            throw new IllegalArgumentException("Template requires "
+                    + getArgumentsCount() + " arguments");
+        }
+
+        out.append(literals[0]);
+        for (int i = 1; i < literals.length; i++) {
+            out.append(arguments[i - 1]).append(literals[i]);
+        }
+        return out;
+    }
+
+    /**
+     * Renders the message with arguments.
+     * Constant message is returned without copying.
+     * @param arguments placeholders values.
+     * @return the message.
+     */
+    public String format(CharSequence... arguments) {
+        if (isConstant()) {
+            return literals[0];
+        }
+        return render(new StringBuilder(), arguments).toString();
+    }
+
+    /**
+     * Returns constant message or the message with empty placeholders.
+     * @return string representation.
+     */
+    @Override
+    public String toString() {
+        return String.join("", literals);
+    }
+}
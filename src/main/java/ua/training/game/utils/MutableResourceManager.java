@@ -0,0 +1,20 @@
+package ua.training.game.utils;
+
+import java.util.Locale;
+
+/**
+ * Resources whose locale can be changed for all their users.
+ * Resources of one locale are immutable, a session that
+ * needs other locale uses {@link #forLocale(Locale)}.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public interface MutableResourceManager extends ResourceManager {
+
+    /**
+     * Changes resource locale.
+     * @param locale locale tat will be used.
+     */
+    void changeResource(Locale locale);
+}
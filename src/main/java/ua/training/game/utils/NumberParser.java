@@ -0,0 +1,168 @@
+package ua.training.game.utils;
+
+/**
+ * Parses whitespace separated signed long numbers
+ * fed byte by byte. Validation, parsing and overflow
+ * detection are done in one pass without allocation,
+ * so the parser can be driven by any byte source.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class NumberParser {
+
+    /**
+     * Token is not finished yet.
+     */
+    public static final int INCOMPLETE = 0;
+
+    /**
+     * Finished token is valid number, see {@link #getValue()}.
+     */
+    public static final int NUMBER = 1;
+
+    /**
+     * Finished token is not a number or out of long range.
+     */
+    public static final int INVALID = 2;
+
+    /**
+     * Parsed value, accumulated negatively to cover Long.MIN_VALUE.
+     */
+    private long accumulated;
+
+    /**
+     * Min accumulated value for the token sign.
+     */
+    private long limit;
+
+    /**
+     * Is the token started.
+     */
+    private boolean inToken;
+
+    /**
+     * Is the token negative.
+     */
+    private boolean negative;
+
+    /**
+     * Has the token digits.
+     */
+    private boolean hasDigits;
+
+    /**
+     * Is the token already invalid.
+     */
+    private boolean invalid;
+
+    /**
+     * Last parsed number.
+     */
+    private long value;
+
+    /**
+     * Accepts next input symbol.
+     * @param symbol input byte as unsigned value or char,
+     *               non-ASCII symbols make the token invalid.
+     * @return {@link #NUMBER} or {@link #INVALID} when the symbol
+     * finishes the token, otherwise {@link #INCOMPLETE}.
+     */
+    public int accept(int symbol) {
+        if (isWhitespace(symbol)) {
+            return inToken ? finishToken() : INCOMPLETE;
+        }
+
+        if (!inToken) {
+            startToken();
+            if (symbol == '-' || symbol == '+') {
+                negative = symbol == '-';
+                limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+                return INCOMPLETE;
+            }
+        }
+
+        if (invalid) {
+            return INCOMPLETE;
+        }
+
+        int digit = symbol - '0';
+        if (digit < 0 || digit > 9 || accumulated < limit / 10) {
+            invalid = true;
+            return INCOMPLETE;
+        }
+
+        accumulated *= 10;
+        if (accumulated < limit + digit) {
+            invalid = true;
+            return INCOMPLETE;
+        }
+        accumulated -= digit;
+        hasDigits = true;
+
+        return INCOMPLETE;
+    }
+
+    /**
+     * Finishes the token at the end of input.
+     * @return {@link #NUMBER} or {@link #INVALID} if there
+     * was unfinished token, otherwise {@link #INCOMPLETE}.
+     */
+    public int finish() {
+        return inToken ? finishToken() : INCOMPLETE;
+    }
+
+    /**
+     * Drops unfinished token.
+     */
+    public void reset() {
+        inToken = false;
+    }
+
+    /**
+     * Gets last parsed number.
+     * @return number of the last {@link #NUMBER} token.
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * Checks is the symbol a token separator.
+     * Separators are the ASCII whitespace symbols
+     * of {@link Character#isWhitespace(int)}, as the
+     * default delimiter of {@link java.util.Scanner}.
+     * @param symbol input byte as unsigned value or char.
+     * @return true for ASCII whitespace.
+     */
+    public static boolean isWhitespace(int symbol) {
+        return symbol == ' ' || (symbol >= '\t' && symbol <= '\r') || (symbol >= 0x1C && symbol <= 0x1F);
+    }
+
+    /**
+     * Prepares state for a new token.
+     */
+    private void startToken() {
+        inToken = true;
+        negative = false;
+        hasDigits = false;
+        invalid = false;
+        accumulated = 0;
+        limit = -Long.MAX_VALUE;
+    }
+
+    /**
+     * Finishes current token.
+     * @return token result.
+     */
+    private int finishToken() {
+        inToken = false;
+
+        if (invalid || !hasDigits) {
+            return INVALID;
+        }
+
+        value = negative ? accumulated : -accumulated;
+        return NUMBER;
+    }
+}
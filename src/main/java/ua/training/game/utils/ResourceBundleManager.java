@@ -1,45 +1,69 @@
 package ua.training.game.utils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Managing resources using resource bundle files.
+ * Each locale bundle is loaded once into immutable
+ * {@link LocaleResources}, sessions with different
+ * locales use {@link #forLocale(Locale)}.
+ * Bundle files of the build are compiled into generated classes,
+ * so they are not read on startup; a locale whose file is added
+ * to the class path later is loaded from the file.
  *
- * @version 1.0 04 Apr 2019
+ * @version 1.3 17 Oct 2026
  * @author  Igor Klapatnjuk
  */
-public enum ResourceBundleManager implements ResourceManager {
+public enum ResourceBundleManager implements MutableResourceManager {
     /**
      * Single instance that application uses for managing resources.
      */
     INSTANCE;
 
     /**
-     * Provides resources.
+     * The file that contains dialog values.
      */
-    private ResourceBundle resourceBundle;
+    private final String resourceName = "dialogs";
 
     /**
-     * The file that contains dialog values.
+     * Names bundle files and lists their candidate locales.
      */
-    private final String resourceName = "dialogs";
+    private final ResourceBundle.Control control =
+            ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    /**
+     * Loaded resources of each locale.
+     */
+    private final Map<Locale, LocaleResources> registry = new ConcurrentHashMap<>();
+
+    /**
+     * Resources of the current locale.
+     */
+    private volatile LocaleResources resources;
 
     /**
      * Creates ResourceBundleManager that will be used.
      * PropertyResourceBundle with default Locale.
      */
     ResourceBundleManager() {
-        resourceBundle = PropertyResourceBundle.getBundle(resourceName);
+        resources = forLocale(Locale.getDefault());
     }
 
     /**
      * Change resource locale.
+     * Other locale resources are already
+     * loaded or loaded once.
      * @param locale locale that will be used.
      */
+    @Override
     public void changeResource(final Locale locale) {
-        resourceBundle = PropertyResourceBundle.getBundle(resourceName, locale);
+        resources = forLocale(locale);
     }
 
     /**
@@ -48,6 +72,76 @@ public enum ResourceBundleManager implements ResourceManager {
      * @return value.
      */
     public String getString(final String key) {
-        return resourceBundle.getString(key);
+        return resources.getString(key);
+    }
+
+    /**
+     * Returns the key value compiled as message template.
+     * @param key key with value will be returned.
+     * @return compiled value.
+     */
+    @Override
+    public MessageTemplate getTemplate(final String key) {
+        return resources.getTemplate(key);
+    }
+
+    /**
+     * Returns immutable resources of the locale.
+     * @param locale required locale.
+     * @return resources of the locale.
+     */
+    @Override
+    public LocaleResources forLocale(final Locale locale) {
+        LocaleResources localeResources = registry.get(locale);
+
+        if (localeResources == null) {
+            localeResources = registry.computeIfAbsent(locale, l ->
+                    load(l, ResourceBundleManager.class.getClassLoader()));
+        }
+
+        return localeResources;
+    }
+
+    /**
+     * Loads resources of the locale.
+     * Candidate locales are checked in the order of the resource bundle lookup,
+     * the first one that has generated class or bundle file is used.
+     * @param locale required locale.
+     * @param loader class loader of the bundle files.
+     * @return resources of the locale.
+     */
+    LocaleResources load(Locale locale, ClassLoader loader) {
+        for (Locale candidate : candidateLocales(locale)) {
+            String[] values = GeneratedDialogs.values(candidate.toString());
+            if (values != null) {
+                return new LocaleResources(locale, GeneratedDialogs.KEYS, values);
+            }
+            String file = control.toResourceName(control.toBundleName(resourceName, candidate), "properties");
+            if (loader.getResource(file) != null) {
+                break;
+            }
+        }
+        return new LocaleResources(locale, PropertyResourceBundle.getBundle(resourceName, locale, loader));
+    }
+
+    /**
+     * Lists locales whose bundles are looked for the locale:
+     * its candidates, then candidates of the default locale, then the root.
+     * @param locale required locale.
+     * @return candidate locales.
+     */
+    private List<Locale> candidateLocales(Locale locale) {
+        List<Locale> candidates = new ArrayList<>(control.getCandidateLocales(resourceName, locale));
+        candidates.remove(Locale.ROOT);
+        Locale fallback = control.getFallbackLocale(resourceName, locale);
+        if (fallback != null) {
+            for (Locale candidate : control.getCandidateLocales(resourceName, fallback)) {
+                if (!candidate.equals(Locale.ROOT) && !candidates.contains(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        candidates.add(Locale.ROOT);
+        return candidates;
     }
 }
@@ -4,22 +4,49 @@ import java.util.Locale;
 
 /**
  * Managing resources.
+ * Resources can be shared by sessions, so the locale
+ * of one session is taken by {@link #forLocale(Locale)};
+ * {@link MutableResourceManager} changes the locale for all users.
  *
- * @version 1.0 04 Apr 2019
+ * @version 1.1 17 Oct 2026
  * @author  Igor Klapatnjuk
  */
 public interface ResourceManager {
 
-    /**
-     * Changes resource locale.
-     * @param locale locale tat will be used.
-     */
-    void changeResource(Locale locale);
-
     /**
      * Returns the key value.
      * @param key key with value will be returned.
      * @return value.
      */
     String getString(String key);
+
+    /**
+     * Returns the key value compiled as message template.
+     * Implementations should cache templates per locale.
+     * @param key key with value will be returned.
+     * @return compiled value.
+     */
+    default MessageTemplate getTemplate(String key) {
+        return MessageTemplate.compile(getString(key));
+    }
+
+    /**
+     * Returns the key value compiled as message template
+     * by its index, the ordinal of the dialog value.
+     * Generated resources find it in array, others by the key.
+     * @param index index of the key.
+     * @param key key with value will be returned.
+     * @return compiled value.
+     */
+    default MessageTemplate getTemplate(int index, String key) {
+        return getTemplate(key);
+    }
+
+    /**
+     * Returns resources of the locale without
+     * changing the locale of this instance.
+     * @param locale required locale.
+     * @return resources of the locale.
+     */
+    ResourceManager forLocale(Locale locale);
 }
@@ -0,0 +1,291 @@
+package ua.training.game.utils;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Sorted set of primitive int values.
+ * Values are split by high 16 bits into containers.
+ * Sparse container is sorted char array,
+ * dense container (more than 4096 values) is 8KB bitmap.
+ * Values are never boxed and inserting into existing container
+ * allocates only when the array container grows.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class RoaringIntSet {
+
+    /**
+     * Max cardinality of array container.
+     */
+    private static final int ARRAY_CONTAINER_MAX = 4096;
+
+    /**
+     * Count of long words in bitmap container.
+     */
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    /**
+     * Initial capacity of containers table and of each array container.
+     */
+    private static final int INITIAL_CAPACITY = 4;
+
+    /**
+     * Sorted high 16 bits of values with flipped sign bit.
+     */
+    private char[] keys = new char[INITIAL_CAPACITY];
+
+    /**
+     * Array containers, null if container is a bitmap.
+     */
+    private char[][] arrays = new char[INITIAL_CAPACITY][];
+
+    /**
+     * Bitmap containers, null if container is an array.
+     */
+    private long[][] bitmaps = new long[INITIAL_CAPACITY][];
+
+    /**
+     * Cardinality of each container.
+     */
+    private int[] cardinalities = new int[INITIAL_CAPACITY];
+
+    /**
+     * Count of used containers.
+     */
+    private int containersCount;
+
+    /**
+     * Count of values.
+     */
+    private int size;
+
+    /**
+     * Adds value to the set.
+     * @param value value that will be added.
+     * @return true if the set did not contain the value.
+     */
+    public boolean add(int value) {
+        char key = highBits(value);
+        char low = (char) value;
+        int index = Arrays.binarySearch(keys, 0, containersCount, key);
+
+        if (index < 0) {
+            index = insertContainer(-index - 1, key);
+        }
+
+        boolean added = bitmaps[index] != null
+                ? addToBitmap(index, low)
+                : addToArray(index, low);
+
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    /**
+     * Checks is the value in the set.
+     * @param value value that will be checked.
+     * @return true if the set contains the value.
+     */
+    public boolean contains(int value) {
+        int index = Arrays.binarySearch(keys, 0, containersCount, highBits(value));
+
+        if (index < 0) {
+            return false;
+        }
+
+        char low = (char) value;
+        long[] bitmap = bitmaps[index];
+        if (bitmap != null) {
+            return (bitmap[low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch(arrays[index], 0, cardinalities[index], low) >= 0;
+    }
+
+    /**
+     * Gets count of values.
+     * @return size of the set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks is the set empty.
+     * @return true if the set has no values.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values. Array containers are kept
+     * and reused by the next inserted containers,
+     * so a cleared set can be refilled without allocation.
+     */
+    public void clear() {
+        Arrays.fill(bitmaps, 0, containersCount, null);
+        containersCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Performs the action for each value in ascending order.
+     * @param action action that will be performed.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < containersCount; i++) {
+            int high = keys[i] << 16;
+            long[] bitmap = bitmaps[i];
+
+            if (bitmap == null) {
+                char[] array = arrays[i];
+                for (int j = 0; j < cardinalities[i]; j++) {
+                    action.accept((high | array[j]) ^ Integer.MIN_VALUE);
+                }
+                continue;
+            }
+
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long bits = bitmap[word];
+                while (bits != 0) {
+                    int low = (word << 6) | Long.numberOfTrailingZeros(bits);
+                    action.accept((high | low) ^ Integer.MIN_VALUE);
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns values in ascending order
+     * in the same format as {@link java.util.AbstractCollection#toString()}.
+     * @return string representation.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(2 + size * 4).append('[');
+
+        forEach(value -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(value);
+        });
+
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Gets container key of the value.
+     * Sign bit is flipped to keep signed order of unsigned keys.
+     * @param value set value.
+     * @return high 16 bits.
+     */
+    private static char highBits(int value) {
+        return (char) ((value ^ Integer.MIN_VALUE) >>> 16);
+    }
+
+    /**
+     * Inserts empty array container.
+     * @param index position of the container.
+     * @param key container key.
+     * @return index of inserted container.
+     */
+    private int insertContainer(int index, char key) {
+        if (containersCount == keys.length) {
+            int capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            arrays = Arrays.copyOf(arrays, capacity);
+            bitmaps = Arrays.copyOf(bitmaps, capacity);
+            cardinalities = Arrays.copyOf(cardinalities, capacity);
+        }
+
+        char[] spare = arrays[containersCount];
+        int tail = containersCount - index;
+        System.arraycopy(keys, index, keys, index + 1, tail);
+        System.arraycopy(arrays, index, arrays, index + 1, tail);
+        System.arraycopy(bitmaps, index, bitmaps, index + 1, tail);
+        System.arraycopy(cardinalities, index, cardinalities, index + 1, tail);
+
+        keys[index] = key;
+        arrays[index] = spare != null ? spare : new char[INITIAL_CAPACITY];
+        bitmaps[index] = null;
+        cardinalities[index] = 0;
+        containersCount++;
+
+        return index;
+    }
+
+    /**
+     * Adds low bits to array container,
+     * converts it to bitmap when it becomes too large.
+     * @param index container index.
+     * @param low low 16 bits of the value.
+     * @return true if value was added.
+     */
+    private boolean addToArray(int index, char low) {
+        char[] array = arrays[index];
+        int cardinality = cardinalities[index];
+        int position = Arrays.binarySearch(array, 0, cardinality, low);
+
+        if (position >= 0) {
+            return false;
+        }
+
+        if (cardinality == ARRAY_CONTAINER_MAX) {
+            convertToBitmap(index);
+            return addToBitmap(index, low);
+        }
+
+        position = -position - 1;
+        if (cardinality == array.length) {
+            array = Arrays.copyOf(array, Math.min(cardinality * 2, ARRAY_CONTAINER_MAX));
+            arrays[index] = array;
+        }
+        System.arraycopy(array, position, array, position + 1, cardinality - position);
+        array[position] = low;
+        cardinalities[index] = cardinality + 1;
+
+        return true;
+    }
+
+    /**
+     * Adds low bits to bitmap container.
+     * @param index container index.
+     * @param low low 16 bits of the value.
+     * @return true if value was added.
+     */
+    private boolean addToBitmap(int index, char low) {
+        long[] bitmap = bitmaps[index];
+        long mask = 1L << low;
+        int word = low >>> 6;
+
+        if ((bitmap[word] & mask) != 0) {
+            return false;
+        }
+
+        bitmap[word] |= mask;
+        cardinalities[index]++;
+        return true;
+    }
+
+    /**
+     * Replaces array container by bitmap one.
+     * @param index container index.
+     */
+    private void convertToBitmap(int index) {
+        long[] bitmap = new long[BITMAP_WORDS];
+        char[] array = arrays[index];
+
+        for (int i = 0; i < cardinalities[index]; i++) {
+            bitmap[array[i] >>> 6] |= 1L << array[i];
+        }
+
+        bitmaps[index] = bitmap;
+        arrays[index] = null;
+    }
+}
@@ -0,0 +1,238 @@
+package ua.training.game.utils;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Sorted set of primitive long values.
+ * Values are split by high 32 bits. A high part with few
+ * values keeps them in one flat sorted array shared by all
+ * sparse high parts, so a game over the whole long range,
+ * where almost every guess has its own high part, adds
+ * no objects per guess. When a high part gets more than
+ * {@link #SPARSE_LIMIT} values, their low 32 bits move
+ * to {@link RoaringIntSet} of that part.
+ * Values are never boxed.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class RoaringLongSet {
+
+    /**
+     * Initial capacity of containers table.
+     */
+    private static final int INITIAL_CAPACITY = 2;
+
+    /**
+     * Max count of values of one high part in the sparse array.
+     */
+    static final int SPARSE_LIMIT = 32;
+
+    /**
+     * Sorted values of the high parts without container.
+     */
+    private long[] sparse = new long[SPARSE_LIMIT];
+
+    /**
+     * Count of values in the sparse array.
+     */
+    private int sparseCount;
+
+    /**
+     * Sorted high 32 bits of the container values.
+     */
+    private int[] highs = new int[INITIAL_CAPACITY];
+
+    /**
+     * Low 32 bits with flipped sign bit of each high part.
+     */
+    private RoaringIntSet[] lows = new RoaringIntSet[INITIAL_CAPACITY];
+
+    /**
+     * Count of used containers.
+     */
+    private int containersCount;
+
+    /**
+     * Count of values.
+     */
+    private int size;
+
+    /**
+     * Adds value to the set.
+     * @param value value that will be added.
+     * @return true if the set did not contain the value.
+     */
+    public boolean add(long value) {
+        int high = (int) (value >> 32);
+        int index = Arrays.binarySearch(highs, 0, containersCount, high);
+
+        boolean added = index >= 0 ? lows[index].add(lowBits(value)) : addSparse(value, high);
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    /**
+     * Checks is the value in the set.
+     * @param value value that will be checked.
+     * @return true if the set contains the value.
+     */
+    public boolean contains(long value) {
+        int index = Arrays.binarySearch(highs, 0, containersCount, (int) (value >> 32));
+
+        return index >= 0 ? lows[index].contains(lowBits(value))
+                : Arrays.binarySearch(sparse, 0, sparseCount, value) >= 0;
+    }
+
+    /**
+     * Gets count of values.
+     * @return size of the set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks is the set empty.
+     * @return true if the set has no values.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values. Containers are cleared
+     * and reused by the next dense high parts.
+     */
+    public void clear() {
+        for (int i = 0; i < containersCount; i++) {
+            lows[i].clear();
+        }
+        containersCount = 0;
+        sparseCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Performs the action for each value in ascending order.
+     * @param action action that will be performed.
+     */
+    public void forEach(LongConsumer action) {
+        int next = 0;
+        for (int i = 0; i < containersCount; i++) {
+            while (next < sparseCount && (int) (sparse[next] >> 32) < highs[i]) {
+                action.accept(sparse[next++]);
+            }
+            long high = (long) highs[i] << 32;
+            lows[i].forEach(low -> action.accept(high | ((low ^ Integer.MIN_VALUE) & 0xFFFFFFFFL)));
+        }
+        while (next < sparseCount) {
+            action.accept(sparse[next++]);
+        }
+    }
+
+    /**
+     * Returns values in ascending order
+     * in the same format as {@link java.util.AbstractCollection#toString()}.
+     * @return string representation.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(2 + size * 4).append('[');
+
+        forEach(value -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(value);
+        });
+
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Gets low 32 bits with flipped sign bit,
+     * so signed order of the result is unsigned order of low bits.
+     * @param value set value.
+     * @return low bits.
+     */
+    private static int lowBits(long value) {
+        return (int) value ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * Adds value of the high part without container.
+     * Moves values of the high part to a container
+     * when there are more than {@link #SPARSE_LIMIT} of them.
+     * @param value value that will be added.
+     * @param high high 32 bits of the value.
+     * @return true if the set did not contain the value.
+     */
+    private boolean addSparse(long value, int high) {
+        int index = Arrays.binarySearch(sparse, 0, sparseCount, value);
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+
+        if (sparseCount == sparse.length) {
+            sparse = Arrays.copyOf(sparse, sparse.length * 2);
+        }
+        System.arraycopy(sparse, index, sparse, index + 1, sparseCount - index);
+        sparse[index] = value;
+        sparseCount++;
+
+        int from = index;
+        while (from > 0 && (int) (sparse[from - 1] >> 32) == high) {
+            from--;
+        }
+        int to = index + 1;
+        while (to < sparseCount && (int) (sparse[to] >> 32) == high) {
+            to++;
+        }
+        if (to - from > SPARSE_LIMIT) {
+            moveToContainer(from, to, high);
+        }
+        return true;
+    }
+
+    /**
+     * Moves values of one high part from the sparse array to a container.
+     * @param from index of the first value.
+     * @param to index after the last value.
+     * @param high high 32 bits of the values.
+     */
+    private void moveToContainer(int from, int to, int high) {
+        int index = insertContainer(-Arrays.binarySearch(highs, 0, containersCount, high) - 1, high);
+        for (int i = from; i < to; i++) {
+            lows[index].add(lowBits(sparse[i]));
+        }
+        System.arraycopy(sparse, to, sparse, from, sparseCount - to);
+        sparseCount -= to - from;
+    }
+
+    /**
+     * Inserts empty container.
+     * @param index position of the container.
+     * @param high high 32 bits of container values.
+     * @return index of inserted container.
+     */
+    private int insertContainer(int index, int high) {
+        if (containersCount == highs.length) {
+            highs = Arrays.copyOf(highs, highs.length * 2);
+            lows = Arrays.copyOf(lows, lows.length * 2);
+        }
+
+        RoaringIntSet spare = lows[containersCount];
+        System.arraycopy(highs, index, highs, index + 1, containersCount - index);
+        System.arraycopy(lows, index, lows, index + 1, containersCount - index);
+        highs[index] = high;
+        lows[index] = spare != null ? spare : new RoaringIntSet();
+        containersCount++;
+
+        return index;
+    }
+}
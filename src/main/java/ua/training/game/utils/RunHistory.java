@@ -0,0 +1,334 @@
+package ua.training.game.utils;
+
+/**
+ * String of entered values kept up to date on every guess.
+ * Consecutive values are shown as one run, e.g. {@code [1..40, 57]}.
+ * In a game each accepted guess narrows the bounds, so guesses
+ * lower than the secret come in ascending order and are appended,
+ * greater ones come in descending order and are prepended.
+ * Each side keeps limited count of runs nearest to the secret,
+ * farther runs are shown as {@code ...}, so rendering takes
+ * the same time for any history size.
+ * A value that doesn't follow the game order marks the history
+ * as inconsistent, then the owner rebuilds it from the sorted values.
+ *
+ * @version 1.1 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class RunHistory {
+
+    /**
+     * Default count of runs kept on each side of the secret.
+     */
+    public static final int DEFAULT_MAX_RUNS = 16;
+
+    /**
+     * Shortest run shown as interval.
+     */
+    private static final int MIN_INTERVAL_LENGTH = 3;
+
+    /**
+     * Runs of values lower or equal to the secret.
+     */
+    private Runs lows;
+
+    /**
+     * Runs of values greater than the secret.
+     */
+    private Runs highs;
+
+    /**
+     * Count of added values.
+     */
+    private int count;
+
+    /**
+     * Do the runs match added values.
+     */
+    private boolean consistent = true;
+
+    /**
+     * Rendered history, null if it changed after rendering.
+     */
+    private String rendered;
+
+    /**
+     * Creates empty history.
+     * @param maxRuns count of runs kept on each side of the secret.
+     */
+    public RunHistory(int maxRuns) {
+        setMaxRuns(maxRuns);
+    }
+
+    /**
+     * Changes count of kept runs and clears the history.
+     * The cleared history is consistent, it is rebuilt by the owner
+     * because its count doesn't match the entered values.
+     * @param maxRuns count of runs kept on each side of the secret.
+     */
+    public void setMaxRuns(int maxRuns) {
+        if (maxRuns <= 0) {
+            throw new IllegalArgumentException("Max runs must be positive");
+        }
+        lows = new Runs(maxRuns);
+        highs = new Runs(maxRuns);
+        clear();
+    }
+
+    /**
+     * Adds next guess.
+     * @param value entered value, not entered before.
+     * @param low is the value lower or equal to the secret.
+     */
+    public void add(long value, boolean low) {
+        if ((!lows.isEmpty() && value <= lows.lastEnd())
+                || (!highs.isEmpty() && value >= highs.firstStart())) {
+            consistent = false;
+            return;
+        }
+
+        if (low) {
+            lows.addLast(value, true);
+        } else {
+            highs.addFirst(value);
+        }
+        count++;
+        rendered = null;
+    }
+
+    /**
+     * Adds value while rebuilding, values must be added in ascending order.
+     * @param value entered value.
+     * @param low is the value lower or equal to the secret.
+     */
+    public void addSorted(long value, boolean low) {
+        if (low) {
+            lows.addLast(value, true);
+        } else {
+            highs.addLast(value, false);
+        }
+        count++;
+        rendered = null;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        lows.clear();
+        highs.clear();
+        count = 0;
+        consistent = true;
+        rendered = null;
+    }
+
+    /**
+     * Checks do the runs show all the values.
+     * @param size count of entered values.
+     * @return false if the history must be rebuilt.
+     */
+    public boolean isCurrent(int size) {
+        return consistent && count == size;
+    }
+
+    /**
+     * Returns values in ascending order, runs of at least
+     * three consecutive values are shown as {@code first..last}.
+     * @return string representation.
+     */
+    @Override
+    public String toString() {
+        if (rendered != null) {
+            return rendered;
+        }
+
+        StringBuilder builder = new StringBuilder(2 + (lows.size + highs.size + 2) * 24).append('[');
+        if (lows.truncated) {
+            builder.append("...");
+        }
+
+        long pendingStart = 0;
+        long pendingEnd = 0;
+        boolean pending = false;
+        for (int i = 0; i < lows.size + highs.size; i++) {
+            Runs runs = i < lows.size ? lows : highs;
+            int index = i < lows.size ? i : i - lows.size;
+            long start = runs.start(index);
+            long end = runs.end(index);
+
+            if (pending && pendingEnd + 1 == start) {
+                pendingEnd = end;
+                continue;
+            }
+            if (pending) {
+                appendRun(builder, pendingStart, pendingEnd);
+            }
+            pendingStart = start;
+            pendingEnd = end;
+            pending = true;
+        }
+        if (pending) {
+            appendRun(builder, pendingStart, pendingEnd);
+        }
+
+        if (highs.truncated) {
+            builder.append(builder.length() > 1 ? ", ..." : "...");
+        }
+        rendered = builder.append(']').toString();
+        return rendered;
+    }
+
+    /**
+     * Appends run to the string.
+     * @param builder history string.
+     * @param start first value of the run.
+     * @param end last value of the run.
+     */
+    private static void appendRun(StringBuilder builder, long start, long end) {
+        if (builder.length() > 1) {
+            builder.append(", ");
+        }
+        builder.append(start);
+        if (end - start + 1 >= MIN_INTERVAL_LENGTH) {
+            builder.append("..").append(end);
+        } else if (end != start) {
+            builder.append(", ").append(end);
+        }
+    }
+
+    /**
+     * Bounded ring of sorted runs.
+     */
+    private static final class Runs {
+
+        /**
+         * First values of the runs.
+         */
+        private final long[] starts;
+
+        /**
+         * Last values of the runs.
+         */
+        private final long[] ends;
+
+        /**
+         * Ring index of the first run.
+         */
+        private int head;
+
+        /**
+         * Count of runs.
+         */
+        private int size;
+
+        /**
+         * Were runs dropped because of the limit.
+         */
+        private boolean truncated;
+
+        /**
+         * Creates empty ring.
+         * @param capacity max count of runs.
+         */
+        Runs(int capacity) {
+            starts = new long[capacity];
+            ends = new long[capacity];
+        }
+
+        /**
+         * Checks is the ring empty.
+         * @return true if there are no runs.
+         */
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Gets first value of the run.
+         * @param index run index from the first.
+         * @return first value.
+         */
+        long start(int index) {
+            return starts[(head + index) % starts.length];
+        }
+
+        /**
+         * Gets last value of the run.
+         * @param index run index from the first.
+         * @return last value.
+         */
+        long end(int index) {
+            return ends[(head + index) % ends.length];
+        }
+
+        /**
+         * Gets first value of the first run.
+         * @return lowest kept value.
+         */
+        long firstStart() {
+            return start(0);
+        }
+
+        /**
+         * Gets last value of the last run.
+         * @return highest kept value.
+         */
+        long lastEnd() {
+            return end(size - 1);
+        }
+
+        /**
+         * Adds value greater than all kept values.
+         * @param value added value.
+         * @param dropFirst drop the first run if the ring is full,
+         *                  otherwise the value is dropped.
+         */
+        void addLast(long value, boolean dropFirst) {
+            if (size > 0 && lastEnd() + 1 == value) {
+                ends[(head + size - 1) % ends.length] = value;
+                return;
+            }
+            if (size == starts.length) {
+                truncated = true;
+                if (!dropFirst) {
+                    return;
+                }
+                head = (head + 1) % starts.length;
+                size--;
+            }
+            int index = (head + size) % starts.length;
+            starts[index] = value;
+            ends[index] = value;
+            size++;
+        }
+
+        /**
+         * Adds value lower than all kept values,
+         * drops the last run if the ring is full.
+         * @param value added value.
+         */
+        void addFirst(long value) {
+            if (size > 0 && firstStart() - 1 == value) {
+                starts[head] = value;
+                return;
+            }
+            if (size == starts.length) {
+                truncated = true;
+                size--;
+            }
+            head = (head - 1 + starts.length) % starts.length;
+            starts[head] = value;
+            ends[head] = value;
+            size++;
+        }
+
+        /**
+         * Removes all runs.
+         */
+        void clear() {
+            head = 0;
+            size = 0;
+            truncated = false;
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package ua.training.game.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hashed timer wheel that runs many timeouts on one thread.
+ * Time is split into ticks, a timeout is put into the bucket
+ * of its deadline tick with the count of whole wheel rounds left,
+ * so scheduling and cancelling take constant time for any count
+ * of timeouts. Timeouts fire up to one tick late.
+ * Tasks run on the wheel thread and must be short.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class TimerWheel implements AutoCloseable {
+
+    /**
+     * Max count of timeouts moved into the wheel on one tick,
+     * so a burst of scheduling doesn't delay expiration.
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    /**
+     * Buckets of the wheel.
+     */
+    private final Bucket[] wheel;
+
+    /**
+     * Mask of the bucket index.
+     */
+    private final int mask;
+
+    /**
+     * Tick duration in nanoseconds.
+     */
+    private final long tickNanos;
+
+    /**
+     * Time of the wheel start.
+     */
+    private final long startTime = System.nanoTime();
+
+    /**
+     * Timeouts that are not in the wheel yet.
+     */
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Cancelled timeouts that are still in the wheel.
+     */
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Count of timeouts that are neither expired nor cancelled.
+     */
+    private final AtomicLong pending = new AtomicLong();
+
+    /**
+     * Thread that advances the wheel.
+     */
+    private final Thread worker;
+
+    /**
+     * Is the wheel running.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Count of passed ticks.
+     */
+    private long tick;
+
+    /**
+     * Creates wheel and starts its thread.
+     * @param tickMillis tick duration in milliseconds.
+     * @param wheelSize count of buckets, rounded up to a power of two.
+     */
+    public TimerWheel(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0 || wheelSize <= 0 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        if (wheelSize == 1) {
+            size = 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+
+        this.worker = new Thread(this::run, "timer-wheel");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules the task.
+     * @param task task that runs on the wheel thread.
+     * @param delay delay of the task.
+     * @param unit unit of the delay.
+     * @return timeout that can be cancelled.
+     * @throws IllegalStateException if the wheel is closed.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Timer wheel is closed");
+        }
+        Timeout timeout = new Timeout(this, task, System.nanoTime() - startTime + unit.toNanos(Math.max(0, delay)));
+        pending.incrementAndGet();
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Gets count of timeouts that are neither expired nor cancelled.
+     * @return pending timeouts count.
+     */
+    public long getPendingTimeouts() {
+        return pending.get();
+    }
+
+    /**
+     * Stops the wheel thread, pending timeouts never fire.
+     */
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * Advances the wheel tick by tick.
+     */
+    private void run() {
+        while (running) {
+            long deadline = (tick + 1) * tickNanos;
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+
+            removeCancelled();
+            transferScheduled();
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    /**
+     * Removes cancelled timeouts from their buckets.
+     */
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Puts scheduled timeouts into the buckets of their deadline ticks.
+     */
+    private void transferScheduled() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = scheduled.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() == Timeout.CANCELLED) {
+                continue;
+            }
+            long deadlineTick = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.remainingRounds = (deadlineTick - tick) / wheel.length;
+            wheel[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * Scheduled task that can be cancelled.
+     */
+    public static final class Timeout {
+
+        /**
+         * State of the scheduled timeout.
+         */
+        private static final int WAITING = 0;
+
+        /**
+         * State of the cancelled timeout.
+         */
+        private static final int CANCELLED = 1;
+
+        /**
+         * State of the fired timeout.
+         */
+        private static final int EXPIRED = 2;
+
+        /**
+         * Wheel of the timeout.
+         */
+        private final TimerWheel timerWheel;
+
+        /**
+         * Scheduled task.
+         */
+        private final Runnable task;
+
+        /**
+         * Deadline from the wheel start in nanoseconds.
+         */
+        private final long deadline;
+
+        /**
+         * Timeout state.
+         */
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        /**
+         * Count of wheel rounds before the deadline round.
+         */
+        private long remainingRounds;
+
+        /**
+         * Bucket of the timeout.
+         */
+        private Bucket bucket;
+
+        /**
+         * Previous timeout in the bucket.
+         */
+        private Timeout previous;
+
+        /**
+         * Next timeout in the bucket.
+         */
+        private Timeout next;
+
+        /**
+         * Creates timeout.
+         * @param timerWheel wheel of the timeout.
+         * @param task scheduled task.
+         * @param deadline deadline from the wheel start.
+         */
+        private Timeout(TimerWheel timerWheel, Runnable task, long deadline) {
+            this.timerWheel = timerWheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout.
+         * @return false if the timeout already fired or was cancelled.
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(WAITING, CANCELLED)) {
+                return false;
+            }
+            timerWheel.pending.decrementAndGet();
+            timerWheel.cancelled.add(this);
+            return true;
+        }
+
+        /**
+         * Checks did the timeout fire.
+         * @return true if the task was run.
+         */
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        /**
+         * Checks was the timeout cancelled.
+         * @return true if the timeout was cancelled.
+         */
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        /**
+         * Runs the task unless the timeout is cancelled.
+         */
+        private void expire() {
+            if (!state.compareAndSet(WAITING, EXPIRED)) {
+                return;
+            }
+            timerWheel.pending.decrementAndGet();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts of one tick.
+     */
+    private static final class Bucket {
+
+        /**
+         * First timeout.
+         */
+        private Timeout head;
+
+        /**
+         * Last timeout.
+         */
+        private Timeout tail;
+
+        /**
+         * Appends timeout.
+         * @param timeout added timeout.
+         */
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+            }
+            tail = timeout;
+        }
+
+        /**
+         * Fires timeouts of the current round.
+         * @param deadline time of the current tick end.
+         */
+        void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.state.get() == Timeout.CANCELLED) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        /**
+         * Removes timeout.
+         * @param timeout removed timeout.
+         */
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            } else {
+                tail = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package ua.training.game.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/**
+ * Collects all messages of one turn and sends
+ * them to the output by a single write.
+ * Alignment padding is appended from the
+ * precomputed spaces, encoding buffers are reused.
+ *
+ * @version 1.0 17 Oct 2026
+ * @author  Igor Klapatnjuk
+ */
+public final class TurnOutputBuffer {
+
+    /**
+     * Line separator of the platform, as in {@link java.io.PrintStream#println()}.
+     */
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /**
+     * Initial size of the encoded bytes buffer.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Messages of the current turn.
+     */
+    private final StringBuilder text = new StringBuilder(INITIAL_CAPACITY);
+
+    /**
+     * Encodes text to the output charset.
+     */
+    private final CharsetEncoder encoder;
+
+    /**
+     * Encoded bytes of the turn.
+     */
+    private ByteBuffer encoded = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+    /**
+     * Spaces that padding slices are taken from.
+     */
+    private char[] spaces = new char[0];
+
+    /**
+     * Creates buffer with specific output charset.
+     * @param charset charset of the output.
+     */
+    public TurnOutputBuffer(Charset charset) {
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Appends the message.
+     * @param message text that will be appended.
+     * @return this buffer.
+     */
+    public TurnOutputBuffer append(CharSequence message) {
+        text.append(message);
+        return this;
+    }
+
+    /**
+     * Appends the line separator.
+     * @return this buffer.
+     */
+    public TurnOutputBuffer newLine() {
+        text.append(LINE_SEPARATOR);
+        return this;
+    }
+
+    /**
+     * Appends spaces.
+     * @param count count of spaces, not positive count appends nothing.
+     * @return this buffer.
+     */
+    public TurnOutputBuffer appendPadding(int count) {
+        if (count <= 0) {
+            return this;
+        }
+        if (count > spaces.length) {
+            spaces = new char[Math.max(count, spaces.length * 2)];
+            Arrays.fill(spaces, ' ');
+        }
+        text.append(spaces, 0, count);
+        return this;
+    }
+
+    /**
+     * Checks is anything appended since the last write.
+     * @return true if buffer has no text.
+     */
+    public boolean isEmpty() {
+        return text.length() == 0;
+    }
+
+    /**
+     * Writes collected text by a single write,
+     * flushes the output and clears the buffer.
+     * @param out the output.
+     * @throws IOException if text can't be written.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (!isEmpty()) {
+            ByteBuffer bytes = encode();
+            out.write(bytes.array(), bytes.arrayOffset(), bytes.position());
+        }
+        out.flush();
+    }
+
+    /**
+     * Encodes collected text and clears it.
+     * @return buffer with encoded bytes from 0 to position.
+     */
+    public ByteBuffer encode() {
+        CharBuffer chars = CharBuffer.wrap(text);
+        encoder.reset();
+        encoded.clear();
+
+        CoderResult result = encoder.encode(chars, encoded, true);
+        while (result.isOverflow() || (result = encoder.flush(encoded)).isOverflow()) {
+            encoded = grow(encoded);
+            result = encoder.encode(chars, encoded, true);
+        }
+
+        text.setLength(0);
+        return encoded;
+    }
+
+    /**
+     * Doubles the buffer keeping written bytes.
+     * @param buffer full buffer.
+     * @return larger buffer.
+     */
+    private static ByteBuffer grow(ByteBuffer buffer) {
+        ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+}
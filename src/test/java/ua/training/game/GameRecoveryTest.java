@@ -0,0 +1,131 @@
+package ua.training.game;
+
+import org.junit.jupiter.api.Test;
+import ua.training.game.journal.GameJournal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRecoveryTest {
+
+    @Test
+    void recoversUnfinishedGamesAcrossSegments() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        try {
+            try (GameJournal journal = new GameJournal(directory, 64, 0)) {
+                GameEventListener won = journal.newSession();
+                GameEventListener playing = journal.newSession();
+
+                won.gameStarted(0, 100, 42);
+                playing.gameStarted(-5, 5, 3);
+                won.guessAccepted(42);
+                won.gameWon(1);
+                playing.guessAccepted(0);
+                playing.guessAccepted(4);
+            }
+
+            GameRecovery recovery = GameRecovery.recover(directory);
+            assertEquals(5, recovery.getRecords());
+            assertEquals(1, recovery.getLastSessionId());
+            assertEquals(1, recovery.getGames().size());
+
+            GuessTheNumberLongModel model = recovery.getGames().get(1L);
+            assertEquals(0, model.getLowerBound());
+            assertEquals(4, model.getUpperBound());
+            assertEquals(3, model.getSecretNumber());
+            assertEquals(2, model.getTries());
+            assertTrue(model.putEnteredNumberAndCheckVictory(3));
+
+            try (GameJournal journal = open(directory, 64, recovery)) {
+                journal.newSession().gameStarted(1, 2, 2);
+            }
+            assertEquals(1, countFiles(directory));
+            recovery = GameRecovery.recover(directory);
+            assertEquals(2, recovery.getLastSessionId());
+            assertEquals(1, recovery.getGames().size());
+            assertEquals(2, recovery.getGames().get(2L).getUpperBound());
+        } finally {
+            try (Stream<Path> files = Files.list(directory)) {
+                files.forEach(path -> path.toFile().delete());
+            }
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    void closesGamesOfClosedSessions() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        try {
+            try (GameJournal journal = new GameJournal(directory, 4096, GameJournal.SyncPolicy.EVERY_EVENT,
+                    0, Collections.emptyList())) {
+                GameEventListener left = journal.newSession();
+                left.gameStarted(0, 10, 7);
+                left.guessAccepted(3);
+                left.sessionClosed();
+
+                GameEventListener won = journal.newSession();
+                won.gameStarted(0, 10, 1);
+                won.guessAccepted(1);
+                won.gameWon(1);
+                won.sessionClosed();
+
+                journal.newSession().sessionClosed();
+                journal.newSession().gameStarted(0, 1, 1);
+            }
+
+            GameRecovery recovery = GameRecovery.recover(directory);
+            assertEquals(7, recovery.getRecords());
+            assertEquals(3, recovery.getLastSessionId());
+            assertEquals(Collections.singleton(3L), recovery.getGames().keySet());
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    void deletesSegmentsOfEndedSessions() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        try {
+            try (GameJournal journal = new GameJournal(directory, 64, 0)) {
+                GameEventListener first = journal.newSession();
+                first.gameStarted(0, 10, 5);
+                for (int i = 0; i < 4; i++) {
+                    GameEventListener session = journal.newSession();
+                    session.gameStarted(0, 10, 5);
+                    session.sessionClosed();
+                }
+                assertEquals(5, countFiles(directory));
+
+                first.guessAccepted(5);
+                first.gameWon(1);
+                assertEquals(1, countFiles(directory));
+            }
+            assertTrue(GameRecovery.recover(directory).getGames().isEmpty());
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static GameJournal open(Path directory, int segmentSize, GameRecovery recovery) throws IOException {
+        return new GameJournal(directory, segmentSize, GameJournal.SyncPolicy.GROUP_COMMIT,
+                recovery.getLastSessionId() + 1, recovery.getGames().keySet());
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> path.toFile().delete());
+        }
+        Files.delete(directory);
+    }
+}
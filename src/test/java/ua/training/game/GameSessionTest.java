@@ -0,0 +1,95 @@
+package ua.training.game;
+
+import org.junit.jupiter.api.Test;
+import ua.training.game.random.SplittableRandomSource;
+import ua.training.game.utils.ResourceBundleManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionTest {
+
+    private static final String[] LINES = {"", "x", "1", "0", "100", "200", "50", "50", "25", "75", "12", "88"};
+
+    @Test
+    void showsSameDialogAsController() {
+        StringBuilder input = new StringBuilder();
+        for (String line : LINES) {
+            input.append(line).append('\n');
+        }
+        for (int guess = 1; guess <= 100; guess++) {
+            input.append(guess).append('\n');
+        }
+
+        ByteArrayOutputStream controllerOutput = new ByteArrayOutputStream();
+        GuessTheNumberView controllerView = new GuessTheNumberView(
+                new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.US_ASCII)),
+                controllerOutput, ResourceBundleManager.INSTANCE, 80);
+        new GuessTheNumberController(new GuessTheNumberModel(new SplittableRandomSource(7)),
+                controllerView).execute();
+
+        ByteArrayOutputStream sessionOutput = new ByteArrayOutputStream();
+        GameSession session = new GameSession(new GuessTheNumberModel(new SplittableRandomSource(7)),
+                new GuessTheNumberView(sessionOutput, ResourceBundleManager.INSTANCE, 80),
+                GameEventListener.NONE);
+        session.start();
+        for (String line : input.toString().split("\n")) {
+            if (session.isFinished()) {
+                break;
+            }
+            byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+            session.acceptLine(bytes, 0, bytes.length);
+        }
+
+        assertTrue(session.isFinished());
+        assertEquals(controllerOutput.toString(), sessionOutput.toString());
+    }
+
+    @Test
+    void treatsLineWithSeveralTokensAsWrongInput() {
+        GameSession session = new GameSession(new GuessTheNumberModel(),
+                new GuessTheNumberView(new ByteArrayOutputStream(), ResourceBundleManager.INSTANCE, 80),
+                GameEventListener.NONE);
+        session.start();
+        accept(session, "");
+        accept(session, "1 2");
+        assertEquals(GameSession.State.AWAIT_MIN, session.getState());
+        accept(session, " 1 ");
+        assertEquals(GameSession.State.AWAIT_MAX, session.getState());
+        accept(session, "1");
+        assertEquals(GameSession.State.GUESSING, session.getState());
+        accept(session, "1");
+        assertTrue(session.isFinished());
+        assertThrows(IllegalStateException.class, () -> accept(session, "1"));
+    }
+
+    @Test
+    void stepReturnsAwaitedState() {
+        GameSession session = new GameSession(new GuessTheNumberModel(new SplittableRandomSource(7)),
+                new GuessTheNumberView(new ByteArrayOutputStream(), ResourceBundleManager.INSTANCE, 80),
+                GameEventListener.NONE);
+        assertThrows(IllegalStateException.class, () -> session.step(1));
+        assertEquals(GameSession.State.AWAIT_START, session.start());
+        assertEquals(GameSession.State.AWAIT_MIN, session.step("any"));
+        assertEquals(GameSession.State.AWAIT_MIN, session.stepNotANumber());
+        assertEquals(GameSession.State.AWAIT_MIN, session.step("1 2"));
+        assertEquals(GameSession.State.AWAIT_MAX, session.step(" 10 "));
+        assertEquals(GameSession.State.AWAIT_MAX, session.step(5));
+        assertEquals(GameSession.State.GUESSING, session.step(20));
+
+        GameSession.State state = GameSession.State.GUESSING;
+        for (long guess = 10; state == GameSession.State.GUESSING; guess++) {
+            state = session.step(guess);
+        }
+        assertEquals(GameSession.State.DONE, state);
+        assertThrows(IllegalStateException.class, session::stepNotANumber);
+    }
+
+    private static void accept(GameSession session, String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+        session.acceptLine(bytes, 0, bytes.length);
+    }
+}
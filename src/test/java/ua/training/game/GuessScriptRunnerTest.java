@@ -0,0 +1,66 @@
+package ua.training.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuessScriptRunnerTest {
+
+    @Test
+    void replaysScriptByControllerRules() throws IOException {
+        Path script = Files.createTempFile("script", ".txt");
+        Path results = Files.createTempFile("results", ".csv");
+        try {
+            Files.write(script, ("# comment\n"
+                    + "0 100 42 50 50 x 200 25 42 7\n"
+                    + "\n"
+                    + "1 10 3 5 4\n"
+                    + "10 1 5 5\n"
+                    + "7 x 9\n"
+                    + "2 3\n"
+                    + "-9223372036854775808 9223372036854775807 -1 -1").getBytes(StandardCharsets.US_ASCII));
+
+            assertEquals(6, new GuessScriptRunner().run(script, results));
+
+            List<String> lines = Files.readAllLines(results, StandardCharsets.US_ASCII);
+            assertEquals(GuessScriptRunner.HEADER.trim(), lines.get(0));
+            assertEquals("1,0,100,42,3,1,1,1,1,WON", lines.get(1));
+            assertEquals("2,1,10,3,2,0,0,0,0,UNFINISHED", lines.get(2));
+            assertEquals("3,10,1,5,0,0,0,0,1,INVALID", lines.get(3));
+            assertEquals("4,7,0,9,0,0,0,0,0,MALFORMED", lines.get(4));
+            assertEquals("5,2,3,0,0,0,0,0,0,MALFORMED", lines.get(5));
+            assertEquals("6,-9223372036854775808,9223372036854775807,-1,1,0,0,0,0,WON", lines.get(6));
+        } finally {
+            Files.delete(script);
+            Files.delete(results);
+        }
+    }
+
+    @Test
+    void commentStartsOnlyAtFirstSymbolOfLine() throws IOException {
+        Path script = Files.createTempFile("script", ".txt");
+        Path results = Files.createTempFile("results", ".csv");
+        try {
+            Files.write(script, ("1# note\n"
+                    + "5 10 7 7\n"
+                    + "  # indented comment\n"
+                    + "1 10 5 5 # after guesses\n").getBytes(StandardCharsets.US_ASCII));
+
+            assertEquals(3, new GuessScriptRunner().run(script, results));
+
+            List<String> lines = Files.readAllLines(results, StandardCharsets.US_ASCII);
+            assertEquals("1,0,0,0,0,0,0,0,0,MALFORMED", lines.get(1));
+            assertEquals("2,5,10,7,1,0,0,0,0,WON", lines.get(2));
+            assertEquals("3,1,10,5,1,0,0,0,3,WON", lines.get(3));
+        } finally {
+            Files.delete(script);
+            Files.delete(results);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package ua.training.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ua.training.game.random.SeededRandomSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuessTheNumberLongModelTest {
+
+    private GuessTheNumberLongModel model;
+    private long minBound = Long.MIN_VALUE;
+    private long maxBound = Long.MAX_VALUE;
+
+    @BeforeEach
+    void init() {
+        model = new GuessTheNumberLongModel(minBound, maxBound, new SeededRandomSource(1));
+    }
+
+    @Test
+    void createGuessingNumber() {
+        model.createGuessingNumber();
+        assertTrue(model.isInBounds(model.getSecretNumber()));
+    }
+
+    @Test
+    void putEnteredNumberAndCheckVictory() {
+        model.setGuessesNumber(1L << 40);
+        assertFalse(model.putEnteredNumberAndCheckVictory(1L << 50));
+        assertEquals(1L << 50, model.getMaxBound());
+        assertFalse(model.putEnteredNumberAndCheckVictory(-(1L << 50)));
+        assertEquals(-(1L << 50), model.getMinBound());
+        assertTrue(model.putEnteredNumberAndCheckVictory(1L << 40));
+        assertEquals(3, model.getTries());
+    }
+
+    @Test
+    void isRepeatedEntered() {
+        model.setGuessesNumber(0);
+        model.putEnteredNumberAndCheckVictory(Long.MAX_VALUE);
+        model.putEnteredNumberAndCheckVictory(Long.MIN_VALUE);
+        assertTrue(model.isRepeatedEntered(Long.MAX_VALUE));
+        assertTrue(model.isRepeatedEntered(Long.MIN_VALUE));
+        assertFalse(model.isRepeatedEntered((long) Integer.MAX_VALUE));
+        assertEquals("[-9223372036854775808, 9223372036854775807]",
+                model.getPreviouslyEnteredNumbersString());
+    }
+
+    @Test
+    void intModelRejectsLongValues() {
+        GuessTheNumberModel intModel = new GuessTheNumberModel();
+        assertFalse(intModel.isRepresentable(1L << 40));
+        assertFalse(intModel.checkMaxBound(1L << 40));
+        assertFalse(intModel.isInBounds(1L << 40));
+    }
+
+    @Test
+    void resetRejectsBoundsLikeIntModel() {
+        GuessTheNumberModel intModel = new GuessTheNumberModel();
+        assertThrows(IllegalArgumentException.class, () -> intModel.reset(5, 5));
+        assertThrows(IllegalArgumentException.class, () -> model.reset(5, 5));
+        assertThrows(IllegalArgumentException.class, () -> model.reset(6, 5));
+        model.reset(4, 5);
+        assertEquals(4, model.getMinBound());
+        assertEquals(5, model.getMaxBound());
+    }
+}
@@ -76,4 +76,20 @@ class GuessTheNumberModelTest {
         model.putEnteredNumberAndCheckVictory(70);
         assertTrue(model.isLastInputValueGreaterThanGuess());
     }
-}
\ No newline at end of file
+
+    @Test
+    void previouslyEnteredNumbersString() {
+        model.setGuessesNumber(50);
+        for (int i = 1; i <= 40; i++) {
+            model.putEnteredNumberAndCheckVictory(i);
+        }
+        model.putEnteredNumberAndCheckVictory(57);
+        assertEquals("[1..40, 57]", model.getPreviouslyEnteredNumbersString());
+
+        model.getPreviouslyEnteredNumbers().add(-5);
+        assertEquals("[-5, 1..40, 57]", model.getPreviouslyEnteredNumbersString());
+
+        model.setHistoryLimit(1);
+        assertEquals("[..., 1..40, 57]", model.getPreviouslyEnteredNumbersString());
+    }
+}
@@ -0,0 +1,29 @@
+package ua.training.game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuessTheNumberSimulatorTest {
+
+    private GuessTheNumberSimulator simulator = new GuessTheNumberSimulator();
+    private long games = 100_000;
+
+    @Test
+    void binarySearchIsOptimal() {
+        SimulationReport report = simulator.run(games, 0, 100, GuessingStrategies.BINARY_SEARCH, 1);
+
+        assertEquals(games, report.getGames());
+        assertTrue(report.getMaxTries() <= 7);
+    }
+
+    @Test
+    void everyStrategyFinishesGames() {
+        for (GuessingStrategies strategy : GuessingStrategies.values()) {
+            SimulationReport report = simulator.run(games, Integer.MIN_VALUE, Integer.MAX_VALUE, strategy, 1);
+
+            assertEquals(games, report.getGames());
+            assertTrue(report.getMeanTries() >= 1);
+        }
+    }
+}
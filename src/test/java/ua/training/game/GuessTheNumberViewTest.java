@@ -0,0 +1,63 @@
+package ua.training.game;
+
+import org.junit.jupiter.api.Test;
+import ua.training.game.utils.ResourceBundleManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ua.training.game.GuessTheNumberView.AlignPolicy.*;
+
+class GuessTheNumberViewTest {
+
+    @Test
+    void dialogKeyIndexFollowsDialogValues() throws IOException {
+        List<String> keys = new ArrayList<>();
+        for (String line : Files.readAllLines(Paths.get("src/build/resources/dialogs.keys"), StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty() && !line.trim().startsWith("#")) {
+                keys.add(line.trim());
+            }
+        }
+
+        List<String> constants = new ArrayList<>();
+        for (GuessTheNumberView.DialogValue value : GuessTheNumberView.DialogValue.values()) {
+            constants.add(value.name());
+        }
+        assertEquals(constants, keys);
+    }
+
+    @Test
+    void padsMessagesByAlignPolicy() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GuessTheNumberView view = new GuessTheNumberView(out, ResourceBundleManager.INSTANCE, 10);
+
+        view.printMessageLn("abcd", LEFT);
+        view.printMessageLn("abcd", CENTER);
+        view.printMessageLn("abcd", RIGHT);
+        view.printMessageLn("abcdefghijkl", RIGHT);
+        view.printMessage("ab", CENTER);
+        view.flush();
+
+        String separator = System.lineSeparator();
+        assertEquals("abcd" + separator + "   abcd" + separator + "      abcd" + separator
+                + "abcdefghijkl" + separator + "    ab", new String(out.toByteArray()));
+    }
+
+    @Test
+    void keyPressSkipsOnlyCurrentLine() {
+        ByteArrayInputStream in = new ByteArrayInputStream("any key 7\n15 20\n".getBytes(StandardCharsets.US_ASCII));
+        GuessTheNumberView view = new GuessTheNumberView(in, new ByteArrayOutputStream(),
+                ResourceBundleManager.INSTANCE, 10);
+
+        view.waitKeyPress();
+        assertTrue(view.readNumber());
+        assertEquals(15, view.getReadNumber());
+    }
+}
@@ -0,0 +1,92 @@
+package ua.training.game;
+
+import org.junit.jupiter.api.Test;
+import ua.training.game.random.SeededRandomSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Snapshots saved by released versions must be restored by
+ * every later version, so golden bytes here are never changed.
+ */
+class ModelSnapshotTest {
+
+    private static final byte[] INT_MODEL_V1 = {
+            1, 0, 0x4A, 0x64, 0x54, 0x4A, 3, 0x32, 0x0B, 0x0C
+    };
+
+    private static final byte[] LONG_MODEL_V1 = {
+            1, 1,
+            (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+            (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01,
+            (byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+            (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01,
+            0, 2, 1,
+            (byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+            (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01
+    };
+
+    @Test
+    void savesIntModelInVersionOneFormat() {
+        GuessTheNumberModel model = new GuessTheNumberModel(0, 100);
+        model.setGuessesNumber(42);
+        model.putEnteredNumberAndCheckVictory(50);
+        model.putEnteredNumberAndCheckVictory(25);
+        model.putEnteredNumberAndCheckVictory(37);
+
+        assertArrayEquals(INT_MODEL_V1, ModelSnapshot.save(model));
+    }
+
+    @Test
+    void restoresIntModelVersionOne() {
+        GuessTheNumberModel model = (GuessTheNumberModel) ModelSnapshot.restore(INT_MODEL_V1);
+
+        assertEquals(37, model.getMinBound());
+        assertEquals(50, model.getMaxBound());
+        assertEquals(42, model.getGuessesNumber());
+        assertEquals(37, model.getLastEnteredNumber());
+        assertEquals("[25, 37, 50]", model.getPreviouslyEnteredNumbersString());
+        assertEquals(3, model.getTries());
+        assertTrue(model.putEnteredNumberAndCheckVictory(42));
+    }
+
+    @Test
+    void restoresLongModelVersionOne() {
+        GuessTheNumberLongModel model = (GuessTheNumberLongModel) ModelSnapshot.restore(LONG_MODEL_V1);
+
+        assertEquals(Long.MIN_VALUE, model.getMinBound());
+        assertEquals(Long.MAX_VALUE, model.getMaxBound());
+        assertEquals(0, model.getSecretNumber());
+        assertEquals(1, model.getLastGuess());
+        assertEquals("[9223372036854775807]", model.getPreviouslyEnteredNumbersString());
+        assertArrayEquals(LONG_MODEL_V1, ModelSnapshot.save(model));
+    }
+
+    @Test
+    void roundTripsLargeHistory() {
+        GuessTheNumberLongModel model = new GuessTheNumberLongModel();
+        model.setGuessesNumber(0);
+        SeededRandomSource random = new SeededRandomSource(7);
+        for (int i = 0; i < 10_000; i++) {
+            model.getPreviouslyEnteredNumbers().add(random.nextLong());
+        }
+
+        byte[] snapshot = ModelSnapshot.save(model);
+        AbstractGuessTheNumberModel restored = ModelSnapshot.restore(snapshot);
+
+        assertEquals(model.getPreviouslyEnteredNumbersString(), restored.getPreviouslyEnteredNumbersString());
+        assertArrayEquals(snapshot, ModelSnapshot.save(restored));
+    }
+
+    @Test
+    void rejectsUnknownVersionAndCorruptedData() {
+        byte[] nextVersion = INT_MODEL_V1.clone();
+        nextVersion[0] = 2;
+
+        assertThrows(IllegalArgumentException.class, () -> ModelSnapshot.restore(nextVersion));
+        assertThrows(IllegalArgumentException.class, () -> ModelSnapshot.restore(
+                java.util.Arrays.copyOf(INT_MODEL_V1, INT_MODEL_V1.length - 1)));
+        assertThrows(IllegalArgumentException.class, () -> ModelSnapshot.restore(
+                java.util.Arrays.copyOf(INT_MODEL_V1, INT_MODEL_V1.length + 1)));
+    }
+}
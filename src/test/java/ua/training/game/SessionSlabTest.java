@@ -0,0 +1,93 @@
+package ua.training.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionSlabTest {
+
+    @Test
+    void matchesLongModel() {
+        SplittableRandom random = new SplittableRandom(11);
+        int sessions = 64;
+        SessionSlab slab = new SessionSlab(sessions);
+        GuessTheNumberLongModel[] models = new GuessTheNumberLongModel[sessions];
+
+        for (int round = 0; round < 3; round++) {
+            for (int session = 0; session < sessions; session++) {
+                long min = random.nextLong(-50, 50);
+                long max = min + random.nextLong(1, 100);
+                long secret = random.nextLong(min, max + 1);
+                models[session] = new GuessTheNumberLongModel();
+                models[session].reset(min, max);
+                models[session].setGuessesNumber(secret);
+                slab.start(session, min, max, secret);
+            }
+
+            for (int step = 0; step < 10_000; step++) {
+                int session = random.nextInt(sessions);
+                GuessTheNumberLongModel model = models[session];
+                long value = random.nextLong(-200, 200);
+
+                assertEquals(model.isInBounds(value), slab.isInBounds(session, value));
+                assertEquals(model.isRepeatedEntered(value), slab.isRepeatedEntered(session, value));
+                assertEquals(model.validateGuess(value), slab.validateGuess(session, value));
+                if (random.nextInt(8) == 0 || model.validateGuess(value) == GuessValidation.VALID) {
+                    assertEquals(model.putEnteredNumberAndCheckVictory(value),
+                            slab.putEnteredNumberAndCheckVictory(session, value));
+                }
+
+                assertEquals(model.getLowerBound(), slab.getLowerBound(session));
+                assertEquals(model.getUpperBound(), slab.getUpperBound(session));
+                assertEquals(model.getLastGuess(), slab.getLastGuess(session));
+                assertEquals(model.getTries(), slab.getTries(session));
+                assertEquals(model.isLastInputValueGreaterThanGuess(), slab.isLastInputValueGreaterThanGuess(session));
+            }
+        }
+    }
+
+    @Test
+    void reusesHistoryOfRestartedSessions() {
+        SessionSlab slab = new SessionSlab(2);
+        slab.start(0, 0, 1_000_000, 1_000_000);
+        for (int value = 0; value < 200_000; value++) {
+            assertFalse(slab.putEnteredNumberAndCheckVictory(0, value));
+        }
+        long reserved = slab.getOffHeapBytes();
+
+        slab.start(0, 0, 10, 10);
+        slab.start(1, 0, 1_000_000, 1_000_000);
+        for (int value = 0; value < 200_000; value++) {
+            slab.putEnteredNumberAndCheckVictory(1, value);
+        }
+        assertEquals(reserved, slab.getOffHeapBytes());
+
+        Set<Long> entered = new HashSet<>();
+        slab.forEachEntered(1, entered::add);
+        assertEquals(200_000, entered.size());
+        assertEquals(0, slab.getTries(0));
+    }
+
+    @Test
+    void rejectsUnknownSessions() {
+        SessionSlab slab = new SessionSlab(1);
+        assertFalse(slab.isStarted(0));
+        assertThrows(IllegalStateException.class, () -> slab.putEnteredNumberAndCheckVictory(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> slab.start(1, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> slab.start(0, 0, 1, 2));
+
+        List<Long> entered = new ArrayList<>();
+        slab.start(0, 0, 10, 5);
+        slab.putEnteredNumberAndCheckVictory(0, 2);
+        slab.putEnteredNumberAndCheckVictory(0, 8);
+        slab.forEachEntered(0, entered::add);
+        assertEquals(8L, (long) entered.get(0));
+        assertEquals(2L, (long) entered.get(1));
+    }
+}
@@ -0,0 +1,85 @@
+package ua.training.game.leaderboard;
+
+import org.junit.jupiter.api.Test;
+import ua.training.game.GameEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    @Test
+    void keepsBestNormalizedResults() {
+        Leaderboard board = new Leaderboard(2, 1);
+
+        assertTrue(board.submit(10, 0, 100));
+        assertTrue(board.submit(7, 0, 1_000_000));
+        assertTrue(board.submit(7, 0, 100));
+        assertFalse(board.submit(20, 0, 100));
+
+        List<LeaderboardEntry> top = board.getTop();
+        assertEquals(2, top.size());
+        assertEquals(1_000_000, top.get(0).getMaxBound());
+        assertEquals(100, top.get(1).getMaxBound());
+        assertEquals(1.0, top.get(1).getScore());
+    }
+
+    @Test
+    void concurrentSubmitsKeepExactTop() throws InterruptedException {
+        Leaderboard board = new Leaderboard(10, 8);
+        List<Integer> allTries = Collections.synchronizedList(new ArrayList<>());
+        Thread[] threads = new Thread[8];
+
+        for (int t = 0; t < threads.length; t++) {
+            SplittableRandom random = new SplittableRandom(t);
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    int tries = random.nextInt(1, 1_000_000);
+                    allTries.add(tries);
+                    board.submit(tries, 0, 100);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Collections.sort(allTries);
+        List<LeaderboardEntry> top = board.getTop();
+        assertEquals(10, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals((int) allTries.get(i), top.get(i).getTries());
+        }
+    }
+
+    @Test
+    void countsBitsOfRangeSize() {
+        assertEquals(1, LeaderboardEntry.rangeBits(5, 5));
+        assertEquals(4, LeaderboardEntry.rangeBits(0, 7));
+        assertEquals(4, LeaderboardEntry.rangeBits(0, 8));
+        assertEquals(64, LeaderboardEntry.rangeBits(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(64, LeaderboardEntry.rangeBits(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    void boardsByRangeBits() {
+        GameLeaderboards boards = new GameLeaderboards(3, 2);
+        GameEventListener session = boards.newSession();
+        session.gameStarted(0, 7, 3);
+        session.gameWon(4);
+        GameEventListener notStarted = boards.newSession();
+        notStarted.gameWon(1);
+        boards.submit(40, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        assertEquals(2, boards.getGlobal().getTop().size());
+        assertEquals(4, boards.getRange(4).getTop().get(0).getTries());
+        assertEquals(1.0, boards.getRange(4).getTop().get(0).getScore());
+        assertEquals(40, boards.getRange(64).getTop().get(0).getTries());
+        assertEquals(1, boards.getRangeTop(64).length);
+    }
+}
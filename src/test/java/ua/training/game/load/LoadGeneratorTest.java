@@ -0,0 +1,70 @@
+package ua.training.game.load;
+
+import org.junit.jupiter.api.Test;
+import ua.training.game.GameEventListener;
+import ua.training.game.server.NioGameServer;
+import ua.training.game.utils.ResourceBundleManager;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    @Test
+    void playsPipedGamesInClosedLoop() throws Exception {
+        LoadGenerator generator = new LoadGenerator(LoadTransport.piped(ResourceBundleManager.INSTANCE, 80),
+                ResourceBundleManager.INSTANCE, 0, 1_000_000);
+
+        LoadReport report = generator.runClosedLoop(8, 200, 0);
+
+        assertEquals(200, report.getGames());
+        assertEquals(0, report.getErrors());
+        assertTrue(report.getTurns() >= 200 && report.getTurns() <= 200 * 20, report.toString());
+        assertTrue(report.getTurnLatencyP50() <= report.getTurnLatencyP99());
+        assertTrue(report.getTurnLatencyP99() <= report.getTurnLatencyP999());
+        assertTrue(report.getTurnLatencyP999() <= report.getTurnLatencyMax());
+    }
+
+    @Test
+    void playsSocketGamesInOpenLoop() throws Exception {
+        try (NioGameServer server = new NioGameServer(0, 64, 2,
+                ResourceBundleManager.INSTANCE, 80, () -> GameEventListener.NONE)) {
+            Thread acceptor = new Thread(server::serve);
+            acceptor.setDaemon(true);
+            acceptor.start();
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+            LoadGenerator generator = new LoadGenerator(LoadTransport.socket(address, 5000),
+                    ResourceBundleManager.INSTANCE, 1, 100);
+
+            LoadReport report = generator.runOpenLoop(4, 500, 100, 0);
+
+            assertEquals(100, report.getGames());
+            assertEquals(0, report.getErrors());
+            assertTrue(report.getTurns() >= 100 && report.getTurns() <= 100 * 7, report.toString());
+        }
+    }
+
+    @Test
+    void writesJsonReport() throws Exception {
+        LoadGenerator generator = new LoadGenerator(LoadTransport.piped(ResourceBundleManager.INSTANCE, 80),
+                ResourceBundleManager.INSTANCE, 1, 1);
+        LoadReport report = generator.runClosedLoop(1, 3, 0);
+        Path file = Files.createTempFile("load", ".json");
+        try {
+            report.writeTo(file);
+            String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            assertTrue(json.contains("\"mode\":\"closed\""), json);
+            assertTrue(json.contains("\"games\":3"), json);
+            assertTrue(json.contains("\"turns\":3"), json);
+            assertTrue(json.contains("\"turnLatencyMicros\":{\"mean\":"), json);
+            assertTrue(json.contains("\"p999\":"), json);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package ua.training.game.metrics;
+
+import org.junit.jupiter.api.Test;
+import ua.training.game.GameEventListener;
+import ua.training.game.GuessTheNumberController;
+import ua.training.game.GuessTheNumberModel;
+import ua.training.game.GuessTheNumberView;
+import ua.training.game.utils.ResourceBundleManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMetricsTest {
+
+    @Test
+    void recordsControllerEvents() {
+        GameMetrics metrics = new GameMetrics();
+        GameEventListener session = metrics.newSession();
+        GuessTheNumberView view = new GuessTheNumberView(
+                new ByteArrayInputStream("\n5\n5\nx\n7\n5\n".getBytes(StandardCharsets.US_ASCII)),
+                new ByteArrayOutputStream(), ResourceBundleManager.INSTANCE, 80);
+
+        new GuessTheNumberController(new GuessTheNumberModel(), view, session).execute();
+        assertEquals(1, metrics.getActiveSessions());
+        session.sessionClosed();
+
+        assertEquals(0, metrics.getActiveSessions());
+        assertEquals(1, metrics.getGamesStarted());
+        assertEquals(1, metrics.getGamesWon());
+        assertEquals(1, metrics.getGuessesAccepted());
+        assertEquals(1, metrics.getRejectedNotANumber());
+        assertEquals(1, metrics.getRejectedOutOfBounds());
+        assertEquals(0, metrics.getRejectedRepeated());
+        assertEquals(1, metrics.getTriesP99());
+        assertEquals(5, metrics.getTurnLatency().getCount());
+        assertEquals(5, metrics.getResponseLatency().getCount());
+    }
+}
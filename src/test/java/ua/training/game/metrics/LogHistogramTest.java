@@ -0,0 +1,36 @@
+package ua.training.game.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogHistogramTest {
+
+    @Test
+    void bucketsCoverAllValues() {
+        long previousHighest = -1;
+        for (int index = 0; index <= LogHistogram.bucketIndex(Long.MAX_VALUE); index++) {
+            long highest = LogHistogram.bucketHighestValue(index);
+            assertEquals(index, LogHistogram.bucketIndex(previousHighest + 1));
+            assertEquals(index, LogHistogram.bucketIndex(highest));
+            previousHighest = highest;
+        }
+        assertEquals(Long.MAX_VALUE, previousHighest);
+    }
+
+    @Test
+    void quantilesAreWithinBucketError() {
+        LogHistogram histogram = new LogHistogram();
+        for (int value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(50_000.5, histogram.getMean(), 1e-9);
+        assertEquals(100_000, histogram.getMax());
+        assertEquals(50_000, histogram.getValueAtQuantile(0.5), 50_000 / 8.0);
+        assertEquals(99_000, histogram.getValueAtQuantile(0.99), 99_000 / 8.0);
+        assertEquals(100_000, histogram.getValueAtQuantile(1));
+        assertEquals(1, histogram.getValueAtQuantile(0));
+    }
+}
@@ -0,0 +1,61 @@
+package ua.training.game.random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomSourceTest {
+
+    private int koef = 100;
+
+    @Test
+    void seededSourceReplaysSequence() {
+        SeededRandomSource source = new SeededRandomSource(42);
+        long[] values = new long[koef];
+
+        for (int i = 0; i < koef; i++) {
+            values[i] = source.nextLong(-1000, 1000);
+        }
+
+        source.reset();
+        for (int i = 0; i < koef; i++) {
+            assertEquals(values[i], source.nextLong(-1000, 1000));
+        }
+    }
+
+    @Test
+    void fullIntRange() {
+        RandomSource source = new SplittableRandomSource(1);
+        boolean negative = false;
+        boolean positive = false;
+
+        for (int i = 0; i < koef; i++) {
+            int value = source.nextInt(Integer.MIN_VALUE, Integer.MAX_VALUE);
+            negative |= value < 0;
+            positive |= value > 0;
+        }
+
+        assertTrue(negative && positive);
+    }
+
+    @Test
+    void valuesInBounds() {
+        RandomSource source = ThreadLocalRandomSource.INSTANCE;
+
+        for (int i = 0; i < koef; i++) {
+            long value = source.nextLong(Long.MIN_VALUE + 1, Long.MAX_VALUE);
+            assertTrue(value > Long.MIN_VALUE);
+
+            value = source.nextLong(-5, Long.MAX_VALUE);
+            assertTrue(value >= -5);
+
+            assertEquals(7, source.nextInt(7, 7));
+        }
+    }
+
+    @Test
+    void wrongBounds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ThreadLocalRandomSource.INSTANCE.nextLong(1, 0));
+    }
+}
@@ -0,0 +1,109 @@
+package ua.training.game.room;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRoomTest {
+
+    @Test
+    void narrowsSharedInterval() {
+        GameRoom room = new GameRoom(0, 100, 40);
+
+        assertEquals(RoomGuess.OUT_OF_BOUNDS, room.guess(1, 101));
+        assertEquals(RoomGuess.TOO_LOW, room.guess(1, 10));
+        assertEquals(RoomGuess.REPEATED, room.guess(2, 10));
+        assertEquals(RoomGuess.OUT_OF_BOUNDS, room.guess(2, 9));
+        assertEquals(RoomGuess.TOO_HIGH, room.guess(2, 41));
+        assertEquals(RoomGuess.REPEATED, room.guess(1, 41));
+        assertEquals(10, room.getLowerBound());
+        assertEquals(41, room.getUpperBound());
+        assertEquals("[10, 41]", room.getPreviouslyEnteredNumbersString());
+
+        assertEquals(RoomGuess.WON, room.guess(2, 40));
+        assertEquals(RoomGuess.TOO_LATE, room.guess(1, 40));
+        assertEquals(RoomGuess.TOO_LATE, room.guess(1, 20));
+        assertEquals(2, room.getWinner());
+        assertEquals(3, room.getTries());
+        assertEquals(1, room.getPlayer(10));
+    }
+
+    @Test
+    void keepsInitialBoundsInRange() {
+        GameRoom room = new GameRoom(0, 10, 0);
+        assertEquals(RoomGuess.OUT_OF_BOUNDS, room.guess(1, -1));
+        assertEquals(RoomGuess.OUT_OF_BOUNDS, room.guess(1, 11));
+        assertEquals(RoomGuess.TOO_HIGH, room.guess(1, 1));
+        assertEquals(0, room.getLowerBound());
+        assertEquals(1, room.getUpperBound());
+        assertEquals(RoomGuess.WON, room.guess(1, 0));
+
+        GameRoom fullRange = new GameRoom(Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertEquals(RoomGuess.TOO_LOW, fullRange.guess(1, Integer.MAX_VALUE - 1));
+        assertEquals(Integer.MAX_VALUE, fullRange.getUpperBound());
+        assertEquals(RoomGuess.WON, fullRange.guess(1, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void decidesSingleWinnerAmongConcurrentPlayers() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            GameRoom room = new GameRoom(0, 100_000, 31_337 + round);
+            int players = 8;
+            List<Map<RoomGuess, Integer>> results = new ArrayList<>();
+            AtomicInteger failures = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+
+            for (int player = 0; player < players; player++) {
+                Map<RoomGuess, Integer> counts = new EnumMap<>(RoomGuess.class);
+                results.add(counts);
+                long id = player;
+                SplittableRandom random = new SplittableRandom(player * 31L + round);
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        while (!room.isFinished()) {
+                            int low = room.getLowerBound();
+                            int high = room.getUpperBound();
+                            int value = low + random.nextInt(high - low + 1);
+                            counts.merge(room.guess(id, value), 1, Integer::sum);
+                        }
+                    } catch (InterruptedException | RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            int won = 0;
+            int accepted = 0;
+            for (Map<RoomGuess, Integer> counts : results) {
+                won += counts.getOrDefault(RoomGuess.WON, 0);
+                accepted += counts.getOrDefault(RoomGuess.TOO_LOW, 0) + counts.getOrDefault(RoomGuess.TOO_HIGH, 0);
+            }
+            assertEquals(0, failures.get());
+            assertEquals(1, won);
+            assertEquals(accepted + 1, room.getTries());
+
+            int[] entered = room.getEnteredNumbers();
+            for (int i = 1; i < entered.length; i++) {
+                assertTrue(entered[i - 1] < entered[i]);
+            }
+            assertTrue(room.getLowerBound() <= room.getSecretNumber());
+            assertTrue(room.getUpperBound() >= room.getSecretNumber());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package ua.training.game.server;
+
+import org.junit.jupiter.api.Test;
+import ua.training.game.utils.ResourceBundleManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServerTest {
+
+    private static final byte[] GAME;
+
+    static {
+        StringBuilder input = new StringBuilder("\n1\n10\n");
+        for (int guess = 1; guess <= 10; guess++) {
+            input.append(guess).append('\n');
+        }
+        GAME = input.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void playsGameOverSocket() throws Exception {
+        try (GameServer server = new GameServer(0, 4, ResourceBundleManager.INSTANCE, 80)) {
+            startAcceptor(server);
+
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+                socket.setSoTimeout(5000);
+                socket.getOutputStream().write(GAME);
+                String reply = readAll(socket.getInputStream());
+                assertTrue(reply.contains("Congratulations!"), reply);
+            }
+        }
+    }
+
+    @Test
+    void limitsConcurrentSessions() throws Exception {
+        try (GameServer server = new GameServer(0, 1, ResourceBundleManager.INSTANCE, 80)) {
+            startAcceptor(server);
+
+            try (Socket first = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                 Socket second = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+                first.setSoTimeout(5000);
+                assertTrue(first.getInputStream().read() >= 0);
+                assertEquals(1, server.getActiveSessions());
+
+                second.setSoTimeout(300);
+                assertThrows(SocketTimeoutException.class, () -> second.getInputStream().read());
+
+                first.getOutputStream().write(GAME);
+                assertTrue(readAll(first.getInputStream()).contains("Congratulations!"));
+
+                second.setSoTimeout(5000);
+                second.getOutputStream().write(GAME);
+                String reply = readAll(second.getInputStream());
+                assertTrue(reply.contains("Congratulations!"), reply);
+            }
+        }
+    }
+
+    private static void startAcceptor(GameServer server) {
+        Thread acceptor = new Thread(server::serve);
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private static String readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int count;
+        while ((count = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, count);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,129 @@
+package ua.training.game.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ua.training.game.GameService;
+import ua.training.game.InMemoryGameStore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpGameServerTest {
+
+    private ExecutorService executor;
+
+    private HttpGameServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        executor = Executors.newFixedThreadPool(2);
+        server = new HttpGameServer(0, new GameService(new InMemoryGameStore()), executor);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void playsGame() throws IOException {
+        Response created = request("POST", "/games?min=1&max=3");
+        assertEquals(201, created.status);
+        assertTrue(created.body.startsWith("{\"id\":1,\"status\":\"PLAYING\",\"lowerBound\":1,\"upperBound\":3,"
+                + "\"tries\":0,\"history\":[],\"lastGuess\":null,\"lastGuessGreater\":null}"), created.body);
+
+        Response outOfBounds = request("POST", "/games/1/guesses?value=7");
+        assertEquals(200, outOfBounds.status);
+        assertTrue(outOfBounds.body.endsWith("\"result\":\"OUT_OF_BOUNDS\"}"), outOfBounds.body);
+
+        for (int value = 1; value <= 3; value++) {
+            Response guessed = request("POST", "/games/1/guesses?value=" + value);
+            assertEquals(200, guessed.status);
+            if (guessed.body.contains("\"status\":\"WON\"")) {
+                assertTrue(guessed.body.contains("\"secret\":" + value + ",\"result\":\"VALID\""), guessed.body);
+                assertEquals(409, request("POST", "/games/1/guesses?value=" + value).status);
+                Response state = request("GET", "/games/1");
+                assertTrue(state.body.contains("\"tries\":" + value + ",\"history\":[[1," + value + "]]"), state.body);
+                return;
+            }
+        }
+        fail("The number is not guessed");
+    }
+
+    @Test
+    void rejectsBadRequests() throws IOException {
+        assertEquals(400, request("POST", "/games?min=5&max=1").status);
+        assertEquals(400, request("POST", "/games?min=5&max=5").status);
+        assertEquals(400, request("POST", "/games?min=x&max=1").status);
+        assertEquals(400, request("POST", "/games").status);
+        assertEquals(404, request("GET", "/games/9").status);
+        assertEquals(404, request("GET", "/games/abc").status);
+        assertEquals(405, request("GET", "/games").status);
+
+        assertEquals(201, request("POST", "/games?max=1&min=0").status);
+        assertEquals(400, request("POST", "/games/1/guesses").status);
+        assertEquals(204, request("DELETE", "/games/1").status);
+        assertEquals(404, request("POST", "/games/1/guesses?value=0").status);
+    }
+
+    @Test
+    void playsRoom() throws IOException {
+        Response created = request("POST", "/rooms?min=5&max=5");
+        assertEquals(201, created.status);
+        assertEquals("{\"id\":1,\"status\":\"PLAYING\",\"lowerBound\":5,\"upperBound\":5,"
+                + "\"tries\":0,\"history\":[],\"winner\":null}", created.body);
+
+        Response won = request("POST", "/rooms/1/guesses?player=7&value=5");
+        assertEquals(200, won.status);
+        assertTrue(won.body.endsWith("\"winner\":7,\"result\":\"WON\"}"), won.body);
+        assertTrue(request("POST", "/rooms/1/guesses?player=8&value=5").body.endsWith("\"result\":\"TOO_LATE\"}"));
+
+        assertEquals(400, request("POST", "/rooms/1/guesses?player=8&value=3000000000").status);
+        assertEquals(400, request("POST", "/rooms?min=0&max=3000000000").status);
+        assertEquals(404, request("GET", "/rooms/2").status);
+        assertEquals(404, request("GET", "/roomsx").status);
+        assertEquals(204, request("DELETE", "/rooms/1").status);
+        assertEquals(404, request("GET", "/rooms/1").status);
+    }
+
+    private Response request(String method, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection)
+                new URL("http://localhost:" + server.getPort() + path).openConnection();
+        connection.setRequestMethod(method);
+        int status = connection.getResponseCode();
+        InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        if (in != null) {
+            byte[] buffer = new byte[1024];
+            int count;
+            while ((count = in.read(buffer)) >= 0) {
+                body.write(buffer, 0, count);
+            }
+            in.close();
+        }
+        return new Response(status, new String(body.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private static final class Response {
+
+        private final int status;
+
+        private final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package ua.training.game.server;
+
+import org.junit.jupiter.api.Test;
+import ua.training.game.GameEventListener;
+import ua.training.game.metrics.GameMetrics;
+import ua.training.game.utils.ResourceBundleManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NioGameServerTest {
+
+    private static final int CLIENTS = 200;
+
+    @Test
+    void playsManyConcurrentSessions() throws Exception {
+        GameMetrics metrics = new GameMetrics();
+        try (NioGameServer server = new NioGameServer(0, CLIENTS, 2,
+                ResourceBundleManager.INSTANCE, 80, () -> metrics.newSession())) {
+            Thread acceptor = new Thread(server::serve);
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            StringBuilder input = new StringBuilder("\n1\n10\n");
+            for (int guess = 1; guess <= 10; guess++) {
+                input.append(guess).append('\n');
+            }
+            byte[] request = input.toString().getBytes(StandardCharsets.US_ASCII);
+
+            List<Socket> sockets = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                socket.setSoTimeout(5000);
+                socket.getOutputStream().write(request);
+                sockets.add(socket);
+            }
+
+            for (Socket socket : sockets) {
+                try (Socket s = socket) {
+                    String reply = readAll(s.getInputStream());
+                    assertTrue(reply.contains("Congratulations!"), reply);
+                }
+            }
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (metrics.getActiveSessions() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, metrics.getActiveSessions());
+            assertEquals(CLIENTS, metrics.getGamesWon());
+        }
+    }
+
+    @Test
+    void rejectsOverlongLines() throws Exception {
+        try (NioGameServer server = new NioGameServer(0, 1, 1,
+                ResourceBundleManager.INSTANCE, 80, () -> GameEventListener.NONE)) {
+            Thread acceptor = new Thread(server::serve);
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            StringBuilder input = new StringBuilder("\n");
+            for (int i = 0; i < 1000; i++) {
+                input.append('1');
+            }
+            input.append("\r\n5\r\n5\r\n5\r\n");
+
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+                socket.setSoTimeout(5000);
+                socket.getOutputStream().write(input.toString().getBytes(StandardCharsets.US_ASCII));
+                String reply = readAll(socket.getInputStream());
+                assertTrue(reply.contains("Wrong input"), reply);
+                assertTrue(reply.contains("Congratulations! You guessed the number 5."), reply);
+            }
+        }
+    }
+
+    private static String readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int count;
+        while ((count = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, count);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,165 @@
+package ua.training.game.store;
+
+import org.junit.jupiter.api.Test;
+import ua.training.game.GameService;
+import ua.training.game.GuessValidation;
+import ua.training.game.utils.JsonWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpillingGameStoreTest {
+
+    @Test
+    void reloadsEvictedGames() throws IOException {
+        Path file = Files.createTempFile("games", ".spill");
+        try (SpillingGameStore store = new SpillingGameStore(file, 2, 60_000)) {
+            GameService service = new GameService(store);
+            JsonWriter json = new JsonWriter();
+            service.create(0, 1_000_000_000, json);
+            service.guess(1, -5, json.reset());
+            service.guess(1, 0, json.reset());
+            service.state(1, json.reset());
+            String state = json.toString();
+            service.create(0, 10, json.reset());
+            service.create(0, 10, json.reset());
+
+            assertEquals(1, store.getEvictions());
+            assertEquals(1, store.getSpilledGames());
+            assertEquals(2, store.getResidentGames());
+            assertEquals(3, store.size());
+
+            service.state(1, json.reset());
+            assertEquals(state, json.toString());
+            assertEquals(1, store.getMisses());
+            assertEquals(2, store.getEvictions());
+            assertEquals(GuessValidation.REPEATED, service.guess(1, 0, json.reset()));
+
+            assertTrue(service.remove(2));
+            assertFalse(service.remove(2));
+            assertEquals(2, store.size());
+        }
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void spillsIdleGames() throws IOException {
+        AtomicLong now = new AtomicLong();
+        try (SpillingGameStore store = new SpillingGameStore(Files.createTempFile("games", ".spill"), 10, 1000, now::get)) {
+            GameService service = new GameService(store);
+            JsonWriter json = new JsonWriter();
+            service.create(0, 10, json);
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+            service.create(0, 10, json.reset());
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+            store.spillIdle();
+
+            assertEquals(1, store.getExpirations());
+            assertEquals(1, store.getResidentGames());
+            assertTrue(service.state(1, json.reset()));
+            assertEquals(1, store.getMisses());
+        }
+    }
+
+    @Test
+    void compactsSpillFile() throws Exception {
+        try (SpillingGameStore store = new SpillingGameStore(Files.createTempFile("games", ".spill"), 1, 60_000)) {
+            GameService service = new GameService(store);
+            JsonWriter json = new JsonWriter();
+            service.create(0, 1_000_000, json);
+            service.create(0, 1_000_000, json.reset());
+
+            for (int i = 0; i < 200_000; i++) {
+                assertTrue(service.state(1 + i % 2, json.reset()));
+            }
+            store.awaitCompaction();
+            assertTrue(store.getSpillFileSize() < 3 << 19, "Spill file size " + store.getSpillFileSize());
+            assertEquals(2, store.size());
+        }
+    }
+
+    @Test
+    void keepsConcurrentGuesses() throws Exception {
+        int games = 8;
+        int guesses = 300;
+        try (SpillingGameStore store = new SpillingGameStore(Files.createTempFile("games", ".spill"), 2, 60_000)) {
+            GameService service = new GameService(store);
+            for (int game = 0; game < games; game++) {
+                service.create(-1_000_000_000_000L, 1_000_000_000_000L, new JsonWriter());
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(games);
+            List<Future<?>> results = new ArrayList<>();
+            for (int game = 1; game <= games; game++) {
+                long id = game;
+                results.add(executor.submit(() -> {
+                    JsonWriter json = new JsonWriter();
+                    for (int guess = 0; guess < guesses; guess++) {
+                        long value = guess % 2 == 0 ? -1_000_000_000_000L + guess : 1_000_000_000_000L - guess;
+                        assertEquals(GuessValidation.VALID, service.guess(id, value, json.reset()));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            executor.shutdown();
+
+            JsonWriter json = new JsonWriter();
+            for (int game = 1; game <= games; game++) {
+                service.state(game, json.reset());
+                assertTrue(json.toString().contains("\"tries\":" + guesses), json.toString());
+            }
+            assertTrue(store.getEvictions() > 0);
+        }
+    }
+
+    @Test
+    void keepsGuessesWhileCompacting() throws Exception {
+        int games = 4;
+        int guesses = 3000;
+        Path file = Files.createTempFile("games", ".spill");
+        try (SpillingGameStore store = new SpillingGameStore(file, 1, 60_000)) {
+            GameService service = new GameService(store);
+            for (int game = 0; game < games; game++) {
+                service.create(0, 1_000_000_000L, new JsonWriter());
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(games);
+            List<Future<?>> results = new ArrayList<>();
+            for (int game = 1; game <= games; game++) {
+                long id = game;
+                results.add(executor.submit(() -> {
+                    JsonWriter json = new JsonWriter();
+                    for (int guess = 0; guess < guesses; guess++) {
+                        assertEquals(GuessValidation.VALID, service.guess(id, guess * 2 + 1, json.reset()));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            executor.shutdown();
+            store.awaitCompaction();
+
+            JsonWriter json = new JsonWriter();
+            for (int game = 1; game <= games; game++) {
+                service.state(game, json.reset());
+                assertTrue(json.toString().contains("\"tries\":" + guesses), json.toString());
+            }
+            assertTrue(store.getSpillFileSize() < 3 << 19, "Spill file size " + store.getSpillFileSize());
+        }
+        assertFalse(Files.exists(file));
+        assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".compact")));
+    }
+}
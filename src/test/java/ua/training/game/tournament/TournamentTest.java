@@ -0,0 +1,116 @@
+package ua.training.game.tournament;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ua.training.game.GuessingStrategies;
+import ua.training.game.random.SplittableRandomSource;
+import ua.training.game.utils.TimerWheel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+    private final TimerWheel wheel = new TimerWheel(1, 512);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+
+    @AfterEach
+    void close() {
+        wheel.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void promptPlayersWinWithoutForfeits() throws Exception {
+        List<TournamentPlayer> players = Collections.nCopies(1000,
+                TournamentPlayer.of(GuessingStrategies.BINARY_SEARCH, new SplittableRandomSource(1)));
+
+        Tournament tournament = newTournament(1000, 10_000);
+        RoundResult result = tournament.playRound(players, 0, 1_000_000).get(10, TimeUnit.SECONDS);
+
+        assertEquals(1, result.getRound());
+        assertEquals(1000, result.getWinners());
+        assertEquals(0, result.getForfeits());
+        int tries = result.getResults().get(0).getTries();
+        for (PlayerResult player : result.getResults()) {
+            assertTrue(player.isWon());
+            assertEquals(tries, player.getTries());
+        }
+        assertTrue(tries <= 20);
+    }
+
+    @Test
+    void stalledPlayerForfeitsTurnsAndTimesOut() throws Exception {
+        TournamentPlayer prompt = TournamentPlayer.of(GuessingStrategies.RANDOM, new SplittableRandomSource(2));
+        TournamentPlayer stalled = turn -> { };
+
+        Tournament tournament = newTournament(20, 300);
+        RoundResult result = tournament.playRound(Arrays.asList(prompt, stalled), 0, 100)
+                .get(10, TimeUnit.SECONDS);
+
+        PlayerResult winner = result.getResults().get(0);
+        PlayerResult loser = result.getResults().get(1);
+        assertTrue(winner.isWon());
+        assertFalse(loser.isWon());
+        assertEquals(0, loser.getTries());
+        assertTrue(loser.getForfeits() >= 5);
+        assertTrue(loser.getElapsedMillis() >= 300);
+        assertEquals(1, result.getWinners());
+    }
+
+    @Test
+    void ignoresLateAndInvalidAnswers() throws Exception {
+        AtomicReference<Turn> firstTurn = new AtomicReference<>();
+        List<TournamentPlayer> players = new ArrayList<>();
+        players.add(turn -> {
+            if (turn.getNumber() == 1) {
+                firstTurn.set(turn);
+            } else if (turn.getNumber() == 2) {
+                assertTrue(turn.answer(turn.getHigh() + 1));
+            } else {
+                turn.answer(GuessingStrategies.BINARY_SEARCH.nextGuess(turn.getLow(), turn.getHigh(), null));
+            }
+        });
+
+        Tournament tournament = newTournament(100, 10_000);
+        RoundResult result = tournament.playRound(players, 0, 100).get(10, TimeUnit.SECONDS);
+
+        assertFalse(firstTurn.get().answer(50));
+        PlayerResult player = result.getResults().get(0);
+        assertTrue(player.isWon());
+        assertEquals(2, player.getForfeits());
+    }
+
+    @Test
+    void reusesSlabsOfFinishedRounds() throws Exception {
+        List<TournamentPlayer> players = Collections.nCopies(100,
+                TournamentPlayer.of(GuessingStrategies.BINARY_SEARCH, new SplittableRandomSource(3)));
+
+        Tournament tournament = newTournament(1000, 10_000);
+        RoundResult first = tournament.playRound(players, 0, 1000).get(10, TimeUnit.SECONDS);
+        int slabs = tournament.getCreatedSlabs();
+        RoundResult second = tournament.playRound(players, 0, 1000).get(10, TimeUnit.SECONDS);
+
+        assertEquals(100, first.getWinners());
+        assertEquals(100, second.getWinners());
+        assertEquals(2, second.getRound());
+        assertEquals(slabs, tournament.getCreatedSlabs());
+        for (PlayerResult player : second.getResults()) {
+            assertTrue(player.getTries() <= 10);
+        }
+    }
+
+    private Tournament newTournament(long turnTimeoutMillis, long gameTimeoutMillis) {
+        return new Tournament(wheel, executor, turnTimeoutMillis, gameTimeoutMillis, new SplittableRandomSource(7));
+    }
+}
@@ -0,0 +1,103 @@
+package ua.training.game.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncOutputStreamTest {
+
+    @Test
+    void sendsAllBytesInOrder() throws IOException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        StringBuilder expected = new StringBuilder();
+
+        try (OutputStream out = new AsyncOutputStream(target, 7, executor)) {
+            for (int i = 0; i < 1000; i++) {
+                String turn = "turn " + i + '\n';
+                expected.append(turn);
+                out.write(turn.getBytes());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(expected.toString(), target.toString());
+    }
+
+    @Test
+    void drainsSingleBytesAndArraysInWriteOrder() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch released = new CountDownLatch(1);
+        ByteArrayOutputStream target = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] bytes, int offset, int length) {
+                try {
+                    released.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.write(bytes, offset, length);
+            }
+        };
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+
+        try (OutputStream out = new AsyncOutputStream(target, 5, executor)) {
+            Thread writer = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 200; i++) {
+                        out.write('a' + i % 26);
+                        out.write(new byte[] {'0', (byte) ('0' + i % 10)});
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            for (int i = 0; i < 200; i++) {
+                expected.write('a' + i % 26);
+                expected.write(new byte[] {'0', (byte) ('0' + i % 10)});
+            }
+
+            writer.start();
+            writer.join(100);
+            assertTrue(writer.isAlive());
+            released.countDown();
+            writer.join(10_000);
+            assertFalse(writer.isAlive());
+        } finally {
+            executor.shutdown();
+        }
+
+        assertArrayEquals(expected.toByteArray(), target.toByteArray());
+    }
+
+    @Test
+    void reportsWriterFailure() throws IOException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        AsyncOutputStream out = new AsyncOutputStream(failing, 4, executor);
+        try {
+            assertThrows(IOException.class, () -> {
+                for (int i = 0; i < 100; i++) {
+                    out.write(new byte[] {1, 2, 3});
+                }
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
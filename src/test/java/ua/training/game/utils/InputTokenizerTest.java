@@ -0,0 +1,74 @@
+package ua.training.game.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputTokenizerTest {
+
+    private InputTokenizer tokenizer(String input) {
+        return new InputTokenizer(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void readsNumbers() {
+        InputTokenizer tokenizer = tokenizer("42 -7\n+13\t0");
+
+        assertTrue(tokenizer.nextNumber());
+        assertEquals(42, tokenizer.getValue());
+        assertTrue(tokenizer.nextNumber());
+        assertEquals(-7, tokenizer.getValue());
+        assertTrue(tokenizer.nextNumber());
+        assertEquals(13, tokenizer.getValue());
+        assertTrue(tokenizer.nextNumber());
+        assertEquals(0, tokenizer.getValue());
+        assertThrows(NoSuchElementException.class, tokenizer::nextNumber);
+    }
+
+    @Test
+    void rejectsInvalidTokens() {
+        InputTokenizer tokenizer = tokenizer("abc + - 1-2 +-3 12a 5");
+
+        for (int i = 0; i < 6; i++) {
+            assertFalse(tokenizer.nextNumber());
+        }
+        assertTrue(tokenizer.nextNumber());
+        assertEquals(5, tokenizer.getValue());
+    }
+
+    @Test
+    void rejectsTokenWithMultibyteSymbol() {
+        InputTokenizer tokenizer = new InputTokenizer(new ByteArrayInputStream(
+                "12\u04443 7\u00a08".getBytes(StandardCharsets.UTF_8)));
+
+        assertFalse(tokenizer.nextNumber());
+        assertFalse(tokenizer.nextNumber());
+        assertThrows(NoSuchElementException.class, tokenizer::nextNumber);
+    }
+
+    @Test
+    void detectsOverflow() {
+        InputTokenizer tokenizer = tokenizer(
+                "9223372036854775807 -9223372036854775808 9223372036854775808 -9223372036854775809");
+
+        assertTrue(tokenizer.nextNumber());
+        assertEquals(Long.MAX_VALUE, tokenizer.getValue());
+        assertTrue(tokenizer.nextNumber());
+        assertEquals(Long.MIN_VALUE, tokenizer.getValue());
+        assertFalse(tokenizer.nextNumber());
+        assertFalse(tokenizer.nextNumber());
+    }
+
+    @Test
+    void skipLine() {
+        InputTokenizer tokenizer = tokenizer("anything here\n15");
+
+        tokenizer.skipLine();
+        assertTrue(tokenizer.nextNumber());
+        assertEquals(15, tokenizer.getValue());
+    }
+}
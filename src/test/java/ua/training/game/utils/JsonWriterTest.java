@@ -0,0 +1,67 @@
+package ua.training.game.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonWriterTest {
+
+    @Test
+    void writesNestedDocument() {
+        JsonWriter json = new JsonWriter();
+        json.beginObject()
+                .name("id").value(42)
+                .name("min").value(Long.MIN_VALUE)
+                .name("max").value(Long.MAX_VALUE)
+                .name("zero").value(0)
+                .name("won").value(true)
+                .name("last").nullValue()
+                .name("values").beginArray().value(-1).value("a").beginObject().endObject().endArray()
+                .endObject();
+
+        assertEquals("{\"id\":42,\"min\":-9223372036854775808,\"max\":9223372036854775807,"
+                + "\"zero\":0,\"won\":true,\"last\":null,\"values\":[-1,\"a\",{}]}", json.toString());
+    }
+
+    @Test
+    void writesRunsOfSortedValues() {
+        JsonWriter json = new JsonWriter();
+        json.beginObject().name("history").beginRuns();
+        for (long value : new long[] {Long.MIN_VALUE, -1, 0, 1, 2, 57, 59, 60, Long.MAX_VALUE}) {
+            json.runValue(value);
+        }
+        json.endRuns().name("empty").beginRuns().endRuns().endObject();
+
+        assertEquals("{\"history\":[[-9223372036854775808,-9223372036854775808],[-1,2],[57,57],[59,60],"
+                + "[9223372036854775807,9223372036854775807]],\"empty\":[]}", json.toString());
+    }
+
+    @Test
+    void escapesStrings() throws IOException {
+        JsonWriter json = new JsonWriter();
+        json.value("q\"b\\n\n\u0001 é€😀");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.writeTo(out);
+        assertEquals("\"q\\\"b\\\\n\\u000a\\u0001 é€😀\"",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(out.size(), json.size());
+    }
+
+    @Test
+    void reusesBufferAfterReset() {
+        JsonWriter json = new JsonWriter();
+        StringBuilder longText = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            longText.append('x');
+        }
+        json.value(longText.toString());
+        json.reset().beginObject().name("a").value(1).endObject();
+
+        assertEquals("{\"a\":1}", json.toString());
+    }
+}
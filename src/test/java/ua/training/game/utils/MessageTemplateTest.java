@@ -0,0 +1,40 @@
+package ua.training.game.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageTemplateTest {
+
+    @Test
+    void rendersLikeStringFormat() {
+        String pattern = "Previous tries: %s | Interval: [%s, %s] | Last result: %s";
+        MessageTemplate template = MessageTemplate.compile(pattern);
+
+        assertEquals(4, template.getArgumentsCount());
+        assertEquals(String.format(pattern, "[1]", "1", "10", "None"),
+                template.format("[1]", "1", "10", "None"));
+    }
+
+    @Test
+    void constantIsPreRendered() {
+        MessageTemplate template = MessageTemplate.compile("100%% sure");
+
+        assertTrue(template.isConstant());
+        assertSame(template.format(), template.format());
+        assertEquals("100% sure", template.format());
+    }
+
+    @Test
+    void appendsToBuffer() {
+        StringBuilder out = new StringBuilder(">");
+        MessageTemplate.compile("Tries: %s").render(out, "3");
+        assertEquals(">Tries: 3", out.toString());
+    }
+
+    @Test
+    void rejectsUnsupportedPattern() {
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("%d"));
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("%s").format());
+    }
+}
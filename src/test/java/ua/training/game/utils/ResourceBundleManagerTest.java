@@ -0,0 +1,87 @@
+package ua.training.game.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceBundleManagerTest {
+
+    @Test
+    void generatedResourcesMatchBundleFile() {
+        ResourceBundle bundle = PropertyResourceBundle.getBundle("dialogs", Locale.ROOT);
+        LocaleResources resources = ResourceBundleManager.INSTANCE.forLocale(Locale.ROOT);
+
+        assertEquals(bundle.keySet().size(), GeneratedDialogs.KEYS.length);
+        for (String key : bundle.keySet()) {
+            assertEquals(bundle.getString(key), resources.getString(key), key);
+        }
+    }
+
+    @Test
+    void findsTemplatesByKeyIndex() {
+        LocaleResources resources = ResourceBundleManager.INSTANCE.forLocale(Locale.ROOT);
+
+        for (int i = 0; i < GeneratedDialogs.KEYS.length; i++) {
+            String key = GeneratedDialogs.KEYS[i];
+            assertSame(resources.getTemplate(key), resources.getTemplate(i, key), key);
+        }
+        assertSame(resources.getTemplate("RESULT"), resources.getTemplate(0, "RESULT"));
+    }
+
+    @Test
+    void sharesOneInstanceOfEachLocale() throws Exception {
+        Locale locale = new Locale("uk", "UA", "shared");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<LocaleResources>> loads = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                loads.add(executor.submit(() -> ResourceBundleManager.INSTANCE.forLocale(locale)));
+            }
+            LocaleResources shared = loads.get(0).get();
+            for (Future<LocaleResources> load : loads) {
+                assertSame(shared, load.get());
+            }
+
+            assertEquals(locale, shared.getLocale());
+            assertSame(shared, shared.forLocale(locale));
+            assertSame(ResourceBundleManager.INSTANCE.forLocale(Locale.ROOT), shared.forLocale(Locale.ROOT));
+            assertEquals("START!", shared.getString("START_GAME"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void loadsLocaleAddedAtRuntimeFromFile() throws IOException {
+        Path directory = Files.createTempDirectory("dialogs");
+        Path file = directory.resolve("dialogs_fr.properties");
+        Files.write(file, "START_GAME = COMMENCEZ!\n".getBytes(StandardCharsets.ISO_8859_1));
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {directory.toUri().toURL()},
+                ResourceBundleManager.class.getClassLoader())) {
+            LocaleResources french = ResourceBundleManager.INSTANCE.load(Locale.FRANCE, loader);
+            LocaleResources german = ResourceBundleManager.INSTANCE.load(Locale.GERMAN, loader);
+
+            assertEquals("COMMENCEZ!", french.getString("START_GAME"));
+            assertEquals("Tries: %s", french.getString("RESULT"));
+            assertEquals("START!", german.getString("START_GAME"));
+        } finally {
+            Files.delete(file);
+            Files.delete(directory);
+        }
+    }
+}
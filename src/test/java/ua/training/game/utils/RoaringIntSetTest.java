@@ -0,0 +1,73 @@
+package ua.training.game.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoaringIntSetTest {
+
+    private RoaringIntSet set;
+
+    @BeforeEach
+    void init() {
+        set = new RoaringIntSet();
+    }
+
+    @Test
+    void addAndContains() {
+        assertTrue(set.add(80));
+        assertFalse(set.add(80));
+        assertTrue(set.contains(80));
+        assertFalse(set.contains(79));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void keepsSignedOrder() {
+        set.add(Integer.MAX_VALUE);
+        set.add(0);
+        set.add(-1);
+        set.add(Integer.MIN_VALUE);
+        set.add(65536);
+        assertEquals("[-2147483648, -1, 0, 65536, 2147483647]", set.toString());
+    }
+
+    @Test
+    void denseContainerConversion() {
+        for (int i = 0; i < 10_000; i += 2) {
+            assertTrue(set.add(i));
+        }
+        assertEquals(5000, set.size());
+        assertTrue(set.contains(9998));
+        assertFalse(set.contains(9999));
+        assertFalse(set.add(4096));
+    }
+
+    @Test
+    void matchesTreeSet() {
+        Random random = new Random(7);
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(200_000) - 100_000;
+            assertEquals(expected.add(value), set.add(value));
+        }
+
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected.toString(), set.toString());
+    }
+
+    @Test
+    void clear() {
+        set.add(1);
+        set.add(100_000);
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(1));
+        assertEquals("[]", set.toString());
+    }
+}
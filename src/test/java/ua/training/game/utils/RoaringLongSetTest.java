@@ -0,0 +1,56 @@
+package ua.training.game.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoaringLongSetTest {
+
+    @Test
+    void keepsSignedOrderOfSparseAndDenseParts() {
+        RoaringLongSet set = new RoaringLongSet();
+        TreeSet<Long> expected = new TreeSet<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 20_000; i++) {
+            long value = i % 2 == 0 ? random.nextLong() : ((long) random.nextInt(4) << 32) - random.nextInt(500);
+            assertEquals(expected.add(value), set.add(value));
+        }
+        assertTrue(set.add(Long.MIN_VALUE));
+        assertTrue(set.add(Long.MAX_VALUE));
+        expected.add(Long.MIN_VALUE);
+        expected.add(Long.MAX_VALUE);
+
+        List<Long> values = new ArrayList<>();
+        set.forEach(values::add);
+        assertEquals(new ArrayList<>(expected), values);
+        assertEquals(expected.size(), set.size());
+        for (int i = 0; i < 1000; i++) {
+            long value = random.nextLong();
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+    }
+
+    @Test
+    void movesCrowdedHighPartToContainer() {
+        RoaringLongSet set = new RoaringLongSet();
+        long high = 5L << 32;
+        for (int i = 0; i <= RoaringLongSet.SPARSE_LIMIT; i++) {
+            assertTrue(set.add(high + i));
+        }
+        assertFalse(set.add(high + 3));
+        assertTrue(set.contains(high + RoaringLongSet.SPARSE_LIMIT));
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(high));
+        set.add(-1);
+        set.add(high);
+        assertEquals("[-1, " + high + "]", set.toString());
+    }
+}
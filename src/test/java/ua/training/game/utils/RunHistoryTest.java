@@ -0,0 +1,64 @@
+package ua.training.game.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunHistoryTest {
+
+    @Test
+    void collapsesConsecutiveValues() {
+        RunHistory history = new RunHistory(RunHistory.DEFAULT_MAX_RUNS);
+        history.add(60, false);
+        for (int value = 1; value <= 40; value++) {
+            history.add(value, true);
+        }
+        history.add(58, false);
+        history.add(57, false);
+
+        assertTrue(history.isCurrent(43));
+        assertEquals("[1..40, 57, 58, 60]", history.toString());
+
+        history.add(56, false);
+        assertEquals("[1..40, 56..58, 60]", history.toString());
+    }
+
+    @Test
+    void keepsRunsNearestToSecret() {
+        RunHistory history = new RunHistory(2);
+        for (int value = 0; value < 10; value += 2) {
+            history.add(value, true);
+            history.add(100 - value, false);
+        }
+
+        assertEquals("[..., 6, 8, 92, 94, ...]", history.toString());
+    }
+
+    @Test
+    void outOfOrderValueRequiresRebuild() {
+        RunHistory history = new RunHistory(4);
+        history.add(10, true);
+        history.add(5, true);
+        assertFalse(history.isCurrent(2));
+
+        history.clear();
+        history.addSorted(5, true);
+        history.addSorted(10, true);
+        history.addSorted(11, false);
+        history.addSorted(12, false);
+        assertTrue(history.isCurrent(4));
+        assertEquals("[5, 10..12]", history.toString());
+    }
+
+    @Test
+    void changedLimitRequiresRebuildOfEnteredValues() {
+        RunHistory history = new RunHistory(4);
+        assertTrue(history.isCurrent(0));
+        history.add(10, true);
+
+        history.setMaxRuns(2);
+        assertTrue(history.isCurrent(0));
+        assertFalse(history.isCurrent(1));
+        assertEquals("[]", history.toString());
+    }
+}
@@ -0,0 +1,77 @@
+package ua.training.game.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    @Test
+    void firesAfterDelay() throws InterruptedException {
+        try (TimerWheel wheel = new TimerWheel(1, 64)) {
+            CountDownLatch fired = new CountDownLatch(1);
+            long start = System.nanoTime();
+            TimerWheel.Timeout timeout = wheel.schedule(fired::countDown, 100, TimeUnit.MILLISECONDS);
+
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+            assertTrue(timeout.isExpired());
+            assertFalse(timeout.cancel());
+        }
+    }
+
+    @Test
+    void firesAfterManyWheelRounds() throws InterruptedException {
+        try (TimerWheel wheel = new TimerWheel(1, 8)) {
+            CountDownLatch fired = new CountDownLatch(1);
+            long start = System.nanoTime();
+            wheel.schedule(fired::countDown, 50, TimeUnit.MILLISECONDS);
+
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    @Test
+    void skipsCancelledTimeouts() throws InterruptedException {
+        try (TimerWheel wheel = new TimerWheel(1, 64)) {
+            AtomicInteger fired = new AtomicInteger();
+            TimerWheel.Timeout cancelled = wheel.schedule(fired::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+            CountDownLatch later = new CountDownLatch(1);
+            wheel.schedule(later::countDown, 60, TimeUnit.MILLISECONDS);
+
+            assertTrue(cancelled.cancel());
+            assertFalse(cancelled.cancel());
+            assertTrue(later.await(5, TimeUnit.SECONDS));
+            assertEquals(0, fired.get());
+            assertTrue(cancelled.isCancelled());
+            assertEquals(0, wheel.getPendingTimeouts());
+        }
+    }
+
+    @Test
+    void handlesHundredThousandTimeouts() throws InterruptedException {
+        int count = 100_000;
+        try (TimerWheel wheel = new TimerWheel(1, 512)) {
+            CountDownLatch fired = new CountDownLatch(count / 2);
+            TimerWheel.Timeout[] timeouts = new TimerWheel.Timeout[count];
+            for (int i = 0; i < count; i++) {
+                timeouts[i] = wheel.schedule(fired::countDown, 100 + i % 1000, TimeUnit.MILLISECONDS);
+            }
+            for (int i = 1; i < count; i += 2) {
+                timeouts[i].cancel();
+            }
+
+            assertEquals(count / 2, wheel.getPendingTimeouts());
+            assertTrue(fired.await(10, TimeUnit.SECONDS));
+            assertEquals(0, wheel.getPendingTimeouts());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i % 2 == 0, timeouts[i].isExpired());
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ua.training.game.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnOutputBufferTest {
+
+    @Test
+    void appendsPaddingOfRequestedWidth() {
+        TurnOutputBuffer buffer = new TurnOutputBuffer(StandardCharsets.UTF_8);
+
+        buffer.appendPadding(3).append("a")
+                .appendPadding(0).appendPadding(-2).append("b")
+                .appendPadding(10).append("c")
+                .appendPadding(2).append("d").newLine();
+
+        assertEquals("   ab          c  d" + System.lineSeparator(), decode(buffer.encode()));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void writesTurnBySingleWrite() throws IOException {
+        TurnOutputBuffer buffer = new TurnOutputBuffer(StandardCharsets.UTF_8);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            buffer.appendPadding(i % 7).append("turn ").append(Integer.toString(i));
+            expected.append("       ", 0, i % 7).append("turn ").append(i);
+        }
+        int[] writes = new int[2];
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] bytes, int offset, int length) {
+                writes[0]++;
+                super.write(bytes, offset, length);
+            }
+
+            @Override
+            public void flush() {
+                writes[1]++;
+            }
+        };
+
+        buffer.writeTo(out);
+        buffer.writeTo(out);
+
+        assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(1, writes[0]);
+        assertEquals(2, writes[1]);
+    }
+
+    private static String decode(ByteBuffer bytes) {
+        return new String(bytes.array(), bytes.arrayOffset(), bytes.position(), StandardCharsets.UTF_8);
+    }
+}